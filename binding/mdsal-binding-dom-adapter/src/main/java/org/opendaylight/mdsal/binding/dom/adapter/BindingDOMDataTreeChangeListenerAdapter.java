@@ -24,6 +24,7 @@ import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeCandidate;
  */
 final class BindingDOMDataTreeChangeListenerAdapter<T extends DataObject> implements DOMDataTreeChangeListener {
 
+    private final ChildCodecCache codecCache = new ChildCodecCache();
     private final BindingToNormalizedNodeCodec codec;
     private final DataTreeChangeListener<T> listener;
     private final LogicalDatastoreType store;
@@ -38,7 +39,7 @@ final class BindingDOMDataTreeChangeListenerAdapter<T extends DataObject> implem
     @Override
     public void onDataTreeChanged(final Collection<DataTreeCandidate> domChanges) {
         final Collection<DataTreeModification<T>> bindingChanges
-                = LazyDataTreeModification.from(codec, domChanges, store);
+                = LazyDataTreeModification.from(codec, domChanges, store, codecCache);
         listener.onDataTreeChanged(bindingChanges);
     }
 }
@@ -21,6 +21,7 @@ import org.opendaylight.yangtools.yang.model.api.SchemaContext;
 
 class BindingDOMDataTreeCommitCohortAdapter<T extends DataObject> implements DOMDataTreeCommitCohort {
 
+    private final ChildCodecCache codecCache = new ChildCodecCache();
     private final BindingToNormalizedNodeCodec codec;
     private final DataTreeCommitCohort<T> cohort;
 
@@ -32,7 +33,7 @@ class BindingDOMDataTreeCommitCohortAdapter<T extends DataObject> implements DOM
     @Override
     public CheckedFuture<PostCanCommitStep, DataValidationFailedException> canCommit(Object txId,
             DOMDataTreeCandidate candidate, SchemaContext ctx) {
-        DataTreeModification<T> modification = LazyDataTreeModification.create(codec, candidate);
+        DataTreeModification<T> modification = LazyDataTreeModification.create(codec, candidate, codecCache);
         return cohort.canCommit(txId, modification);
     }
 }
@@ -29,6 +29,7 @@ import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeCandidate;
 
 public class BindingDOMDataTreeListenerAdapter implements DOMDataTreeListener {
 
+    private final ChildCodecCache codecCache = new ChildCodecCache();
     private final DataTreeListener delegate;
     private final BindingToNormalizedNodeCodec codec;
     private final LogicalDatastoreType store;
@@ -65,7 +66,7 @@ public class BindingDOMDataTreeListenerAdapter implements DOMDataTreeListener {
 
     @SuppressWarnings("unchecked")
     private Collection<DataTreeModification<?>> toBinding(final Collection<DataTreeCandidate> domChanges) {
-        return Collection.class.cast(LazyDataTreeModification.from(codec, domChanges, store));
+        return Collection.class.cast(LazyDataTreeModification.from(codec, domChanges, store, codecCache));
     }
 
     @Override
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2018 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.binding.dom.adapter;
+
+import com.google.common.base.Preconditions;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.opendaylight.mdsal.binding.dom.codec.api.BindingCodecTree;
+import org.opendaylight.mdsal.binding.dom.codec.api.BindingCodecTreeNode;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeWithValue;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeCandidateNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Cache of child codecs used by {@link LazyDataObjectModification}. For each parent codec it holds a map of DOM
+ * {@link PathArgument}s of its children to their {@link BindingStructuralType} and codec, so that walking the children
+ * of a modification does not need to consult the codec tree, nor go through exceptions for DOM nodes which do not have
+ * a binding representation, more than once for each child.
+ *
+ *<p>
+ * Each listener has its own instance. Cached codecs refer to the codec tree which they belong to, hence the cache
+ * is tied to a particular codec tree and is cleared whenever {@link #setCodecTree(BindingCodecTree)} reports
+ * a different one, so that previous codec trees are not retained. Path arguments which identify individual list
+ * entries or leaf-list entries are never cached, as there is potentially an unbounded number of them.
+ */
+final class ChildCodecCache {
+    /**
+     * Resolved child of a parent codec.
+     */
+    static final class ChildCodec {
+        final BindingStructuralType type;
+        final BindingCodecTreeNode<?> codec;
+
+        ChildCodec(final BindingStructuralType type, final BindingCodecTreeNode<?> codec) {
+            this.type = Preconditions.checkNotNull(type);
+            this.codec = codec;
+        }
+    }
+
+    private static final Logger LOG = LoggerFactory.getLogger(ChildCodecCache.class);
+    private static final ChildCodec UNRESOLVED = new ChildCodec(BindingStructuralType.NOT_ADDRESSABLE, null);
+
+    /**
+     * Children of parent codecs belonging to a single codec tree.
+     */
+    private static final class Generation {
+        final ConcurrentMap<BindingCodecTreeNode<?>, ConcurrentMap<PathArgument, ChildCodec>> children =
+                new ConcurrentHashMap<>();
+        final BindingCodecTree codecTree;
+
+        Generation(final BindingCodecTree codecTree) {
+            this.codecTree = codecTree;
+        }
+    }
+
+    private volatile Generation current = new Generation(null);
+
+    /**
+     * Report the codec tree which parent codecs passed to {@link #resolve(BindingCodecTreeNode, DataTreeCandidateNode)}
+     * belong to. If it differs from the previously-reported one, all cached children are dropped.
+     *
+     * @param codecTree Current codec tree
+     */
+    void setCodecTree(final BindingCodecTree codecTree) {
+        if (current.codecTree != codecTree) {
+            current = new Generation(codecTree);
+        }
+    }
+
+    /**
+     * Resolve the codec of a DOM child node.
+     *
+     * @param parentCodec Codec of the parent node
+     * @param domChildNode DOM child node
+     * @return Resolved child, or null if the node does not have a binding representation
+     */
+    ChildCodec resolve(final BindingCodecTreeNode<?> parentCodec, final DataTreeCandidateNode domChildNode) {
+        final PathArgument arg = domChildNode.getIdentifier();
+        if (arg instanceof NodeIdentifierWithPredicates || arg instanceof NodeWithValue) {
+            return unmask(resolveChild(parentCodec, domChildNode));
+        }
+
+        final ConcurrentMap<PathArgument, ChildCodec> map = current.children.computeIfAbsent(parentCodec,
+            key -> new ConcurrentHashMap<>());
+        ChildCodec ret = map.get(arg);
+        if (ret == null) {
+            ret = resolveChild(parentCodec, domChildNode);
+
+            // Without data the structural type is guessed from the identifier, do not cache the guess
+            if (domChildNode.getDataAfter().isPresent() || domChildNode.getDataBefore().isPresent()) {
+                final ChildCodec prev = map.putIfAbsent(arg, ret);
+                if (prev != null) {
+                    ret = prev;
+                }
+            }
+        }
+        return unmask(ret);
+    }
+
+    private static ChildCodec unmask(final ChildCodec child) {
+        return child == UNRESOLVED ? null : child;
+    }
+
+    private static ChildCodec resolveChild(final BindingCodecTreeNode<?> parentCodec,
+            final DataTreeCandidateNode domChildNode) {
+        final BindingStructuralType type = BindingStructuralType.from(domChildNode);
+        if (type == BindingStructuralType.NOT_ADDRESSABLE) {
+            return UNRESOLVED;
+        }
+
+        /*
+         *  Even if type is UNKNOWN, from perspective of BindingStructuralType
+         *  we try to load codec for it. We will use that type to further specify
+         *  debug log.
+         */
+        try {
+            return new ChildCodec(type, parentCodec.yangPathArgumentChild(domChildNode.getIdentifier()));
+        } catch (final IllegalArgumentException e) {
+            if (type == BindingStructuralType.UNKNOWN) {
+                LOG.debug("Unable to deserialize unknown DOM node {}", domChildNode, e);
+            } else {
+                LOG.debug("Binding representation for DOM node {} was not found", domChildNode, e);
+            }
+            return UNRESOLVED;
+        }
+    }
+}
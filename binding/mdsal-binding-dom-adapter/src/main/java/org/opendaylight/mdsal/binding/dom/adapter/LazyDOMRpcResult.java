@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2018 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.binding.dom.adapter;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import java.util.Collection;
+import java.util.Collections;
+import org.opendaylight.mdsal.binding.dom.codec.impl.BindingNormalizedNodeCodecRegistry;
+import org.opendaylight.mdsal.dom.api.DOMRpcResult;
+import org.opendaylight.yangtools.yang.binding.DataContainer;
+import org.opendaylight.yangtools.yang.common.RpcError;
+import org.opendaylight.yangtools.yang.common.RpcResult;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+
+/**
+ * {@link DOMRpcResult} backed by the {@link RpcResult} of a binding RPC implementation. The result is serialized only
+ * when {@link #getResult()} is invoked, so a binding consumer receiving this object, even through futures wrapped by
+ * DOM-level interceptors, can use the binding result directly.
+ */
+final class LazyDOMRpcResult implements DOMRpcResult {
+    private final BindingNormalizedNodeCodecRegistry codec;
+    private final RpcResult<?> bindingResult;
+
+    private volatile NormalizedNode<?, ?> domResult;
+
+    LazyDOMRpcResult(final BindingNormalizedNodeCodecRegistry codec, final RpcResult<?> bindingResult) {
+        this.codec = Preconditions.checkNotNull(codec);
+        this.bindingResult = Preconditions.checkNotNull(bindingResult);
+    }
+
+    RpcResult<?> bindingResult() {
+        return bindingResult;
+    }
+
+    @Override
+    public Collection<RpcError> getErrors() {
+        return bindingResult.isSuccessful() ? Collections.emptyList() : bindingResult.getErrors();
+    }
+
+    @Override
+    public NormalizedNode<?, ?> getResult() {
+        NormalizedNode<?, ?> ret = domResult;
+        if (ret == null && bindingResult.isSuccessful()) {
+            final Object data = bindingResult.getResult();
+            if (data instanceof DataContainer) {
+                // Serialization is idempotent, concurrent callers may end up doing it more than once
+                ret = codec.toNormalizedNodeRpcData((DataContainer) data);
+                domResult = ret;
+            }
+        }
+        return ret;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("binding", bindingResult).toString();
+    }
+}
@@ -18,10 +18,7 @@ import java.util.concurrent.TimeoutException;
 import org.opendaylight.mdsal.binding.dom.codec.impl.BindingNormalizedNodeCodecRegistry;
 import org.opendaylight.mdsal.dom.api.DOMRpcException;
 import org.opendaylight.mdsal.dom.api.DOMRpcResult;
-import org.opendaylight.mdsal.dom.spi.DefaultDOMRpcResult;
-import org.opendaylight.yangtools.yang.binding.DataContainer;
 import org.opendaylight.yangtools.yang.common.RpcResult;
-import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 
 final class LazyDOMRpcResultFuture implements CheckedFuture<DOMRpcResult, DOMRpcException> {
 
@@ -109,15 +106,8 @@ final class LazyDOMRpcResultFuture implements CheckedFuture<DOMRpcResult, DOMRpc
     }
 
     private DOMRpcResult transform(final RpcResult<?> input) {
-        if (input.isSuccessful()) {
-            final Object inputData = input.getResult();
-            if (inputData instanceof DataContainer) {
-                return new DefaultDOMRpcResult(codec.toNormalizedNodeRpcData((DataContainer) inputData));
-            } else {
-                return new DefaultDOMRpcResult((NormalizedNode<?, ?>) null);
-            }
-        }
-        return new DefaultDOMRpcResult(input.getErrors());
+        // Serialization is deferred until a DOM consumer actually asks for the result
+        return new LazyDOMRpcResult(codec, input);
     }
 
 }
@@ -9,12 +9,16 @@ package org.opendaylight.mdsal.binding.dom.adapter;
 
 import com.google.common.base.MoreObjects;
 import com.google.common.base.Preconditions;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import org.opendaylight.mdsal.binding.api.DataObjectModification;
+import org.opendaylight.mdsal.binding.dom.adapter.ChildCodecCache.ChildCodec;
 import org.opendaylight.mdsal.binding.dom.codec.api.BindingCodecTreeNode;
 import org.opendaylight.yangtools.yang.binding.Augmentation;
 import org.opendaylight.yangtools.yang.binding.ChildOf;
@@ -27,8 +31,6 @@ import org.opendaylight.yangtools.yang.binding.InstanceIdentifier.PathArgument;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeCandidateNode;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 /**
  * Lazily translated {@link DataObjectModification} based on {@link DataTreeCandidateNode}.
@@ -42,84 +44,60 @@ import org.slf4j.LoggerFactory;
  */
 final class LazyDataObjectModification<T extends DataObject> implements DataObjectModification<T> {
 
-    private static final Logger LOG = LoggerFactory.getLogger(LazyDataObjectModification.class);
-
     private final BindingCodecTreeNode<T> codec;
     private final DataTreeCandidateNode domData;
+    private final ChildCodecCache codecCache;
     private final PathArgument identifier;
 
-    private volatile Collection<DataObjectModification<? extends DataObject>> childNodesCache;
+    private volatile ModifiedChildren childNodesCache;
     private volatile ModificationType modificationType;
 
-    private LazyDataObjectModification(final BindingCodecTreeNode<T> codec, final DataTreeCandidateNode domData) {
+    private LazyDataObjectModification(final BindingCodecTreeNode<T> codec, final DataTreeCandidateNode domData,
+            final ChildCodecCache codecCache) {
         this.codec = Preconditions.checkNotNull(codec);
         this.domData = Preconditions.checkNotNull(domData);
+        this.codecCache = Preconditions.checkNotNull(codecCache);
         this.identifier = codec.deserializePathArgument(domData.getIdentifier());
     }
 
     static <T extends DataObject> DataObjectModification<T> create(final BindingCodecTreeNode<T> codec,
             final DataTreeCandidateNode domData) {
-        return new LazyDataObjectModification<>(codec,domData);
+        return create(codec, domData, new ChildCodecCache());
     }
 
-    private static Collection<DataObjectModification<? extends DataObject>> from(final BindingCodecTreeNode<?>
-            parentCodec, final Collection<DataTreeCandidateNode> domChildNodes) {
-        final List<DataObjectModification<? extends DataObject>> result = new ArrayList<>(domChildNodes.size());
-        populateList(result, parentCodec, domChildNodes);
-        return result;
+    static <T extends DataObject> DataObjectModification<T> create(final BindingCodecTreeNode<T> codec,
+            final DataTreeCandidateNode domData, final ChildCodecCache codecCache) {
+        return new LazyDataObjectModification<>(codec, domData, codecCache);
     }
 
-    private static void populateList(final List<DataObjectModification<? extends DataObject>> result,
+    private static void populateIndex(final List<BindingCodecTreeNode<?>> codecs,
+            final List<DataTreeCandidateNode> nodes, final ChildCodecCache codecCache,
             final BindingCodecTreeNode<?> parentCodec, final Collection<DataTreeCandidateNode> domChildNodes) {
         for (final DataTreeCandidateNode domChildNode : domChildNodes) {
-            final BindingStructuralType type = BindingStructuralType.from(domChildNode);
-            if (type != BindingStructuralType.NOT_ADDRESSABLE) {
-                /*
-                 *  Even if type is UNKNOWN, from perspective of BindingStructuralType
-                 *  we try to load codec for it. We will use that type to further specify
-                 *  debug log.
-                 */
-                try {
-                    final BindingCodecTreeNode<?> childCodec =
-                            parentCodec.yangPathArgumentChild(domChildNode.getIdentifier());
-                    populateList(result,type, childCodec, domChildNode);
-                } catch (final IllegalArgumentException e) {
-                    if (type == BindingStructuralType.UNKNOWN) {
-                        LOG.debug("Unable to deserialize unknown DOM node {}",domChildNode,e);
-                    } else {
-                        LOG.debug("Binding representation for DOM node {} was not found",domChildNode,e);
-                    }
+            final ChildCodec child = codecCache.resolve(parentCodec, domChildNode);
+            if (child != null) {
+                switch (child.type) {
+                    case INVISIBLE_LIST:
+                        // We use parent codec intentionally.
+                        for (final DataTreeCandidateNode entry : domChildNode.getChildNodes()) {
+                            codecs.add(child.codec);
+                            nodes.add(entry);
+                        }
+                        break;
+                    case INVISIBLE_CONTAINER:
+                        populateIndex(codecs, nodes, codecCache, child.codec, domChildNode.getChildNodes());
+                        break;
+                    case UNKNOWN:
+                    case VISIBLE_CONTAINER:
+                        codecs.add(child.codec);
+                        nodes.add(domChildNode);
+                        break;
+                    default:
                 }
             }
         }
     }
 
-    private static void populateList(final List<DataObjectModification<? extends DataObject>> result,
-            final BindingStructuralType type, final BindingCodecTreeNode<?> childCodec,
-            final DataTreeCandidateNode domChildNode) {
-        switch (type) {
-            case INVISIBLE_LIST:
-                // We use parent codec intentionally.
-                populateListWithSingleCodec(result, childCodec, domChildNode.getChildNodes());
-                break;
-            case INVISIBLE_CONTAINER:
-                populateList(result, childCodec, domChildNode.getChildNodes());
-                break;
-            case UNKNOWN:
-            case VISIBLE_CONTAINER:
-                result.add(create(childCodec, domChildNode));
-                break;
-            default:
-        }
-    }
-
-    private static void populateListWithSingleCodec(final List<DataObjectModification<? extends DataObject>> result,
-            final BindingCodecTreeNode<?> codec, final Collection<DataTreeCandidateNode> childNodes) {
-        for (final DataTreeCandidateNode child : childNodes) {
-            result.add(create(codec, child));
-        }
-    }
-
     @Override
     public T getDataBefore() {
         return deserialize(domData.getDataBefore());
@@ -198,9 +176,16 @@ final class LazyDataObjectModification<T extends DataObject> implements DataObje
 
     @Override
     public Collection<DataObjectModification<? extends DataObject>> getModifiedChildren() {
-        Collection<DataObjectModification<? extends DataObject>> local = childNodesCache;
+        return modifiedChildren();
+    }
+
+    private ModifiedChildren modifiedChildren() {
+        ModifiedChildren local = childNodesCache;
         if (local == null) {
-            childNodesCache = local = from(codec, domData.getChildNodes());
+            final List<BindingCodecTreeNode<?>> codecs = new ArrayList<>();
+            final List<DataTreeCandidateNode> nodes = new ArrayList<>();
+            populateIndex(codecs, nodes, codecCache, codec, domData.getChildNodes());
+            childNodesCache = local = new ModifiedChildren(codecs, nodes, codecCache);
         }
         return local;
     }
@@ -209,10 +194,12 @@ final class LazyDataObjectModification<T extends DataObject> implements DataObje
     @Override
     public <C extends ChildOf<? super T>> Collection<DataObjectModification<C>>
             getModifiedChildren(final Class<C> childType) {
-        List<DataObjectModification<C>> children = new ArrayList<>();
-        for (DataObjectModification<? extends DataObject> potential : getModifiedChildren()) {
-            if (childType.isAssignableFrom(potential.getDataType())) {
-                children.add((DataObjectModification<C>) potential);
+        // Codecs are checked first, so that children of other types are never materialized
+        final ModifiedChildren all = modifiedChildren();
+        final List<DataObjectModification<C>> children = new ArrayList<>();
+        for (int i = 0; i < all.size(); ++i) {
+            if (childType.isAssignableFrom(all.codecAt(i).getBindingClass())) {
+                children.add((DataObjectModification<C>) all.get(i));
             }
         }
         return children;
@@ -228,7 +215,7 @@ final class LazyDataObjectModification<T extends DataObject> implements DataObje
             current = current.getModifiedChild(toEnter.next());
         }
         if (current != null) {
-            return create(childCodec, current);
+            return create(childCodec, current, codecCache);
         }
         return null;
     }
@@ -264,4 +251,45 @@ final class LazyDataObjectModification<T extends DataObject> implements DataObje
         }
         return null;
     }
+
+    /**
+     * Indexed view of the child modifications of a node. The index of child codecs and DOM nodes is built eagerly,
+     * but individual modifications are instantiated only when they are accessed.
+     */
+    private static final class ModifiedChildren extends AbstractList<DataObjectModification<? extends DataObject>>
+            implements RandomAccess {
+        private final BindingCodecTreeNode<?>[] codecs;
+        private final DataTreeCandidateNode[] nodes;
+        private final AtomicReferenceArray<DataObjectModification<? extends DataObject>> children;
+        private final ChildCodecCache codecCache;
+
+        ModifiedChildren(final List<BindingCodecTreeNode<?>> codecs, final List<DataTreeCandidateNode> nodes,
+                final ChildCodecCache codecCache) {
+            this.codecs = codecs.toArray(new BindingCodecTreeNode<?>[0]);
+            this.nodes = nodes.toArray(new DataTreeCandidateNode[0]);
+            this.children = new AtomicReferenceArray<>(this.nodes.length);
+            this.codecCache = codecCache;
+        }
+
+        BindingCodecTreeNode<?> codecAt(final int index) {
+            return codecs[index];
+        }
+
+        @Override
+        public DataObjectModification<? extends DataObject> get(final int index) {
+            final DataObjectModification<? extends DataObject> existing = children.get(index);
+            if (existing != null) {
+                return existing;
+            }
+
+            final DataObjectModification<? extends DataObject> created = create(codecs[index], nodes[index],
+                codecCache);
+            return children.compareAndSet(index, null, created) ? created : children.get(index);
+        }
+
+        @Override
+        public int size() {
+            return nodes.length;
+        }
+    }
 }
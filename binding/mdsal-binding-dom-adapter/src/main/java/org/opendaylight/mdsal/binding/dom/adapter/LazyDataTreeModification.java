@@ -44,32 +44,41 @@ class LazyDataTreeModification<T extends DataObject> implements DataTreeModifica
 
     @SuppressWarnings({"unchecked", "rawtypes"})
     static <T extends DataObject> DataTreeModification<T> create(final BindingToNormalizedNodeCodec codec,
-            final DataTreeCandidate domChange, final LogicalDatastoreType datastoreType) {
+            final DataTreeCandidate domChange, final LogicalDatastoreType datastoreType,
+            final ChildCodecCache codecCache) {
+        codecCache.setCodecTree(codec.getCodecRegistry().getCodecContext());
         final Entry<InstanceIdentifier<?>, BindingCodecTreeNode<?>> codecCtx =
                 codec.getSubtreeCodec(domChange.getRootPath());
         final DataTreeIdentifier<?> path = DataTreeIdentifier.create(datastoreType, codecCtx.getKey());
         final DataObjectModification<?> modification =
-                LazyDataObjectModification.create(codecCtx.getValue(), domChange.getRootNode());
+                LazyDataObjectModification.create(codecCtx.getValue(), domChange.getRootNode(), codecCache);
         return new LazyDataTreeModification(path, modification);
     }
 
-    @SuppressWarnings({"unchecked", "rawtypes"})
     static <T extends DataObject> DataTreeModification<T> create(final BindingToNormalizedNodeCodec codec,
             final DOMDataTreeCandidate candidate) {
+        return create(codec, candidate, new ChildCodecCache());
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static <T extends DataObject> DataTreeModification<T> create(final BindingToNormalizedNodeCodec codec,
+            final DOMDataTreeCandidate candidate, final ChildCodecCache codecCache) {
+        codecCache.setCodecTree(codec.getCodecRegistry().getCodecContext());
         final Entry<InstanceIdentifier<?>, BindingCodecTreeNode<?>> codecCtx =
                 codec.getSubtreeCodec(candidate.getRootPath().getRootIdentifier());
         final DataTreeIdentifier<?> path =
                 DataTreeIdentifier.create(candidate.getRootPath().getDatastoreType(), codecCtx.getKey());
         final DataObjectModification<?> modification =
-                LazyDataObjectModification.create(codecCtx.getValue(), candidate.getRootNode());
+                LazyDataObjectModification.create(codecCtx.getValue(), candidate.getRootNode(), codecCache);
         return new LazyDataTreeModification(path, modification);
     }
 
     static <T extends DataObject> Collection<DataTreeModification<T>> from(final BindingToNormalizedNodeCodec codec,
-            final Collection<DataTreeCandidate> domChanges, final LogicalDatastoreType datastoreType) {
+            final Collection<DataTreeCandidate> domChanges, final LogicalDatastoreType datastoreType,
+            final ChildCodecCache codecCache) {
         final List<DataTreeModification<T>> result = new ArrayList<>(domChanges.size());
         for (final DataTreeCandidate domChange : domChanges) {
-            result.add(LazyDataTreeModification.create(codec, domChange, datastoreType));
+            result.add(LazyDataTreeModification.create(codec, domChange, datastoreType, codecCache));
         }
         return result;
     }
@@ -11,6 +11,7 @@ package org.opendaylight.mdsal.binding.dom.adapter;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
+import javax.annotation.concurrent.GuardedBy;
 import org.opendaylight.mdsal.binding.dom.codec.impl.BindingNormalizedNodeCodecRegistry;
 import org.opendaylight.yangtools.yang.binding.DataObject;
 import org.opendaylight.yangtools.yang.common.QName;
@@ -30,8 +31,9 @@ class LazySerializedContainerNode implements ContainerNode {
     private final NodeIdentifier identifier;
     private final DataObject bindingData;
 
+    @GuardedBy("this")
     private BindingNormalizedNodeCodecRegistry registry;
-    private ContainerNode domData;
+    private volatile ContainerNode domData;
 
     private LazySerializedContainerNode(final QName identifier, final DataObject binding,
             final BindingNormalizedNodeCodecRegistry registry) {
@@ -51,17 +53,30 @@ class LazySerializedContainerNode implements ContainerNode {
         return new WithContextRef(rpcName.getLastComponent(), data, contextRef, codec);
     }
 
+    static NormalizedNode<?, ?> withoutContextRef(final SchemaPath rpcName, final DataObject data,
+            final NodeIdentifier contextName, final BindingNormalizedNodeCodecRegistry codec) {
+        return new WithoutContextRef(rpcName.getLastComponent(), data, contextName, codec);
+    }
+
     @Override
     public Map<QName, String> getAttributes() {
         return delegate().getAttributes();
     }
 
     private ContainerNode delegate() {
-        if (domData == null) {
-            domData = registry.toNormalizedNodeRpcData(bindingData);
+        final ContainerNode local = domData;
+        return local != null ? local : serialize();
+    }
+
+    // Materialization may be requested by multiple DOM consumers concurrently
+    private synchronized ContainerNode serialize() {
+        ContainerNode local = domData;
+        if (local == null) {
+            local = registry.toNormalizedNodeRpcData(bindingData);
+            domData = local;
             registry = null;
         }
-        return domData;
+        return local;
     }
 
     @Override
@@ -120,4 +135,24 @@ class LazySerializedContainerNode implements ContainerNode {
         }
     }
 
+    /**
+     * Lazy Serialized Node of a routed RPC input, which is known not to hold routing information.
+     */
+    private static final class WithoutContextRef extends LazySerializedContainerNode {
+
+        private final NodeIdentifier contextName;
+
+        WithoutContextRef(final QName identifier, final DataObject binding, final NodeIdentifier contextName,
+                final BindingNormalizedNodeCodecRegistry registry) {
+            super(identifier, binding, registry);
+            this.contextName = contextName;
+        }
+
+        @Override
+        public Optional<DataContainerChild<? extends PathArgument, ?>> getChild(final PathArgument child) {
+            // Do not run full serialization just to find out the routing field is not there
+            return contextName.equals(child) ? Optional.empty() : super.getChild(child);
+        }
+    }
+
 }
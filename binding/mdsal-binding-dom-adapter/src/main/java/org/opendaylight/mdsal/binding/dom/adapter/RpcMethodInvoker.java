@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2018 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.binding.dom.adapter;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.common.RpcResult;
+
+/**
+ * Invoker of a single method of an {@link org.opendaylight.yangtools.yang.binding.RpcService}. Each method of
+ * a {@link RpcServiceProxy} subclass calls its invoker directly.
+ *
+ *<p>
+ * This class is public only because generated proxies live in the RPC service interface's class loader. It cannot
+ * be subclassed outside of this package.
+ */
+public abstract class RpcMethodInvoker {
+    RpcMethodInvoker() {
+        // Hidden on purpose
+    }
+
+    /**
+     * Invoke an RPC which takes an input.
+     *
+     * @param input RPC input
+     * @return Future completing with the result of the RPC
+     */
+    public abstract ListenableFuture<RpcResult<?>> invoke(DataObject input);
+
+    /**
+     * Invoke an RPC which does not take an input.
+     *
+     * @return Future completing with the result of the RPC
+     */
+    public abstract ListenableFuture<RpcResult<?>> invokeEmpty();
+}
@@ -15,10 +15,12 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map.Entry;
 import org.opendaylight.mdsal.binding.dom.codec.impl.BindingNormalizedNodeCodecRegistry;
 import org.opendaylight.mdsal.dom.api.DOMRpcResult;
@@ -43,8 +45,17 @@ import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
 import org.opendaylight.yangtools.yang.model.api.RpcDefinition;
 import org.opendaylight.yangtools.yang.model.api.SchemaPath;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+/**
+ * Adapter exposing a {@link DOMRpcService} as a binding {@link RpcService}. The service is implemented by a class
+ * generated by {@link RpcServiceProxyGenerator}, which calls the {@link RpcMethodInvoker} of each RPC directly. If
+ * such a class cannot be generated, we fall back to a {@link Proxy}, which dispatches through this class.
+ */
 class RpcServiceAdapter implements InvocationHandler {
+    private static final Logger LOG = LoggerFactory.getLogger(RpcServiceAdapter.class);
+
     private final ImmutableMap<Method, RpcInvocationStrategy> rpcNames;
     private final Class<? extends RpcService> type;
     private final BindingToNormalizedNodeCodec codec;
@@ -61,7 +72,25 @@ class RpcServiceAdapter implements InvocationHandler {
             rpcBuilder.put(rpc.getKey(), createStrategy(rpc.getKey(), rpc.getValue()));
         }
         rpcNames = rpcBuilder.build();
-        proxy = (RpcService) Proxy.newProxyInstance(type.getClassLoader(), new Class[] {type}, this);
+        proxy = createProxy();
+    }
+
+    private RpcService createProxy() {
+        try {
+            final List<Method> methods = RpcServiceProxyGenerator.rpcMethods(type);
+            final RpcMethodInvoker[] invokers = new RpcMethodInvoker[methods.size()];
+            for (int i = 0; i < invokers.length; ++i) {
+                final Method method = methods.get(i);
+                final RpcInvocationStrategy strategy = rpcNames.get(method);
+                invokers[i] = strategy != null ? strategy : new UnsupportedMethodInvoker(method);
+            }
+
+            return (RpcService) RpcServiceProxyGenerator.generatedClass(type)
+                    .getConstructor(Object.class, RpcMethodInvoker[].class).newInstance(this, invokers);
+        } catch (IllegalArgumentException | UncheckedExecutionException | ReflectiveOperationException e) {
+            LOG.debug("Failed to generate adapter for {}, falling back to a dynamic proxy", type, e);
+            return (RpcService) Proxy.newProxyInstance(type.getClassLoader(), new Class[] {type}, this);
+        }
     }
 
     private RpcInvocationStrategy createStrategy(final Method method, final RpcDefinition schema) {
@@ -114,7 +143,7 @@ class RpcServiceAdapter implements InvocationHandler {
     private Object callObjectMethod(final Object self, final Method method, final Object[] args) {
         switch (method.getName()) {
             case "toString":
-                return type.getName() + "$Adapter{delegate=" + delegate.toString() + "}";
+                return toString();
             case "hashCode":
                 return System.identityHashCode(self);
             case "equals":
@@ -124,7 +153,30 @@ class RpcServiceAdapter implements InvocationHandler {
         }
     }
 
-    private abstract class RpcInvocationStrategy {
+    @Override
+    public String toString() {
+        return type.getName() + "$Adapter{delegate=" + delegate.toString() + "}";
+    }
+
+    private static final class UnsupportedMethodInvoker extends RpcMethodInvoker {
+        private final Method method;
+
+        UnsupportedMethodInvoker(final Method method) {
+            this.method = Preconditions.checkNotNull(method);
+        }
+
+        @Override
+        public ListenableFuture<RpcResult<?>> invoke(final DataObject input) {
+            throw new UnsupportedOperationException("Method " + method + " is unsupported.");
+        }
+
+        @Override
+        public ListenableFuture<RpcResult<?>> invokeEmpty() {
+            throw new UnsupportedOperationException("Method " + method + " is unsupported.");
+        }
+    }
+
+    private abstract class RpcInvocationStrategy extends RpcMethodInvoker {
 
         private final SchemaPath rpcName;
 
@@ -132,13 +184,15 @@ class RpcServiceAdapter implements InvocationHandler {
             rpcName = path;
         }
 
-        final ListenableFuture<RpcResult<?>> invoke(final DataObject input) {
+        @Override
+        public final ListenableFuture<RpcResult<?>> invoke(final DataObject input) {
             return invoke0(rpcName, serialize(input));
         }
 
         abstract NormalizedNode<?, ?> serialize(DataObject input);
 
-        final ListenableFuture<RpcResult<?>> invokeEmpty() {
+        @Override
+        public final ListenableFuture<RpcResult<?>> invokeEmpty() {
             return invoke0(rpcName, null);
         }
 
@@ -158,6 +212,11 @@ class RpcServiceAdapter implements InvocationHandler {
         private ListenableFuture<RpcResult<?>> transformFuture(final SchemaPath rpc,
                 final ListenableFuture<DOMRpcResult> domFuture, final BindingNormalizedNodeCodecRegistry resultCodec) {
             return Futures.transform(domFuture, (Function<DOMRpcResult, RpcResult<?>>) input -> {
+                // The result came from a binding implementation, possibly wrapped by DOM-level interceptors
+                if (input instanceof LazyDOMRpcResult) {
+                    return ((LazyDOMRpcResult) input).bindingResult();
+                }
+
                 final NormalizedNode<?, ?> domData = input.getResult();
                 final DataObject bindingResult;
                 if (domData != null) {
@@ -215,7 +274,10 @@ class RpcServiceAdapter implements InvocationHandler {
                 return LazySerializedContainerNode.withContextRef(getRpcName(), input, contextRef,
                         codec.getCodecRegistry());
             }
-            return LazySerializedContainerNode.create(getRpcName(), input, codec.getCodecRegistry());
+
+            // Routing looks for the context reference, make sure it does not trigger serialization
+            return LazySerializedContainerNode.withoutContextRef(getRpcName(), input, contextName,
+                codec.getCodecRegistry());
         }
 
     }
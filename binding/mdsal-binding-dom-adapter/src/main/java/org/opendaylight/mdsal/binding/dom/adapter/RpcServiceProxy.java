@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2018 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.binding.dom.adapter;
+
+import com.google.common.base.Preconditions;
+import org.opendaylight.yangtools.yang.binding.RpcService;
+
+/**
+ * Base class for generated implementations of {@link RpcService} interfaces handed out by
+ * {@link BindingDOMRpcServiceAdapter}. Concrete subclasses are generated by {@link RpcServiceProxyGenerator}: they
+ * hold a {@link RpcMethodInvoker} field for each RPC method and each method calls its invoker directly. Object
+ * methods have identity semantics, except {@link #toString()}, which is provided by the owning adapter.
+ *
+ *<p>
+ * This class is public only because generated subclasses live in the RPC service interface's class loader.
+ */
+public abstract class RpcServiceProxy implements RpcService {
+    private final Object adapter;
+
+    protected RpcServiceProxy(final Object adapter) {
+        this.adapter = Preconditions.checkNotNull(adapter);
+    }
+
+    @Override
+    public final String toString() {
+        return adapter.toString();
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2018 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.binding.dom.adapter;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.ListenableFuture;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import javassist.CannotCompileException;
+import javassist.ClassPool;
+import javassist.CtClass;
+import javassist.CtConstructor;
+import javassist.CtField;
+import javassist.CtNewMethod;
+import javassist.Modifier;
+import javassist.NotFoundException;
+import org.opendaylight.mdsal.binding.generator.util.JavassistUtils;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.binding.RpcService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Generator of {@link RpcServiceProxy} subclasses implementing a particular {@link RpcService} interface. Each RPC
+ * method of the interface, as reported by {@link #rpcMethods(Class)}, is backed by a {@link RpcMethodInvoker} field,
+ * which is populated by the constructor, so invoking an RPC does not involve any lookups nor argument arrays.
+ * Generated classes are cached for as long as they are in use.
+ *
+ *<p>
+ * Generated classes are defined in a dedicated class loader, which delegates to the RPC service interface's class
+ * loader and falls back to this bundle's class loader, so that they can see both the interface and
+ * {@link RpcServiceProxy}.
+ */
+final class RpcServiceProxyGenerator {
+    private static final class ProxyClassLoader extends ClassLoader {
+        private static final ClassLoader ADAPTER_LOADER = RpcServiceProxy.class.getClassLoader();
+
+        ProxyClassLoader(final ClassLoader parent) {
+            super(parent);
+        }
+
+        @Override
+        protected Class<?> findClass(final String name) throws ClassNotFoundException {
+            return ADAPTER_LOADER.loadClass(name);
+        }
+    }
+
+    private static final Logger LOG = LoggerFactory.getLogger(RpcServiceProxyGenerator.class);
+    private static final String GENERATED_SUFFIX = "$$$RpcServiceProxy";
+    private static final String INVOKER_PREFIX = "invoker";
+    private static final JavassistUtils JAVASSIST = JavassistUtils.forClassPool(ClassPool.getDefault());
+
+    private static final LoadingCache<Class<?>, Class<?>> GENERATED_CLASSES = CacheBuilder.newBuilder()
+            .weakKeys().weakValues().build(new CacheLoader<Class<?>, Class<?>>() {
+                @Override
+                public Class<?> load(final Class<?> key) throws CannotCompileException, NotFoundException {
+                    return generate(key);
+                }
+            });
+
+    private RpcServiceProxyGenerator() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Return the {@link RpcServiceProxy} subclass implementing an RPC service interface, generating it if needed.
+     *
+     * @param type RPC service interface
+     * @return Generated class, with a public constructor taking an {@link Object} providing
+     *         {@link Object#toString()} and an array of {@link RpcMethodInvoker}s, indexed as
+     *         {@link #rpcMethods(Class)}
+     * @throws com.google.common.util.concurrent.UncheckedExecutionException if the class cannot be generated
+     */
+    static Class<?> generatedClass(final Class<? extends RpcService> type) {
+        return GENERATED_CLASSES.getUnchecked(type);
+    }
+
+    /**
+     * Return the methods of an RPC service interface, which are backed by invokers in the generated class. The index
+     * of a method in the returned list is the index of its invoker in the array passed to the generated constructor.
+     * Methods are sorted by their name. Abstract methods which do not look like RPCs are implemented by throwing
+     * an {@link UnsupportedOperationException}.
+     *
+     * @param type RPC service interface
+     * @return List of RPC methods
+     * @throws IllegalArgumentException if the interface cannot be implemented by a generated class
+     */
+    static List<Method> rpcMethods(final Class<?> type) {
+        final Map<String, Method> byName = new TreeMap<>();
+        for (final Method method : type.getMethods()) {
+            if (isRpcMethod(method)) {
+                final Method existing = byName.putIfAbsent(method.getName(), method);
+                checkArgument(existing == null || Arrays.equals(existing.getParameterTypes(),
+                    method.getParameterTypes()), "Methods %s and %s are overloaded", existing, method);
+            }
+        }
+        return ImmutableList.copyOf(byName.values());
+    }
+
+    private static boolean isRpcMethod(final Method method) {
+        if (!isAbstract(method) || !method.getReturnType().isAssignableFrom(ListenableFuture.class)) {
+            return false;
+        }
+
+        final Class<?>[] params = method.getParameterTypes();
+        switch (params.length) {
+            case 0:
+                return true;
+            case 1:
+                return DataObject.class.isAssignableFrom(params[0]);
+            default:
+                return false;
+        }
+    }
+
+    private static boolean isAbstract(final Method method) {
+        if (!Modifier.isAbstract(method.getModifiers())) {
+            return false;
+        }
+
+        final Method base;
+        try {
+            base = RpcServiceProxy.class.getMethod(method.getName(), method.getParameterTypes());
+        } catch (NoSuchMethodException e) {
+            return true;
+        }
+        return Modifier.isAbstract(base.getModifiers());
+    }
+
+    private static Class<?> generate(final Class<?> type) throws CannotCompileException, NotFoundException {
+        checkArgument(type.isInterface() && Modifier.isPublic(type.getModifiers()), "%s is not a public interface",
+            type);
+        final List<Method> rpcs = rpcMethods(type);
+        final String className = type.getName() + GENERATED_SUFFIX;
+        LOG.debug("Generating {} with RPCs {}", className, rpcs);
+
+        JAVASSIST.appendClassLoaderIfMissing(type.getClassLoader());
+        JAVASSIST.appendClassLoaderIfMissing(RpcServiceProxy.class.getClassLoader());
+        final CtClass product = JAVASSIST.instantiatePrototype(RpcServiceProxyPrototype.class.getName(), className,
+            cls -> {
+                cls.addInterface(JAVASSIST.asCtClass(type));
+
+                final CtClass invokerClass = JAVASSIST.asCtClass(RpcMethodInvoker.class);
+                final StringBuilder init = new StringBuilder("{\n");
+                for (int i = 0; i < rpcs.size(); ++i) {
+                    final CtField field = new CtField(invokerClass, INVOKER_PREFIX + i, cls);
+                    field.setModifiers(Modifier.PRIVATE);
+                    cls.addField(field);
+                    init.append("this.").append(INVOKER_PREFIX).append(i).append(" = $2[").append(i).append("];\n");
+                }
+                init.append('}');
+
+                // The prototype is not visible, so we need to take care of that
+                final CtConstructor ctor = cls.getDeclaredConstructors()[0];
+                ctor.insertAfter(init.toString());
+                ctor.setModifiers(Modifier.PUBLIC);
+
+                // Implement all abstract methods, RPCs are dispatched to their invoker
+                final Set<String> implemented = new HashSet<>();
+                for (final Method method : type.getMethods()) {
+                    if (!isAbstract(method) || !implemented.add(method.getName()
+                            + Arrays.toString(method.getParameterTypes()) + method.getReturnType().getName())) {
+                        continue;
+                    }
+
+                    final int index = indexOf(rpcs, method);
+                    final String body;
+                    if (index == -1) {
+                        body = "{ throw new UnsupportedOperationException(\"Method " + method.getName()
+                                + " is unsupported.\"); }";
+                    } else if (method.getParameterCount() == 0) {
+                        body = "{ return (" + method.getReturnType().getName() + ") this." + INVOKER_PREFIX + index
+                                + ".invokeEmpty(); }";
+                    } else {
+                        body = "{ return (" + method.getReturnType().getName() + ") this." + INVOKER_PREFIX + index
+                                + ".invoke($1); }";
+                    }
+
+                    final Class<?>[] paramTypes = method.getParameterTypes();
+                    final CtClass[] params = new CtClass[paramTypes.length];
+                    for (int i = 0; i < paramTypes.length; ++i) {
+                        params[i] = JAVASSIST.asCtClass(paramTypes[i]);
+                    }
+                    cls.addMethod(CtNewMethod.make(Modifier.PUBLIC | Modifier.FINAL,
+                        JAVASSIST.asCtClass(method.getReturnType()), method.getName(), params, new CtClass[0], body,
+                        cls));
+                }
+
+                cls.setModifiers(Modifier.setPublic(cls.getModifiers()));
+            });
+
+        try {
+            return product.toClass(new ProxyClassLoader(type.getClassLoader()), type.getProtectionDomain());
+        } finally {
+            // Generated classes may be unloaded and regenerated, make sure the pool does not hold on to them
+            product.detach();
+        }
+    }
+
+    private static int indexOf(final List<Method> rpcs, final Method method) {
+        for (int i = 0; i < rpcs.size(); ++i) {
+            final Method rpc = rpcs.get(i);
+            if (rpc.getName().equals(method.getName())
+                    && Arrays.equals(rpc.getParameterTypes(), method.getParameterTypes())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,19 @@
+/*
+ * Copyright (c) 2018 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.binding.dom.adapter;
+
+/**
+ * Prototype of a {@link RpcServiceProxy}. This is a template class, which the {@link RpcServiceProxyGenerator} uses
+ * to instantiate {@link RpcServiceProxy}s on a per-type basis. During that time, invoker fields are added and
+ * populated by the constructor, and the RPC service interface's methods are added.
+ */
+final class RpcServiceProxyPrototype extends RpcServiceProxy {
+    RpcServiceProxyPrototype(final Object adapter, final RpcMethodInvoker[] invokers) {
+        super(adapter);
+    }
+}
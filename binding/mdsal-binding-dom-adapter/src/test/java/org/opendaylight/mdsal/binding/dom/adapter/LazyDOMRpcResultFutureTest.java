@@ -9,6 +9,7 @@ package org.opendaylight.mdsal.binding.dom.adapter;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyBoolean;
@@ -16,7 +17,9 @@ import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import com.google.common.collect.ImmutableList;
@@ -26,8 +29,10 @@ import java.util.concurrent.TimeUnit;
 import org.junit.Before;
 import org.junit.Test;
 import org.opendaylight.mdsal.binding.dom.codec.impl.BindingNormalizedNodeCodecRegistry;
+import org.opendaylight.mdsal.dom.api.DOMRpcResult;
 import org.opendaylight.yangtools.yang.binding.DataContainer;
 import org.opendaylight.yangtools.yang.common.RpcResult;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
 
 public class LazyDOMRpcResultFutureTest {
 
@@ -81,6 +86,21 @@ public class LazyDOMRpcResultFutureTest {
         assertNotNull(lazyDOMRpcResultFuture.get());
     }
 
+    @Test
+    public void lazyResultTest() throws Exception {
+        doReturn(mock(ContainerNode.class)).when(codec).toNormalizedNodeRpcData(any());
+        final DOMRpcResult result = lazyDOMRpcResultFuture.get();
+        assertTrue(result instanceof LazyDOMRpcResult);
+        assertSame(domRpcResult, ((LazyDOMRpcResult) result).bindingResult());
+        verify(codec, never()).toNormalizedNodeRpcData(any());
+
+        // Serialized once, on demand
+        result.getResult();
+        result.getResult();
+        verify(codec, times(1)).toNormalizedNodeRpcData(any());
+        assertTrue(result.getErrors().isEmpty());
+    }
+
     @SuppressWarnings({"checkstyle:IllegalThrows", "checkstyle:IllegalCatch", "checkstyle:avoidHidingCauseException"})
     @Test(expected = InterruptedException.class)
     public void checkedGetWithException() throws Throwable {
@@ -15,6 +15,8 @@ import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 import com.google.common.collect.ImmutableBiMap;
 import com.google.common.util.concurrent.MoreExecutors;
@@ -72,5 +74,12 @@ public class LazySerializedContainerNodeTest {
         assertEquals(rpcName.getLastComponent(), lazySerializedContainerNode.getIdentifier().getNodeType());
         assertNull(lazySerializedContainerNode.getAttributeValue(null));
         assertEquals(dataObject, lazySerializedContainerNode.bindingData());
+
+        // Looking for an absent routing field must not trigger serialization
+        final BindingNormalizedNodeCodecRegistry unusedCodec = mock(BindingNormalizedNodeCodecRegistry.class);
+        final NormalizedNode<?, ?> withoutContextRef = LazySerializedContainerNode.withoutContextRef(rpcName,
+            dataObject, leafNode.getIdentifier(), unusedCodec);
+        assertFalse(((ContainerNode) withoutContextRef).getChild(leafNode.getIdentifier()).isPresent());
+        verify(unusedCodec, never()).toNormalizedNodeRpcData(any());
     }
 }
\ No newline at end of file
@@ -10,10 +10,12 @@ package org.opendaylight.mdsal.binding.dom.adapter;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import com.google.common.util.concurrent.MoreExecutors;
 import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
 import org.junit.Test;
 import org.opendaylight.mdsal.binding.dom.adapter.test.util.BindingBrokerTestFactory;
 import org.opendaylight.mdsal.binding.dom.adapter.test.util.BindingTestContext;
@@ -61,6 +63,30 @@ public class RpcServiceAdapterTest {
                 new Object[]{ new RoutedSimpleRouteInputBuilder().build() }));
     }
 
+    @Test
+    public void generatedProxy() {
+        final BindingBrokerTestFactory bindingBrokerTestFactory = new BindingBrokerTestFactory();
+        bindingBrokerTestFactory.setExecutor(MoreExecutors.newDirectExecutorService());
+        final BindingTestContext bindingTestContext = bindingBrokerTestFactory.getTestContext();
+        bindingTestContext.start();
+
+        final RpcServiceAdapter rpcServiceAdapter = new RpcServiceAdapter(OpendaylightTestRoutedRpcService.class,
+                bindingTestContext.getCodec(), bindingTestContext.getDomRpcInvoker());
+        final RpcService proxy = rpcServiceAdapter.getProxy();
+        assertTrue(proxy instanceof RpcServiceProxy);
+        assertFalse(Proxy.isProxyClass(proxy.getClass()));
+        assertEquals(rpcServiceAdapter.toString(), proxy.toString());
+
+        // Generated classes are shared by all adapters of a particular type
+        final RpcService other = new RpcServiceAdapter(OpendaylightTestRoutedRpcService.class,
+            bindingTestContext.getCodec(), bindingTestContext.getDomRpcInvoker()).getProxy();
+        assertSame(proxy.getClass(), other.getClass());
+        assertFalse(proxy.equals(other));
+
+        assertNotNull(((OpendaylightTestRoutedRpcService) proxy).routedSimpleRoute(
+            new RoutedSimpleRouteInputBuilder().build()));
+    }
+
     private interface TestRpcService extends RpcService {
 
         String toString();
@@ -11,6 +11,7 @@ package org.opendaylight.mdsal.binding.dom.adapter.test;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.opendaylight.mdsal.binding.test.model.util.ListsBindingUtils.TOP_BAR_KEY;
 import static org.opendaylight.mdsal.binding.test.model.util.ListsBindingUtils.TOP_FOO_KEY;
 import static org.opendaylight.mdsal.binding.test.model.util.ListsBindingUtils.USES_ONE_KEY;
@@ -118,6 +119,25 @@ public class DataTreeChangeListenerTest extends AbstractDataBrokerTest {
         dataBrokerImpl.registerDataTreeChangeListener(TOP_IDENTIFIER, listener).close();
     }
 
+    @Test
+    public void testModifiedChildren() throws Exception {
+        final EventCapturingListener<Top> listener = new EventCapturingListener<>();
+        dataBrokerImpl.registerDataTreeChangeListener(TOP_IDENTIFIER, listener);
+
+        createAndVerifyTop(listener);
+
+        putTx(BAR_PATH, BAR_DATA).commit().get();
+        final DataObjectModification<Top> afterBarPutEvent
+                = Iterables.getOnlyElement(listener.nextEvent()).getRootNode();
+        final DataObjectModification<? extends DataObject> barMod =
+                Iterables.getOnlyElement(afterBarPutEvent.getModifiedChildren());
+        verifyModification(barMod, BAR_ARGUMENT, ModificationType.WRITE);
+
+        // Typed lookup returns the same modification, untyped view is stable
+        assertSame(barMod, Iterables.getOnlyElement(afterBarPutEvent.getModifiedChildren(TopLevelList.class)));
+        assertSame(barMod, Iterables.getOnlyElement(afterBarPutEvent.getModifiedChildren()));
+    }
+
     @Test
     public void testWildcardedListListener() throws Exception {
         final EventCapturingListener<TopLevelList> listener = new EventCapturingListener<>();
@@ -8,6 +8,9 @@
 package org.opendaylight.mdsal.binding.dom.codec.api;
 
 import com.google.common.annotations.Beta;
+import com.google.common.cache.CacheStats;
+import com.google.common.collect.ImmutableMap;
+import java.util.Map;
 import org.opendaylight.yangtools.yang.binding.DataObject;
 
 /**
@@ -25,4 +28,13 @@ public interface BindingNormalizedNodeCachingCodec<T extends DataObject> extends
      */
     @Override
     void close();
+
+    /**
+     * Return statistics of caches maintained by this codec, indexed by the binding class of cached objects.
+     *
+     * @return Cache statistics, empty if this codec does not maintain any caches
+     */
+    default Map<Class<? extends DataObject>, CacheStats> getCacheStats() {
+        return ImmutableMap.of();
+    }
 }
@@ -10,7 +10,11 @@ package org.opendaylight.mdsal.binding.dom.codec.impl;
 import com.google.common.base.Preconditions;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
+import com.google.common.cache.CacheStats;
 import com.google.common.cache.LoadingCache;
+import com.google.common.collect.ImmutableMap;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 import org.opendaylight.yangtools.yang.binding.DataObject;
 
@@ -43,4 +47,17 @@ abstract class AbstractBindingNormalizedNodeCacheHolder {
     boolean isCached(final Class<?> type) {
         return cachedValues.contains(type);
     }
+
+    /**
+     * Return statistics of caches held by this holder, indexed by the binding class of cached objects.
+     *
+     * @return Cache statistics
+     */
+    public Map<Class<? extends DataObject>, CacheStats> getCacheStats() {
+        final Map<Class<? extends DataObject>, CacheStats> ret = new HashMap<>();
+        for (final BindingNormalizedNodeCache cache : caches.asMap().values()) {
+            ret.merge(cache.subtreeRoot.getBindingClass(), cache.stats(), CacheStats::plus);
+        }
+        return ImmutableMap.copyOf(ret);
+    }
 }
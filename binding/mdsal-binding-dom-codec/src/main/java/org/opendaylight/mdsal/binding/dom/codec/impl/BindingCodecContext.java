@@ -8,18 +8,31 @@
 package org.opendaylight.mdsal.binding.dom.codec.impl;
 
 import com.google.common.base.Preconditions;
+import com.google.common.cache.CacheStats;
+import com.google.common.collect.HashMultimap;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.SetMultimap;
+import com.google.common.collect.Sets;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.AbstractMap.SimpleEntry;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opendaylight.mdsal.binding.dom.codec.api.BindingCodecTree;
@@ -42,6 +55,8 @@ import org.opendaylight.yangtools.yang.binding.InstanceIdentifier.IdentifiableIt
 import org.opendaylight.yangtools.yang.binding.Notification;
 import org.opendaylight.yangtools.yang.binding.util.BindingReflections;
 import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.QNameModule;
+import org.opendaylight.yangtools.yang.common.Revision;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
 import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter;
@@ -51,6 +66,9 @@ import org.opendaylight.yangtools.yang.model.api.DocumentedNode.WithStatus;
 import org.opendaylight.yangtools.yang.model.api.LeafListSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.LeafSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.ListSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.Module;
+import org.opendaylight.yangtools.yang.model.api.ModuleImport;
+import org.opendaylight.yangtools.yang.model.api.SchemaContext;
 import org.opendaylight.yangtools.yang.model.api.SchemaNode;
 import org.opendaylight.yangtools.yang.model.api.SchemaPath;
 import org.opendaylight.yangtools.yang.model.api.TypeDefinition;
@@ -67,11 +85,12 @@ import org.slf4j.LoggerFactory;
 final class BindingCodecContext implements CodecContextFactory, BindingCodecTree, Immutable {
     private static final Logger LOG = LoggerFactory.getLogger(BindingCodecContext.class);
 
-    private final Codec<YangInstanceIdentifier, InstanceIdentifier<?>> instanceIdentifierCodec;
-    private final Codec<QName, Class<?>> identityCodec;
+    private final InstanceIdentifierCodec instanceIdentifierCodec;
+    private final IdentityCodec identityCodec;
     private final BindingNormalizedNodeCodecRegistry registry;
     private final BindingRuntimeContext context;
     private final SchemaRootCodecContext<?> root;
+    private final ConcurrentMap<Class<?>, IdentifiableItemCodec> keyCodecs = new ConcurrentHashMap<>();
 
     BindingCodecContext(final BindingRuntimeContext context, final BindingNormalizedNodeCodecRegistry registry) {
         this.context = Preconditions.checkNotNull(context, "Binding Runtime Context is required.");
@@ -81,6 +100,41 @@ final class BindingCodecContext implements CodecContextFactory, BindingCodecTree
         this.registry = Preconditions.checkNotNull(registry);
     }
 
+    /**
+     * Create a codec tree, which reuses the top-level subtrees and list key codecs already instantiated by a previous
+     * codec tree, as long as they belong to modules which are not affected by the differences between the two schema
+     * contexts. Reused subtrees are rebound to this codec tree, hence they do not retain the previous one and any
+     * list key codecs they instantiate from now on are maintained by this codec tree.
+     *
+     * <p>Leaf codecs of reused subtrees refer to the identity and instance identifier codecs of the previous codec
+     * tree. These are taken over and rebound as well, hence the previous codec tree translates identities and
+     * instance identifiers using this codec tree from now on.
+     *
+     * @param context Binding runtime context
+     * @param registry Owning registry
+     * @param previous Previous codec tree
+     */
+    BindingCodecContext(final BindingRuntimeContext context, final BindingNormalizedNodeCodecRegistry registry,
+            final BindingCodecContext previous) {
+        this.context = Preconditions.checkNotNull(context, "Binding Runtime Context is required.");
+        this.root = SchemaRootCodecContext.create(this);
+        this.identityCodec = previous.identityCodec;
+        this.instanceIdentifierCodec = previous.instanceIdentifierCodec;
+        this.registry = Preconditions.checkNotNull(registry);
+
+        final Set<QNameModule> affected = affectedModules(previous.context.getSchemaContext(),
+            context.getSchemaContext());
+        final int reused = root.reuse(previous.root, type -> isReusable(type, affected));
+        previous.keyCodecs.forEach((type, codec) -> {
+            if (isReusable(type, affected)) {
+                keyCodecs.put(type, codec);
+            }
+        });
+        identityCodec.rebind(context);
+        instanceIdentifierCodec.rebind(this);
+        LOG.debug("Reused {} top-level subtrees, modules {} are affected by the update", reused, affected);
+    }
+
     @Override
     public BindingRuntimeContext getRuntimeContext() {
         return context;
@@ -327,6 +381,12 @@ final class BindingCodecContext implements CodecContextFactory, BindingCodecTree
     @Override
     public Codec<NodeIdentifierWithPredicates, IdentifiableItem<?, ?>> getPathArgumentCodec(final Class<?> listClz,
             final ListSchemaNode schema) {
+        // Codecs may have been taken over from a previous codec tree
+        final IdentifiableItemCodec existing = keyCodecs.get(listClz);
+        if (existing != null) {
+            return existing;
+        }
+
         final Class<? extends Identifier<?>> identifier = ClassLoaderUtils.findFirstGenericArgument(listClz,
                 Identifiable.class);
         final Map<QName, ValueContext> valueCtx = new HashMap<>();
@@ -334,7 +394,121 @@ final class BindingCodecContext implements CodecContextFactory, BindingCodecTree
             final QName name = leaf.getDomPathArgument().getNodeType();
             valueCtx.put(name, new ValueContext(identifier, leaf));
         }
-        return new IdentifiableItemCodec(schema, identifier, listClz, valueCtx);
+
+        final IdentifiableItemCodec codec = new IdentifiableItemCodec(schema, identifier, listClz, valueCtx);
+        final IdentifiableItemCodec raced = keyCodecs.putIfAbsent(listClz, codec);
+        return raced != null ? raced : codec;
+    }
+
+    /**
+     * Return key cache statistics of all keyed lists whose codecs have been instantiated.
+     *
+     * @return Key cache statistics, indexed by list class
+     */
+    Map<Class<?>, CacheStats> getKeyCacheStats() {
+        final Map<Class<?>, CacheStats> ret = new HashMap<>();
+        keyCodecs.forEach((type, codec) -> ret.put(type, codec.stats()));
+        return ret;
+    }
+
+    private boolean isReusable(final Class<?> type, final Set<QNameModule> affected) {
+        final QName qname = BindingReflections.findQName(type);
+        if (qname == null || affected.contains(qname.getModule())) {
+            return false;
+        }
+
+        // The class needs to be still visible, otherwise the subtree would be bound to a stale class
+        try {
+            return context.getStrategy().loadClass(type.getName()) == type;
+        } catch (ClassNotFoundException e) {
+            LOG.debug("Class {} is no longer available", type, e);
+            return false;
+        }
+    }
+
+    /**
+     * Determine the modules whose binding representation may be affected by transition from one schema context to
+     * another. These are the modules which have been added or removed, or whose set of submodules changed, modules
+     * which import them, directly or indirectly, and modules imported by any of those, as they may be targets
+     * of augmentations.
+     *
+     * @param previous Previous schema context
+     * @param current Current schema context
+     * @return Affected modules
+     */
+    static Set<QNameModule> affectedModules(final SchemaContext previous, final SchemaContext current) {
+        final Map<QNameModule, Module> before = modulesOf(previous);
+        final Map<QNameModule, Module> after = modulesOf(current);
+
+        final Set<QNameModule> changed = new HashSet<>(Sets.symmetricDifference(before.keySet(), after.keySet()));
+        for (final Entry<QNameModule, Module> entry : after.entrySet()) {
+            final Module prev = before.get(entry.getKey());
+            if (prev != null && !submodulesOf(prev).equals(submodulesOf(entry.getValue()))) {
+                changed.add(entry.getKey());
+            }
+        }
+        if (changed.isEmpty()) {
+            return ImmutableSet.of();
+        }
+
+        // Index importers of each module, in both contexts
+        final SetMultimap<QNameModule, QNameModule> importers = HashMultimap.create();
+        final SetMultimap<QNameModule, QNameModule> imports = HashMultimap.create();
+        indexImports(previous, before.values(), imports, importers);
+        indexImports(current, after.values(), imports, importers);
+
+        final Set<QNameModule> dependent = new HashSet<>();
+        final Deque<QNameModule> queue = new ArrayDeque<>(changed);
+        while (!queue.isEmpty()) {
+            final QNameModule module = queue.remove();
+            if (dependent.add(module)) {
+                queue.addAll(importers.get(module));
+            }
+        }
+
+        final Set<QNameModule> ret = new HashSet<>(dependent);
+        for (final QNameModule module : dependent) {
+            ret.addAll(imports.get(module));
+        }
+        return ret;
+    }
+
+    private static Map<QNameModule, Module> modulesOf(final SchemaContext schemaContext) {
+        final Map<QNameModule, Module> ret = new HashMap<>();
+        for (final Module module : schemaContext.getModules()) {
+            ret.put(module.getQNameModule(), module);
+        }
+        return ret;
+    }
+
+    private static Map<String, Optional<Revision>> submodulesOf(final Module module) {
+        final Map<String, Optional<Revision>> ret = new HashMap<>();
+        for (final Module submodule : module.getSubmodules()) {
+            ret.put(submodule.getName(), submodule.getRevision());
+        }
+        return ret;
+    }
+
+    private static void indexImports(final SchemaContext schemaContext, final Collection<Module> modules,
+            final SetMultimap<QNameModule, QNameModule> imports,
+            final SetMultimap<QNameModule, QNameModule> importers) {
+        for (final Module module : modules) {
+            final List<ModuleImport> moduleImports = new ArrayList<>(module.getImports());
+            for (final Module submodule : module.getSubmodules()) {
+                moduleImports.addAll(submodule.getImports());
+            }
+
+            for (final ModuleImport moduleImport : moduleImports) {
+                final Optional<Module> imported = moduleImport.getRevision().isPresent()
+                        ? schemaContext.findModule(moduleImport.getModuleName(), moduleImport.getRevision())
+                                : schemaContext.findModules(moduleImport.getModuleName()).stream().findFirst();
+                if (imported.isPresent()) {
+                    final QNameModule target = imported.get().getQNameModule();
+                    imports.put(module.getQNameModule(), target);
+                    importers.put(target, module.getQNameModule());
+                }
+            }
+        }
     }
 
     @SuppressWarnings("unchecked")
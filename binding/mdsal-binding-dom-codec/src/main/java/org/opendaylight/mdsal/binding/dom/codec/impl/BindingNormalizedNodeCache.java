@@ -10,14 +10,29 @@ package org.opendaylight.mdsal.binding.dom.codec.impl;
 import com.google.common.base.Preconditions;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
+import com.google.common.cache.CacheStats;
 import com.google.common.cache.LoadingCache;
 import org.opendaylight.yangtools.yang.binding.DataObject;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNodeContainer;
 
+/**
+ * Cache of NormalizedNode representations of binding objects of a particular type. The cache is bounded by the total
+ * number of NormalizedNodes it holds, which can be tuned via the {@value #MAXIMUM_WEIGHT_PROP} system property.
+ *
+ *<p>
+ * Binding objects which have been created by the codec from a NormalizedNode are not cached, as their backing
+ * NormalizedNode is returned directly.
+ */
 final class BindingNormalizedNodeCache extends CacheLoader<DataObject, NormalizedNode<?, ?>> {
+    static final String MAXIMUM_WEIGHT_PROP = "org.opendaylight.mdsal.binding.dom.codec.cache.maximumWeight";
+
+    private static final long DEFAULT_MAXIMUM_WEIGHT = 65536;
+    private static final long MAXIMUM_WEIGHT = Long.getLong(MAXIMUM_WEIGHT_PROP, DEFAULT_MAXIMUM_WEIGHT);
 
-    private final LoadingCache<DataObject, NormalizedNode<?, ?>> cache = CacheBuilder.newBuilder().weakValues()
-            .build(this);
+    private final LoadingCache<DataObject, NormalizedNode<?, ?>> cache = CacheBuilder.newBuilder()
+            .maximumWeight(MAXIMUM_WEIGHT).weigher(BindingNormalizedNodeCache::weigh).recordStats().build(this);
+    private final DataObjectCodecContext<?, ?> dataObjectRoot;
     final DataContainerCodecContext<?, ?> subtreeRoot;
     final AbstractBindingNormalizedNodeCacheHolder cacheHolder;
 
@@ -25,6 +40,8 @@ final class BindingNormalizedNodeCache extends CacheLoader<DataObject, Normalize
             final DataContainerCodecContext<?, ?> subtreeRoot) {
         this.cacheHolder = Preconditions.checkNotNull(cacheHolder, "cacheHolder");
         this.subtreeRoot = Preconditions.checkNotNull(subtreeRoot, "subtreeRoot");
+        this.dataObjectRoot = subtreeRoot instanceof DataObjectCodecContext ? (DataObjectCodecContext<?, ?>) subtreeRoot
+                : null;
     }
 
     @Override
@@ -40,6 +57,36 @@ final class BindingNormalizedNodeCache extends CacheLoader<DataObject, Normalize
      * @return NormalizedNode representation of binding object.
      */
     NormalizedNode<?, ?> get(final DataObject obj) {
+        if (dataObjectRoot != null) {
+            final NormalizedNode<?, ?> backing = dataObjectRoot.getBackingNode(obj);
+            if (backing != null) {
+                return backing;
+            }
+        }
         return cache.getUnchecked(obj);
     }
+
+    /**
+     * Return statistics of this cache. Objects whose backing NormalizedNode has been returned directly are not
+     * accounted for.
+     *
+     * @return Cache statistics
+     */
+    CacheStats stats() {
+        return cache.stats();
+    }
+
+    private static int weigh(final DataObject key, final NormalizedNode<?, ?> value) {
+        return (int) Math.min(Integer.MAX_VALUE, countNodes(value));
+    }
+
+    private static long countNodes(final NormalizedNode<?, ?> node) {
+        long ret = 1;
+        if (node instanceof NormalizedNodeContainer) {
+            for (final Object child : ((NormalizedNodeContainer<?, ?, ?>) node).getValue()) {
+                ret += countNodes((NormalizedNode<?, ?>) child);
+            }
+        }
+        return ret;
+    }
 }
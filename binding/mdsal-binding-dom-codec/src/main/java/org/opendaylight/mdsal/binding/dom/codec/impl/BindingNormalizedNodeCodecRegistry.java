@@ -10,13 +10,17 @@ package org.opendaylight.mdsal.binding.dom.codec.impl;
 import com.google.common.base.Function;
 import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
+import com.google.common.base.Stopwatch;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
+import com.google.common.cache.CacheStats;
 import com.google.common.cache.LoadingCache;
+import com.google.common.collect.ImmutableMap;
 import java.io.IOException;
 import java.util.AbstractMap.SimpleEntry;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 import org.opendaylight.mdsal.binding.dom.codec.api.BindingCodecTree;
 import org.opendaylight.mdsal.binding.dom.codec.api.BindingCodecTreeFactory;
@@ -76,9 +80,24 @@ public class BindingNormalizedNodeCodecRegistry implements DataObjectSerializerR
         return codecContext;
     }
 
+    /**
+     * Return statistics of the caches of list keys maintained by the current codec tree, indexed by list class. Only
+     * lists whose codec has been instantiated are reported.
+     *
+     * @return Key cache statistics
+     */
+    public Map<Class<?>, CacheStats> getKeyCacheStats() {
+        final BindingCodecContext local = codecContext;
+        return local == null ? ImmutableMap.of() : local.getKeyCacheStats();
+    }
+
     public void onBindingRuntimeContextUpdated(final BindingRuntimeContext context) {
-        codecContext = new BindingCodecContext(context, this);
+        final Stopwatch sw = Stopwatch.createStarted();
+        final BindingCodecContext previous = codecContext;
+        codecContext = previous == null ? new BindingCodecContext(context, this)
+                : new BindingCodecContext(context, this, previous);
         generator.onBindingRuntimeContextUpdated(context);
+        LOG.info("Binding codec tree updated in {}", sw);
     }
 
     @Override
@@ -94,22 +113,34 @@ public class BindingNormalizedNodeCodecRegistry implements DataObjectSerializerR
     @Override
     public <T extends DataObject> Entry<YangInstanceIdentifier, NormalizedNode<?,?>> toNormalizedNode(
             final InstanceIdentifier<T> path, final T data) {
+        final List<YangInstanceIdentifier.PathArgument> yangArgs = new ArrayList<>();
+        final DataContainerCodecContext<?, ?> codec = codecContext.getCodecContextNode(path, yangArgs);
+        final YangInstanceIdentifier yangPath = YangInstanceIdentifier.create(yangArgs);
+
+        // Objects which were read from DOM and are written back unmodified do not need to be serialized at all
+        if (codec instanceof DataObjectCodecContext && !yangArgs.isEmpty()) {
+            final NormalizedNode<?, ?> backing = ((DataObjectCodecContext<?, ?>) codec).getBackingNode(data);
+            if (backing != null && backing.getIdentifier().equals(yangArgs.get(yangArgs.size() - 1))) {
+                return new SimpleEntry<>(yangPath, backing);
+            }
+        }
+
         final NormalizedNodeResult result = new NormalizedNodeResult();
-        // We create DOM stream writer which produces normalized nodes
-        final NormalizedNodeStreamWriter domWriter = ImmutableNormalizedNodeStreamWriter.from(result);
+        // We create DOM stream writer which produces normalized nodes and allows splicing of existing ones
+        final NormalizedNodeWriterWithAddChild domWriter = new NormalizedNodeWriterWithAddChild(result);
 
-        // We create Binding Stream Writer which translates from Binding to Normalized Nodes
-        final Entry<YangInstanceIdentifier, BindingStreamEventWriter> writeCtx = codecContext.newWriter(path,
-            domWriter);
+        // We create Binding Stream Writer which translates from Binding to Normalized Nodes, reusing the backing
+        // nodes of any lazily-deserialized children
+        final BindingStreamEventWriter writer = new NormalizedNodeReusingSerializer(codec, domWriter);
 
         // We get serializer which reads binding data and uses Binding To Normalized Node writer to write result
         try {
-            getSerializer(path.getTargetType()).serialize(data, writeCtx.getValue());
+            getSerializer(path.getTargetType()).serialize(data, writer);
         } catch (final IOException e) {
             LOG.error("Unexpected failure while serializing path {} data {}", path, data, e);
             throw new IllegalStateException("Failed to create normalized node", e);
         }
-        return new SimpleEntry<>(writeCtx.getKey(),result.getResult());
+        return new SimpleEntry<>(yangPath, result.getResult());
     }
 
     @Override
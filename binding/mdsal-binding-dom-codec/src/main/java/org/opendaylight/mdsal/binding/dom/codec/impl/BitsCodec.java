@@ -8,19 +8,19 @@
 package org.opendaylight.mdsal.binding.dom.codec.impl;
 
 import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.ArrayList;
-import java.util.Collection;
-import java.util.LinkedHashMap;
+import java.util.BitSet;
+import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.Callable;
@@ -29,32 +29,60 @@ import org.opendaylight.yangtools.yang.binding.BindingMapping;
 import org.opendaylight.yangtools.yang.model.api.type.BitsTypeDefinition;
 import org.opendaylight.yangtools.yang.model.api.type.BitsTypeDefinition.Bit;
 
+/**
+ * Codec for bits types. Both directions work on a {@link BitSet} mask indexed by the position of a bit in the type
+ * definition. Each distinct mask maps to a single NormalizedNode value and a single binding object, which are
+ * retained in a bounded cache, so that codecs for types with few commonly-used combinations of bits, like feature
+ * flags, do not allocate on each invocation.
+ */
 final class BitsCodec extends ReflectionBasedCodec implements SchemaUnawareCodec {
     private static final MethodType CONSTRUCTOR_INVOKE_TYPE = MethodType.methodType(Object.class, Boolean[].class);
+    private static final MethodType GETTER_INVOKE_TYPE = MethodType.methodType(Boolean.class, Object.class);
+    private static final int CACHE_SIZE = 256;
 
     // Ordered by position
-    private final Map<String, Method> getters;
-    // Ordered by lexical name
-    private final Set<String> ctorArgs;
+    private final List<String> names;
+    private final List<MethodHandle> getters;
+    // Maps name to its index in names
+    private final Map<String, Integer> indices;
+    // Maps index in names to constructor argument index, which follows lexical ordering
+    private final int[] ctorIndices;
     private final MethodHandle ctor;
 
-    private BitsCodec(final Class<?> typeClass, final MethodHandle ctor, final Set<String> ctorArgs,
-            final Map<String, Method> getters) {
+    // Masks are never modified once they are used as keys
+    private final Cache<BitSet, Set<String>> domValues = CacheBuilder.newBuilder().maximumSize(CACHE_SIZE).build();
+    private final Cache<BitSet, Object> bindingValues = CacheBuilder.newBuilder().maximumSize(CACHE_SIZE).build();
+
+    private BitsCodec(final Class<?> typeClass, final MethodHandle ctor, final List<String> names,
+            final List<MethodHandle> getters) {
         super(typeClass);
         this.ctor = Preconditions.checkNotNull(ctor);
-        this.ctorArgs = ImmutableSet.copyOf(ctorArgs);
-        this.getters = ImmutableMap.copyOf(getters);
+        this.names = ImmutableList.copyOf(names);
+        this.getters = ImmutableList.copyOf(getters);
+
+        final ImmutableMap.Builder<String, Integer> ib = ImmutableMap.builder();
+        for (int i = 0; i < names.size(); ++i) {
+            ib.put(names.get(i), i);
+        }
+        indices = ib.build();
+
+        final List<String> ctorArgs = new ArrayList<>(new TreeSet<>(names));
+        ctorIndices = new int[names.size()];
+        for (int i = 0; i < ctorIndices.length; ++i) {
+            ctorIndices[i] = ctorArgs.indexOf(names.get(i));
+        }
     }
 
     static Callable<BitsCodec> loader(final Class<?> returnType, final BitsTypeDefinition rootType) {
         return () -> {
-            final Map<String, Method> getters = new LinkedHashMap<>();
-            final Set<String> ctorArgs = new TreeSet<>();
+            final List<String> names = new ArrayList<>();
+            final List<MethodHandle> getters = new ArrayList<>();
 
             for (Bit bit : rootType.getBits()) {
-                final Method valueGetter = returnType.getMethod("is" + BindingMapping.getClassName(bit.getName()));
-                ctorArgs.add(bit.getName());
-                getters.put(bit.getName(), valueGetter);
+                names.add(bit.getName());
+                getters.add(MethodHandles.publicLookup().unreflect(
+                    returnType.getMethod("is" + BindingMapping.getClassName(bit.getName())))
+                        .asType(GETTER_INVOKE_TYPE));
             }
             Constructor<?> constructor = null;
             for (Constructor<?> cst : returnType.getConstructors()) {
@@ -64,52 +92,77 @@ final class BitsCodec extends ReflectionBasedCodec implements SchemaUnawareCodec
             }
 
             final MethodHandle ctor = MethodHandles.publicLookup().unreflectConstructor(constructor)
-                    .asSpreader(Boolean[].class, ctorArgs.size()).asType(CONSTRUCTOR_INVOKE_TYPE);
-            return new BitsCodec(returnType, ctor, ctorArgs, getters);
+                    .asSpreader(Boolean[].class, names.size()).asType(CONSTRUCTOR_INVOKE_TYPE);
+            return new BitsCodec(returnType, ctor, names, getters);
         };
     }
 
     @Override
-    @SuppressWarnings("checkstyle:illegalCatch")
     public Object deserialize(final Object input) {
         Preconditions.checkArgument(input instanceof Set);
-        @SuppressWarnings("unchecked")
-        final Set<String> casted = (Set<String>) input;
-
-        /*
-         * We can do this walk based on field set sorted by name, since constructor arguments in Java Binding are
-         * sorted by name.
-         *
-         * This means we will construct correct array for construction of bits object.
-         */
-        final Boolean[] args = new Boolean[ctorArgs.size()];
-        int currentArg = 0;
-        for (String value : ctorArgs) {
-            args[currentArg++] = casted.contains(value);
+        final BitSet mask = new BitSet(names.size());
+        for (Object value : (Set<?>) input) {
+            final Integer index = indices.get(value);
+            if (index != null) {
+                mask.set(index);
+            }
         }
 
-        try {
-            return ctor.invokeExact(args);
-        } catch (Throwable e) {
-            throw new IllegalStateException("Failed to instantiate object for " + input, e);
+        Object ret = bindingValues.getIfPresent(mask);
+        if (ret == null) {
+            ret = toBindingValue(mask);
+            bindingValues.put(mask, ret);
         }
+        return ret;
     }
 
     @Override
+    @SuppressWarnings("checkstyle:illegalCatch")
     public Set<String> serialize(final Object input) {
-        final Collection<String> result = new ArrayList<>(getters.size());
-        for (Entry<String, Method> valueGet : getters.entrySet()) {
+        final BitSet mask = new BitSet(names.size());
+        for (int i = 0; i < getters.size(); ++i) {
             final Boolean value;
             try {
-                value = (Boolean) valueGet.getValue().invoke(input);
-            } catch (IllegalAccessException | InvocationTargetException e) {
-                throw new IllegalArgumentException("Failed to get bit " + valueGet.getKey(), e);
+                value = (Boolean) getters.get(i).invokeExact(input);
+            } catch (Throwable e) {
+                throw new IllegalArgumentException("Failed to get bit " + names.get(i), e);
             }
 
-            if (value) {
-                result.add(valueGet.getKey());
+            if (Boolean.TRUE.equals(value)) {
+                mask.set(i);
             }
         }
-        return result.size() == getters.size() ? getters.keySet() : ImmutableSet.copyOf(result);
+
+        Set<String> ret = domValues.getIfPresent(mask);
+        if (ret == null) {
+            ret = toDomValue(mask);
+            domValues.put(mask, ret);
+        }
+        return ret;
+    }
+
+    private Set<String> toDomValue(final BitSet mask) {
+        final ImmutableSet.Builder<String> builder = ImmutableSet.builder();
+        for (int i = mask.nextSetBit(0); i >= 0; i = mask.nextSetBit(i + 1)) {
+            builder.add(names.get(i));
+        }
+        return builder.build();
+    }
+
+    @SuppressWarnings("checkstyle:illegalCatch")
+    private Object toBindingValue(final BitSet mask) {
+        /*
+         * Constructor arguments in Java Binding are sorted by name, hence we need to translate bit positions.
+         */
+        final Boolean[] args = new Boolean[ctorIndices.length];
+        for (int i = 0; i < ctorIndices.length; ++i) {
+            args[ctorIndices[i]] = mask.get(i);
+        }
+
+        try {
+            return ctor.invokeExact(args);
+        } catch (Throwable e) {
+            throw new IllegalStateException("Failed to instantiate object for " + toDomValue(mask), e);
+        }
     }
 }
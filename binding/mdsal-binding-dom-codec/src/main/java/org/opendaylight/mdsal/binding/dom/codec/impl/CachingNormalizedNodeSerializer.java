@@ -52,7 +52,7 @@ final class CachingNormalizedNodeSerializer extends ForwardingBindingStreamEvent
     }
 
     /**
-     * Serializes input if it is cached, returns null otherwise.
+     * Serializes input if it is cached or backed by a Normalized Node, returns null otherwise.
      *
      * <p>
      * If input is cached it uses {@link NormalizedNodeWriterWithAddChild#addChild(NormalizedNode)}
@@ -72,7 +72,13 @@ final class CachingNormalizedNodeSerializer extends ForwardingBindingStreamEvent
             domWriter.addChild(domData);
             return domData;
         }
-        return null;
+
+        // Not cached, but it may still be backed by a NormalizedNode, which we can reuse as-is
+        final NormalizedNode<?, ?> backing = NormalizedNodeReusingSerializer.backingNode(delegate, input);
+        if (backing != null) {
+            domWriter.addChild(backing);
+        }
+        return backing;
     }
 
     /**
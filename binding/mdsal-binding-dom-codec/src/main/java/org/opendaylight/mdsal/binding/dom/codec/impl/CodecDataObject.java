@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2018 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.binding.dom.codec.impl;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.MoreObjects.ToStringHelper;
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import org.opendaylight.mdsal.binding.dom.codec.util.AugmentationReader;
+import org.opendaylight.yangtools.yang.binding.Augmentable;
+import org.opendaylight.yangtools.yang.binding.Augmentation;
+import org.opendaylight.yangtools.yang.binding.AugmentationHolder;
+import org.opendaylight.yangtools.yang.binding.DataContainer;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.binding.util.BindingReflections;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNodeContainer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Base class for lazily-deserialized binding objects. Concrete subclasses are generated by
+ * {@link CodecDataObjectGenerator} for each binding interface, each of them holding a plain field for every property
+ * and implementing the corresponding getter as a straight-line access to that field, deserializing the value on
+ * first access. This class provides the common parts of the implementation, namely augmentation access and
+ * the binding contract of {@link #equals(Object)}, {@link #hashCode()} and {@link #toString()}.
+ *
+ *<p>
+ * This class is public only because generated subclasses live in the binding interface's package and class loader.
+ * It is not meant to be used by anyone else.
+ *
+ * @param <T> Binding interface type
+ */
+public abstract class CodecDataObject<T extends DataObject> implements AugmentationHolder<T>, AugmentationReader {
+    private static final Logger LOG = LoggerFactory.getLogger(CodecDataObject.class);
+    private static final Object NULL_VALUE = new Object();
+
+    private final NormalizedNodeContainer<?, PathArgument, NormalizedNode<?, ?>> data;
+    private final DataObjectCodecContext<T, ?> context;
+
+    private volatile ImmutableMap<Class<? extends Augmentation<?>>, Augmentation<?>> cachedAugmentations = null;
+    private volatile Integer cachedHashcode = null;
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    protected CodecDataObject(final DataObjectCodecContext<T, ?> context, final NormalizedNodeContainer data) {
+        this.context = Preconditions.checkNotNull(context, "Context must not be null");
+        this.data = Preconditions.checkNotNull(data, "Data must not be null");
+    }
+
+    /**
+     * Deserialize the value of a property. Invoked from generated getters when the corresponding field has not been
+     * populated yet.
+     *
+     * @param index Property index, as assigned by {@link CodecDataObjectGenerator#memberMethods(Class)}
+     * @return Property value, or an opaque non-null object if the property is not present
+     */
+    protected final Object codecMember(final int index) {
+        final Object value = context.getBindingChildValue(index, data);
+        return value != null ? value : NULL_VALUE;
+    }
+
+    /**
+     * Unmask a value returned from {@link #codecMember(int)}.
+     *
+     * @param value Cached value
+     * @return Property value, or null if the property is not present
+     */
+    protected static Object unmaskNull(final Object value) {
+        return value == NULL_VALUE ? null : value;
+    }
+
+    /**
+     * Return the value of a property, deserializing it if needed. Generated subclasses implement this method by
+     * dispatching to their fields.
+     *
+     * @param index Property index, as assigned by {@link CodecDataObjectGenerator#memberMethods(Class)}
+     * @return Property value, or null if the property is not present
+     */
+    protected abstract Object codecValue(int index);
+
+    final DataObjectCodecContext<T, ?> codecContext() {
+        return context;
+    }
+
+    final NormalizedNodeContainer<?, PathArgument, NormalizedNode<?, ?>> codecData() {
+        return data;
+    }
+
+    public final Class<? extends DataContainer> getImplementedInterface() {
+        return context.getBindingClass();
+    }
+
+    @Override
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    public final Map<Class<? extends Augmentation<T>>, Augmentation<T>> augmentations() {
+        return (Map) getAugmentationsImpl();
+    }
+
+    @Override
+    public final Map<Class<? extends Augmentation<?>>, Augmentation<?>> getAugmentations(final Object obj) {
+        Preconditions.checkArgument(this == obj, "Supplied object is not associated with this object");
+        return getAugmentationsImpl();
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public final <A extends Augmentation<T>> A augmentation(final Class<A> augmentationType) {
+        Preconditions.checkNotNull(augmentationType, "Supplied augmentation must not be null.");
+
+        final ImmutableMap<Class<? extends Augmentation<?>>, Augmentation<?>> aug = cachedAugmentations;
+        if (aug != null) {
+            return (A) aug.get(augmentationType);
+        }
+
+        final Optional<DataContainerCodecContext<?, ?>> optAugCtx = context.possibleStreamChild(
+            (Class) augmentationType);
+        if (optAugCtx.isPresent()) {
+            final DataContainerCodecContext<?, ?> augCtx = optAugCtx.get();
+            // The same augmentation may be applied to a grouping multiple times, each instantiation having a distinct
+            // binding class. Make sure we do not hand out an instantiation the caller did not ask for.
+            if (augmentationType.isAssignableFrom(augCtx.getBindingClass())) {
+                final java.util.Optional<NormalizedNode<?, ?>> augData = data.getChild(augCtx.getDomPathArgument());
+                if (augData.isPresent()) {
+                    return (A) augCtx.deserialize(augData.get());
+                }
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public final int hashCode() {
+        final Integer ret = cachedHashcode;
+        if (ret != null) {
+            return ret;
+        }
+
+        final int prime = 31;
+        int result = 1;
+        for (final int index : context.getHashCodeAndEqualsIndices()) {
+            result = prime * result + Objects.hashCode(codecValue(index));
+        }
+        if (Augmentable.class.isAssignableFrom(context.getBindingClass())) {
+            result = prime * result + getAugmentationsImpl().hashCode();
+        }
+        cachedHashcode = result;
+        return result;
+    }
+
+    @Override
+    public final boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || !context.getBindingClass().isAssignableFrom(obj.getClass())) {
+            return false;
+        }
+
+        // Fast path for objects generated from the same codec, which can skip reflection
+        final CodecDataObject<?> other = obj.getClass() == getClass() ? (CodecDataObject<?>) obj : null;
+        try {
+            for (final int index : context.getHashCodeAndEqualsIndices()) {
+                final Object thisValue = codecValue(index);
+                final Object otherValue = other != null ? other.codecValue(index)
+                        : context.getDataObjectMethod(index).invoke(obj);
+                // Binary list keys need to be compared by content
+                if (thisValue instanceof byte[] && otherValue instanceof byte[]) {
+                    if (!Arrays.equals((byte[]) thisValue, (byte[]) otherValue)) {
+                        return false;
+                    }
+                } else if (!Objects.equals(thisValue, otherValue)) {
+                    return false;
+                }
+            }
+        } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+            LOG.warn("Can not determine equality of {} and {}", this, obj, e);
+            return false;
+        }
+
+        if (Augmentable.class.isAssignableFrom(context.getBindingClass())) {
+            final Map<Class<? extends Augmentation<?>>, Augmentation<?>> otherAugmentations;
+            if (obj instanceof AugmentationReader) {
+                otherAugmentations = ((AugmentationReader) obj).getAugmentations(obj);
+            } else {
+                otherAugmentations = BindingReflections.getAugmentations((Augmentable<?>) obj);
+            }
+            return getAugmentationsImpl().equals(otherAugmentations);
+        }
+        return true;
+    }
+
+    @Override
+    public final String toString() {
+        final ToStringHelper helper = MoreObjects.toStringHelper(context.getBindingClass()).omitNullValues();
+        for (final int index : context.getHashCodeAndEqualsIndices()) {
+            final Method method = context.getDataObjectMethod(index);
+            helper.add(method.getName(), codecValue(index));
+        }
+        if (Augmentable.class.isAssignableFrom(context.getBindingClass())) {
+            helper.add("augmentations", getAugmentationsImpl());
+        }
+        return helper.toString();
+    }
+
+    private Map<Class<? extends Augmentation<?>>, Augmentation<?>> getAugmentationsImpl() {
+        ImmutableMap<Class<? extends Augmentation<?>>, Augmentation<?>> ret = cachedAugmentations;
+        if (ret == null) {
+            synchronized (this) {
+                ret = cachedAugmentations;
+                if (ret == null) {
+                    ret = ImmutableMap.copyOf(context.getAllAugmentationsFrom(data));
+                    cachedAugmentations = ret;
+                }
+            }
+        }
+
+        return ret;
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2018 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.binding.dom.codec.impl;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.ImmutableList;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import javassist.CannotCompileException;
+import javassist.ClassPool;
+import javassist.CtClass;
+import javassist.CtField;
+import javassist.CtMethod;
+import javassist.CtNewMethod;
+import javassist.Modifier;
+import javassist.NotFoundException;
+import org.opendaylight.mdsal.binding.generator.util.JavassistUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Generator of {@link CodecDataObject} subclasses implementing a particular binding interface. Each property of
+ * the interface, as reported by {@link #memberMethods(Class)}, is backed by a volatile field, which is populated on
+ * first access. Generated classes are cached for as long as they are in use.
+ *
+ *<p>
+ * Generated classes are defined in a dedicated class loader, which delegates to the binding interface's class
+ * loader and falls back to this bundle's class loader, so that they can see both the binding interface and
+ * {@link CodecDataObject}.
+ */
+final class CodecDataObjectGenerator {
+    private static final class CodecClassLoader extends ClassLoader {
+        private static final ClassLoader CODEC_LOADER = CodecDataObject.class.getClassLoader();
+
+        CodecClassLoader(final ClassLoader parent) {
+            super(parent);
+        }
+
+        @Override
+        protected Class<?> findClass(final String name) throws ClassNotFoundException {
+            return CODEC_LOADER.loadClass(name);
+        }
+    }
+
+    private static final Logger LOG = LoggerFactory.getLogger(CodecDataObjectGenerator.class);
+    private static final String CODEC_VALUE_NAME = "codecValue";
+    private static final String GENERATED_SUFFIX = "$$$CodecDataObject";
+    private static final JavassistUtils JAVASSIST = JavassistUtils.forClassPool(ClassPool.getDefault());
+
+    private static final LoadingCache<Class<?>, Class<?>> GENERATED_CLASSES = CacheBuilder.newBuilder()
+            .weakKeys().weakValues().build(new CacheLoader<Class<?>, Class<?>>() {
+                @Override
+                public Class<?> load(final Class<?> key) throws CannotCompileException, NotFoundException {
+                    return generate(key);
+                }
+            });
+
+    private CodecDataObjectGenerator() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Return the {@link CodecDataObject} subclass implementing a binding interface, generating it if needed.
+     *
+     * @param bindingClass Binding interface
+     * @return Generated class, with a public constructor taking a {@link DataObjectCodecContext} and
+     *         a {@link org.opendaylight.yangtools.yang.data.api.schema.NormalizedNodeContainer}
+     * @throws com.google.common.util.concurrent.UncheckedExecutionException if the class cannot be generated
+     */
+    static Class<?> generatedClass(final Class<?> bindingClass) {
+        return GENERATED_CLASSES.getUnchecked(bindingClass);
+    }
+
+    /**
+     * Return the properties of a binding interface, which are backed by fields in the generated class. The index of
+     * a method in the returned list is the index used by {@link CodecDataObject#codecMember(int)}. Methods are sorted
+     * by their name, so that the order is consistent with {@link DataObjectCodecContext#getHashCodeAndEqualsMethods()}.
+     * Interfaces with abstract methods other than properties, which are not implemented by {@link CodecDataObject},
+     * are rejected, so that their instances are backed by {@link LazyDataObject} proxies instead.
+     *
+     * @param bindingClass Binding interface
+     * @return List of property getters
+     * @throws IllegalArgumentException if the interface cannot be implemented by a generated class
+     */
+    static List<Method> memberMethods(final Class<?> bindingClass) {
+        final Map<String, Method> byName = new TreeMap<>();
+        for (final Method method : bindingClass.getMethods()) {
+            if (!Modifier.isAbstract(method.getModifiers()) || isImplementedByBase(method)) {
+                continue;
+            }
+            checkArgument(method.getParameterCount() == 0, "Method %s is not a property", method);
+
+            // Covariant redeclarations, such as Identifiable.key(), are backed by the most specific method
+            final Method existing = byName.get(method.getName());
+            if (existing == null || existing.getReturnType().isAssignableFrom(method.getReturnType())) {
+                byName.put(method.getName(), method);
+            } else {
+                checkArgument(method.getReturnType().isAssignableFrom(existing.getReturnType()),
+                    "Methods %s and %s have incompatible return types", existing, method);
+            }
+        }
+
+        for (final Method method : byName.values()) {
+            checkArgument(!method.getReturnType().isPrimitive(), "Method %s returns a primitive type", method);
+        }
+        return ImmutableList.copyOf(byName.values());
+    }
+
+    private static boolean isImplementedByBase(final Method method) {
+        final Method base;
+        try {
+            base = CodecDataObject.class.getMethod(method.getName(), method.getParameterTypes());
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+
+        checkArgument(base.getReturnType().equals(method.getReturnType()), "Method %s conflicts with %s", method,
+            base);
+        return !Modifier.isAbstract(base.getModifiers());
+    }
+
+    private static Class<?> generate(final Class<?> bindingClass) throws CannotCompileException, NotFoundException {
+        checkArgument(bindingClass.isInterface(), "%s is not an interface", bindingClass);
+        final List<Method> members = memberMethods(bindingClass);
+        final String className = bindingClass.getName() + GENERATED_SUFFIX;
+        LOG.debug("Generating {} with properties {}", className, members);
+
+        JAVASSIST.appendClassLoaderIfMissing(bindingClass.getClassLoader());
+        JAVASSIST.appendClassLoaderIfMissing(CodecDataObject.class.getClassLoader());
+        final CtClass product = JAVASSIST.instantiatePrototype(CodecDataObjectPrototype.class.getName(), className,
+            cls -> {
+                cls.addInterface(JAVASSIST.asCtClass(bindingClass));
+
+                final CtClass objectClass = JAVASSIST.asCtClass(Object.class);
+                final StringBuilder codecValue = new StringBuilder("{\n");
+                for (int i = 0; i < members.size(); ++i) {
+                    final String name = members.get(i).getName();
+                    final CtField field = new CtField(objectClass, name, cls);
+                    field.setModifiers(Modifier.PRIVATE | Modifier.VOLATILE);
+                    cls.addField(field);
+
+                    codecValue.append("if ($1 == ").append(i).append(") {\n")
+                        .append(memberAccess(name, i))
+                        .append("return unmaskNull(value").append(i).append(");\n}\n");
+                }
+                codecValue.append("throw new IllegalArgumentException(\"Invalid property index\");\n}");
+
+                // Implement all abstract methods, including covariant redeclarations of properties
+                final Set<String> implemented = new HashSet<>();
+                for (final Method method : bindingClass.getMethods()) {
+                    if (!Modifier.isAbstract(method.getModifiers()) || isImplementedByBase(method)
+                            || !implemented.add(method.getName() + Arrays.toString(method.getParameterTypes())
+                                + method.getReturnType().getName())) {
+                        continue;
+                    }
+
+                    // memberMethods() has verified all remaining abstract methods are properties
+                    final int index = indexOf(members, method.getName());
+                    final String body = "{\n" + memberAccess(method.getName(), index) + "return ("
+                            + sourceName(method.getReturnType()) + ") unmaskNull(value" + index + ");\n}";
+                    cls.addMethod(CtNewMethod.make(Modifier.PUBLIC | Modifier.FINAL,
+                        JAVASSIST.asCtClass(method.getReturnType()), method.getName(), new CtClass[0],
+                        new CtClass[0], body, cls));
+                }
+
+                final CtMethod codecValueMethod = cls.getDeclaredMethod(CODEC_VALUE_NAME);
+                codecValueMethod.setBody(codecValue.toString());
+
+                // The prototype is not visible, so we need to take care of that
+                cls.getDeclaredConstructors()[0].setModifiers(Modifier.PUBLIC);
+                cls.setModifiers(Modifier.setPublic(cls.getModifiers()));
+            });
+
+        try {
+            return product.toClass(new CodecClassLoader(bindingClass.getClassLoader()),
+                bindingClass.getProtectionDomain());
+        } finally {
+            // Generated classes may be unloaded and regenerated, make sure the pool does not hold on to them
+            product.detach();
+        }
+    }
+
+    private static String memberAccess(final String field, final int index) {
+        final String local = "value" + index;
+        return "Object " + local + " = this." + field + ";\n"
+            + "if (" + local + " == null) {\n"
+            + local + " = codecMember(" + index + ");\n"
+            + "this." + field + " = " + local + ";\n"
+            + "}\n";
+    }
+
+    private static int indexOf(final List<Method> members, final String name) {
+        for (int i = 0; i < members.size(); ++i) {
+            if (name.equals(members.get(i).getName())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String sourceName(final Class<?> type) {
+        return type.isArray() ? sourceName(type.getComponentType()) + "[]" : type.getName();
+    }
+}
@@ -60,7 +60,12 @@ abstract class DataObjectCodecContext<D extends DataObject, T extends DataNodeCo
         extends DataContainerCodecContext<D, T> {
     private static final Logger LOG = LoggerFactory.getLogger(DataObjectCodecContext.class);
     private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(void.class, InvocationHandler.class);
-    private static final MethodType DATAOBJECT_TYPE = MethodType.methodType(DataObject.class, InvocationHandler.class);
+    private static final MethodType CODEC_CONSTRUCTOR_TYPE = MethodType.methodType(void.class,
+        DataObjectCodecContext.class, NormalizedNodeContainer.class);
+    private static final MethodType HANDLER_TYPE = MethodType.methodType(InvocationHandler.class,
+        DataObjectCodecContext.class, NormalizedNodeContainer.class);
+    private static final MethodType DATAOBJECT_TYPE = MethodType.methodType(DataObject.class,
+        DataObjectCodecContext.class, NormalizedNodeContainer.class);
     private static final Comparator<Method> METHOD_BY_ALPHABET = (o1, o2) -> o1.getName().compareTo(o2.getName());
 
     private final ImmutableMap<String, LeafNodeCodecContext<?>> leafChild;
@@ -69,7 +74,16 @@ abstract class DataObjectCodecContext<D extends DataObject, T extends DataNodeCo
     private final ImmutableMap<Class<?>, DataContainerCodecPrototype<?>> byStreamClass;
     private final ImmutableMap<Class<?>, DataContainerCodecPrototype<?>> byBindingArgClass;
     private final ImmutableMap<AugmentationIdentifier, Type> possibleAugmentations;
-    private final MethodHandle proxyConstructor;
+
+    /*
+     * Support for generated CodecDataObjects, initialized on first instantiation. Indices into arrays correspond to
+     * CodecDataObjectGenerator.memberMethods(). dataObjectSuppliers are null for properties which are not present in
+     * byMethod, such as list keys.
+     */
+    private Method[] dataObjectMethods;
+    private NodeContextSupplier[] dataObjectSuppliers;
+    private int[] hashCodeAndEqualsIndices;
+    private volatile MethodHandle instanceConstructor;
 
     private final ConcurrentMap<YangInstanceIdentifier.PathArgument, DataContainerCodecPrototype<?>> byYangAugmented =
             new ConcurrentHashMap<>();
@@ -118,15 +132,6 @@ abstract class DataObjectCodecContext<D extends DataObject, T extends DataNodeCo
             this.possibleAugmentations = ImmutableMap.of();
         }
         reloadAllAugmentations();
-
-        final Class<?> proxyClass = Proxy.getProxyClass(getBindingClass().getClassLoader(), getBindingClass(),
-            AugmentationHolder.class);
-        try {
-            proxyConstructor = MethodHandles.publicLookup().findConstructor(proxyClass, CONSTRUCTOR_TYPE)
-                    .asType(DATAOBJECT_TYPE);
-        } catch (NoSuchMethodException | IllegalAccessException e) {
-            throw new IllegalStateException("Failed to find contructor for class " + proxyClass, e);
-        }
     }
 
     private void reloadAllAugmentations() {
@@ -335,7 +340,19 @@ abstract class DataObjectCodecContext<D extends DataObject, T extends DataNodeCo
 
     @SuppressWarnings("rawtypes")
     Object getBindingChildValue(final Method method, final NormalizedNodeContainer domData) {
-        final NodeCodecContext<?> childContext = byMethod.get(method).get();
+        return getBindingChildValue(byMethod.get(method).get(), domData);
+    }
+
+    @SuppressWarnings("rawtypes")
+    final Object getBindingChildValue(final int index, final NormalizedNodeContainer domData) {
+        final NodeContextSupplier supplier = dataObjectSuppliers[index];
+        return supplier != null ? getBindingChildValue(supplier.get(), domData)
+                : getBindingChildValue(dataObjectMethods[index], domData);
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static Object getBindingChildValue(final NodeCodecContext<?> childContext,
+            final NormalizedNodeContainer domData) {
         @SuppressWarnings("unchecked")
         final java.util.Optional<NormalizedNode<?, ?>> domChild = domData.getChild(childContext.getDomPathArgument());
         if (domChild.isPresent()) {
@@ -349,14 +366,113 @@ abstract class DataObjectCodecContext<D extends DataObject, T extends DataNodeCo
 
     @SuppressWarnings("checkstyle:illegalCatch")
     protected final D createBindingProxy(final NormalizedNodeContainer<?, ?, ?> node) {
+        final MethodHandle constructor = instanceConstructor();
         try {
-            return (D) proxyConstructor.invokeExact((InvocationHandler)new LazyDataObject<>(this, node));
+            return (D) constructor.invokeExact(this, node);
         } catch (final Throwable e) {
             Throwables.throwIfUnchecked(e);
             throw new RuntimeException(e);
         }
     }
 
+    private MethodHandle instanceConstructor() {
+        final MethodHandle existing = instanceConstructor;
+        return existing != null ? existing : loadInstanceConstructor();
+    }
+
+    @SuppressWarnings("checkstyle:illegalCatch")
+    private synchronized MethodHandle loadInstanceConstructor() {
+        MethodHandle ret = instanceConstructor;
+        if (ret == null) {
+            try {
+                ret = codecConstructor();
+            } catch (RuntimeException e) {
+                LOG.warn("Failed to generate implementation of {}, falling back to proxies", getBindingClass(), e);
+                ret = proxyConstructor();
+            }
+            instanceConstructor = ret;
+        }
+        return ret;
+    }
+
+    private MethodHandle codecConstructor() {
+        final Class<?> generated = CodecDataObjectGenerator.generatedClass(getBindingClass());
+        final List<Method> members = CodecDataObjectGenerator.memberMethods(getBindingClass());
+
+        final Map<String, NodeContextSupplier> byName = new HashMap<>();
+        for (final Entry<Method, NodeContextSupplier> entry : byMethod.entrySet()) {
+            byName.put(entry.getKey().getName(), entry.getValue());
+        }
+
+        final Method[] methods = new Method[members.size()];
+        final NodeContextSupplier[] suppliers = new NodeContextSupplier[members.size()];
+        final int[] indices = new int[byName.size()];
+        int offset = 0;
+        for (int i = 0; i < methods.length; ++i) {
+            final String name = members.get(i).getName();
+            try {
+                // Use the same Method object as everybody else, e.g. KeyedListNodeCodecContext's keyGetter
+                methods[i] = getBindingClass().getMethod(name);
+            } catch (NoSuchMethodException e) {
+                throw new IllegalStateException("Failed to find method " + name, e);
+            }
+
+            suppliers[i] = byName.get(name);
+            if (suppliers[i] != null) {
+                indices[offset++] = i;
+            }
+        }
+        Preconditions.checkState(offset == indices.length, "Properties %s do not cover %s", members, byName.keySet());
+
+        final MethodHandle ret;
+        try {
+            ret = MethodHandles.lookup().findConstructor(generated, CODEC_CONSTRUCTOR_TYPE).asType(DATAOBJECT_TYPE);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException("Failed to find contructor for class " + generated, e);
+        }
+
+        // Published by the volatile write to instanceConstructor
+        dataObjectMethods = methods;
+        dataObjectSuppliers = suppliers;
+        hashCodeAndEqualsIndices = indices;
+        return ret;
+    }
+
+    private MethodHandle proxyConstructor() {
+        final Class<?> proxyClass = Proxy.getProxyClass(getBindingClass().getClassLoader(), getBindingClass(),
+            AugmentationHolder.class);
+        try {
+            final MethodHandle proxy = MethodHandles.publicLookup().findConstructor(proxyClass, CONSTRUCTOR_TYPE);
+            final MethodHandle handler = MethodHandles.lookup().findConstructor(LazyDataObject.class,
+                CODEC_CONSTRUCTOR_TYPE).asType(HANDLER_TYPE);
+            return MethodHandles.filterReturnValue(handler, proxy).asType(DATAOBJECT_TYPE);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException("Failed to find contructor for class " + proxyClass, e);
+        }
+    }
+
+    /**
+     * Return the NormalizedNode backing a binding object, if the object has been created by this context and
+     * therefore its NormalizedNode representation is already known.
+     *
+     * @param obj Binding object
+     * @return Backing NormalizedNode, or null if the object has not been created by this context
+     */
+    @Nullable
+    final NormalizedNodeContainer<?, PathArgument, NormalizedNode<?, ?>> getBackingNode(final DataObject obj) {
+        if (obj instanceof CodecDataObject) {
+            final CodecDataObject<?> codecObj = (CodecDataObject<?>) obj;
+            return codecObj.codecContext() == this ? codecObj.codecData() : null;
+        }
+        if (Proxy.isProxyClass(obj.getClass())) {
+            final InvocationHandler handler = Proxy.getInvocationHandler(obj);
+            if (handler instanceof LazyDataObject && ((LazyDataObject<?>) handler).getContext() == this) {
+                return ((LazyDataObject<?>) handler).getData();
+            }
+        }
+        return null;
+    }
+
     @SuppressWarnings("unchecked")
     Map<Class<? extends Augmentation<?>>, Augmentation<?>> getAllAugmentationsFrom(
             final NormalizedNodeContainer<?, PathArgument, NormalizedNode<?, ?>> data) {
@@ -387,6 +503,20 @@ abstract class DataObjectCodecContext<D extends DataObject, T extends DataNodeCo
         return byMethod.keySet();
     }
 
+    /**
+     * Return the indices of {@link #getHashCodeAndEqualsMethods()} within properties of generated
+     * {@link CodecDataObject}s. Only valid once an instance has been created.
+     *
+     * @return Property indices, in the order of {@link #getHashCodeAndEqualsMethods()}
+     */
+    final int[] getHashCodeAndEqualsIndices() {
+        return hashCodeAndEqualsIndices;
+    }
+
+    final Method getDataObjectMethod(final int index) {
+        return dataObjectMethods[index];
+    }
+
     @Override
     public InstanceIdentifier.PathArgument deserializePathArgument(final YangInstanceIdentifier.PathArgument arg) {
         Preconditions.checkArgument(getDomPathArgument().equals(arg));
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2018 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.binding.dom.codec.impl;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import org.opendaylight.mdsal.binding.dom.codec.impl.NodeCodecContext.CodecContextFactory;
+import org.opendaylight.mdsal.binding.generator.util.BindingRuntimeContext;
+import org.opendaylight.yangtools.concepts.Codec;
+import org.opendaylight.yangtools.yang.binding.DataObjectSerializer;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier.IdentifiableItem;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.model.api.DataNodeContainer;
+import org.opendaylight.yangtools.yang.model.api.ListSchemaNode;
+
+/**
+ * A {@link CodecContextFactory} shared by all codec contexts of a single top-level subtree. When the subtree is taken
+ * over by a new codec tree, it is rebound to that tree, so that contexts instantiated from then on are created
+ * by the new tree and the subtree no longer references the previous one.
+ */
+final class ForwardingCodecContextFactory implements CodecContextFactory {
+    private volatile CodecContextFactory delegate;
+
+    ForwardingCodecContextFactory(final CodecContextFactory delegate) {
+        this.delegate = Preconditions.checkNotNull(delegate);
+    }
+
+    void rebind(final CodecContextFactory newDelegate) {
+        delegate = Preconditions.checkNotNull(newDelegate);
+    }
+
+    @Override
+    public BindingRuntimeContext getRuntimeContext() {
+        return delegate.getRuntimeContext();
+    }
+
+    @Override
+    public ImmutableMap<String, LeafNodeCodecContext<?>> getLeafNodes(final Class<?> type,
+            final DataNodeContainer schema) {
+        return delegate.getLeafNodes(type, schema);
+    }
+
+    @Override
+    public Codec<NodeIdentifierWithPredicates, IdentifiableItem<?, ?>> getPathArgumentCodec(final Class<?> type,
+            final ListSchemaNode schema) {
+        return delegate.getPathArgumentCodec(type, schema);
+    }
+
+    @Override
+    public DataObjectSerializer getEventStreamSerializer(final Class<?> type) {
+        return delegate.getEventStreamSerializer(type);
+    }
+}
@@ -8,10 +8,14 @@
 package org.opendaylight.mdsal.binding.dom.codec.impl;
 
 import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -26,13 +30,36 @@ import org.opendaylight.yangtools.yang.common.QName;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
 import org.opendaylight.yangtools.yang.model.api.ListSchemaNode;
 
+/**
+ * Codec between binding list keys and their NormalizedNode counterparts. Recently used pairs of keys and identifiers
+ * are retained in a bounded cache, whose size can be tuned via the {@value #MAXIMUM_SIZE_PROP} system property, and
+ * both directions of translation return the cached instances. Aside from avoiding translation of hot keys, this
+ * means that the same key is not represented by multiple identifier objects.
+ */
 final class IdentifiableItemCodec implements Codec<NodeIdentifierWithPredicates, IdentifiableItem<?, ?>> {
+    static final String MAXIMUM_SIZE_PROP = "org.opendaylight.mdsal.binding.dom.codec.keyCache.maximumSize";
+
+    private static final long DEFAULT_MAXIMUM_SIZE = 1024;
+    private static final long MAXIMUM_SIZE = Long.getLong(MAXIMUM_SIZE_PROP, DEFAULT_MAXIMUM_SIZE);
+    private static final MethodType ONE_KEY_TYPE = MethodType.methodType(Identifier.class, Object.class);
+    private static final MethodType TWO_KEY_TYPE = MethodType.methodType(Identifier.class, Object.class,
+        Object.class);
+
+    private final Cache<Identifier<?>, NodeIdentifierWithPredicates> serialized = CacheBuilder.newBuilder()
+            .maximumSize(MAXIMUM_SIZE).recordStats().build();
+    private final Cache<NodeIdentifierWithPredicates, IdentifiableItem<?, ?>> deserialized = CacheBuilder.newBuilder()
+            .maximumSize(MAXIMUM_SIZE).recordStats().build();
     private final Map<QName, ValueContext> keyValueContexts;
     private final List<QName> keysInBindingOrder;
+    // Value contexts of keys in definition order and binding order, so we do not need to look them up
+    private final ValueContext[] definitionContexts;
+    private final ValueContext[] bindingContexts;
     private final ListSchemaNode schema;
     private final Class<?> identifiable;
     private final MethodHandle ctorInvoker;
     private final MethodHandle ctor;
+    // Constructor adapted for direct invocation with one or two keys, null otherwise
+    private final MethodHandle fixedCtor;
 
     IdentifiableItemCodec(final ListSchemaNode schema, final Class<? extends Identifier<?>> keyClass,
             final Class<?> identifiable, final Map<QName, ValueContext> keyValueContexts) {
@@ -82,41 +109,111 @@ final class IdentifiableItemCodec implements Codec<NodeIdentifierWithPredicates,
         }
 
         this.keysInBindingOrder = ImmutableList.copyOf(sortedKeys);
+
+        switch (keysInBindingOrder.size()) {
+            case 1:
+                fixedCtor = ctor.asType(ONE_KEY_TYPE);
+                break;
+            case 2:
+                fixedCtor = ctor.asType(TWO_KEY_TYPE);
+                break;
+            default:
+                fixedCtor = null;
+        }
+
+        definitionContexts = this.keyValueContexts.values().toArray(new ValueContext[0]);
+        bindingContexts = new ValueContext[keysInBindingOrder.size()];
+        for (int i = 0; i < bindingContexts.length; ++i) {
+            bindingContexts[i] = this.keyValueContexts.get(keysInBindingOrder.get(i));
+        }
     }
 
     @Override
-    @SuppressWarnings("checkstyle:illegalCatch")
     public IdentifiableItem<?, ?> deserialize(final NodeIdentifierWithPredicates input) {
-        final Object[] bindingValues = new Object[keysInBindingOrder.size()];
-        int offset = 0;
+        IdentifiableItem<?, ?> ret = deserialized.getIfPresent(input);
+        if (ret == null) {
+            ret = createItem(input);
+            deserialized.put(input, ret);
+            serialized.put(ret.getKey(), input);
+        }
+        return ret;
+    }
 
-        for (final QName key : keysInBindingOrder) {
-            final Object yangValue = input.getKeyValues().get(key);
-            bindingValues[offset++] = keyValueContexts.get(key).deserialize(yangValue);
+    @Override
+    public NodeIdentifierWithPredicates serialize(final IdentifiableItem<?, ?> input) {
+        final Identifier<?> key = input.getKey();
+        NodeIdentifierWithPredicates ret = serialized.getIfPresent(key);
+        if (ret == null) {
+            ret = createIdentifier(key);
+            serialized.put(key, ret);
+            // Binding path arguments may be qualified by a case, which deserialized items never are
+            deserialized.put(ret, input.getCaseType().isPresent() ? createItem(key) : input);
         }
+        return ret;
+    }
+
+    /**
+     * Return combined statistics of caches used for both directions of translation.
+     *
+     * @return Cache statistics
+     */
+    CacheStats stats() {
+        return serialized.stats().plus(deserialized.stats());
+    }
 
+    @SuppressWarnings("checkstyle:illegalCatch")
+    private IdentifiableItem<?, ?> createItem(final NodeIdentifierWithPredicates input) {
+        final Map<QName, Object> keyValues = input.getKeyValues();
         final Identifier<?> identifier;
         try {
-            identifier = (Identifier<?>) ctorInvoker.invokeExact(ctor, bindingValues);
+            switch (bindingContexts.length) {
+                case 1:
+                    identifier = (Identifier<?>) fixedCtor.invokeExact(
+                        bindingContexts[0].deserialize(keyValues.get(keysInBindingOrder.get(0))));
+                    break;
+                case 2:
+                    identifier = (Identifier<?>) fixedCtor.invokeExact(
+                        bindingContexts[0].deserialize(keyValues.get(keysInBindingOrder.get(0))),
+                        bindingContexts[1].deserialize(keyValues.get(keysInBindingOrder.get(1))));
+                    break;
+                default:
+                    final Object[] bindingValues = new Object[bindingContexts.length];
+                    for (int i = 0; i < bindingValues.length; ++i) {
+                        bindingValues[i] = bindingContexts[i].deserialize(keyValues.get(keysInBindingOrder.get(i)));
+                    }
+                    identifier = (Identifier<?>) ctorInvoker.invokeExact(ctor, bindingValues);
+            }
         } catch (Throwable e) {
             Throwables.throwIfUnchecked(e);
             throw new RuntimeException(e);
         }
 
+        return createItem(identifier);
+    }
+
+    private IdentifiableItem<?, ?> createItem(final Identifier<?> identifier) {
         @SuppressWarnings({ "rawtypes", "unchecked" })
         final IdentifiableItem identifiableItem = IdentifiableItem.of((Class) identifiable, (Identifier) identifier);
         return identifiableItem;
     }
 
-    @Override
-    public NodeIdentifierWithPredicates serialize(final IdentifiableItem<?, ?> input) {
-        final Object value = input.getKey();
-
-        final Map<QName, Object> values = new LinkedHashMap<>();
-        for (final Entry<QName, ValueContext> valueCtx : keyValueContexts.entrySet()) {
-            values.put(valueCtx.getKey(), valueCtx.getValue().getAndSerialize(value));
+    private NodeIdentifierWithPredicates createIdentifier(final Identifier<?> key) {
+        switch (definitionContexts.length) {
+            case 1:
+                return new NodeIdentifierWithPredicates(schema.getQName(), schema.getKeyDefinition().get(0),
+                    definitionContexts[0].getAndSerialize(key));
+            case 2:
+                final List<QName> keys = schema.getKeyDefinition();
+                return new NodeIdentifierWithPredicates(schema.getQName(), ImmutableMap.of(
+                    keys.get(0), definitionContexts[0].getAndSerialize(key),
+                    keys.get(1), definitionContexts[1].getAndSerialize(key)));
+            default:
+                final Map<QName, Object> values = new LinkedHashMap<>();
+                for (final Entry<QName, ValueContext> valueCtx : keyValueContexts.entrySet()) {
+                    values.put(valueCtx.getKey(), valueCtx.getValue().getAndSerialize(key));
+                }
+                return new NodeIdentifierWithPredicates(schema.getQName(), values);
         }
-        return new NodeIdentifierWithPredicates(schema.getQName(), values);
     }
 
     @SuppressWarnings("unchecked")
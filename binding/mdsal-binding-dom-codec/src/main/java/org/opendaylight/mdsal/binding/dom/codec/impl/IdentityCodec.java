@@ -15,12 +15,16 @@ import org.opendaylight.yangtools.yang.binding.util.BindingReflections;
 import org.opendaylight.yangtools.yang.common.QName;
 
 final class IdentityCodec implements Codec<QName, Class<?>> {
-    private final BindingRuntimeContext context;
+    private volatile BindingRuntimeContext context;
 
     IdentityCodec(final BindingRuntimeContext context) {
         this.context = Preconditions.checkNotNull(context);
     }
 
+    void rebind(final BindingRuntimeContext newContext) {
+        context = Preconditions.checkNotNull(newContext);
+    }
+
     @Override
     public Class<?> deserialize(final QName input) {
         Preconditions.checkArgument(input != null, "Input must not be null.");
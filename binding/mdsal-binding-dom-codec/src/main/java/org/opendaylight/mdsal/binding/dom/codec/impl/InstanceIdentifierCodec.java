@@ -17,12 +17,16 @@ import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
 
 final class InstanceIdentifierCodec implements Codec<YangInstanceIdentifier, InstanceIdentifier<?>> {
-    private final BindingCodecContext context;
+    private volatile BindingCodecContext context;
 
     InstanceIdentifierCodec(final BindingCodecContext context) {
         this.context = Preconditions.checkNotNull(context);
     }
 
+    void rebind(final BindingCodecContext newContext) {
+        context = Preconditions.checkNotNull(newContext);
+    }
+
     @Override
     public YangInstanceIdentifier serialize(final InstanceIdentifier<?> input) {
         final List<PathArgument> domArgs = new ArrayList<>();
@@ -55,6 +55,14 @@ class LazyDataObject<D extends DataObject> implements InvocationHandler, Augment
         this.data = Preconditions.checkNotNull(data, "Data must not be null");
     }
 
+    DataObjectCodecContext<D, ?> getContext() {
+        return context;
+    }
+
+    NormalizedNodeContainer<?, PathArgument, NormalizedNode<?, ?>> getData() {
+        return data;
+    }
+
     @Override
     public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
         if (method.getParameterTypes().length == 0) {
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2018 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.binding.dom.codec.impl;
+
+import com.google.common.base.Optional;
+import javax.annotation.Nullable;
+import org.opendaylight.yangtools.yang.binding.BindingSerializer;
+import org.opendaylight.yangtools.yang.binding.BindingStreamEventWriter;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+
+/**
+ * Serializer of Binding objects to Normalized Node which reuses the backing Normalized Node of lazily-deserialized
+ * objects instead of streaming them.
+ *
+ * <p>
+ * Objects produced by {@link DataObjectCodecContext#deserialize(NormalizedNode)} are immutable views of the
+ * Normalized Node they were created from. Whenever generated
+ * {@link org.opendaylight.yangtools.yang.binding.DataObjectSerializer}s encounter such an object, including
+ * when it is a child of a freshly-built object, its backing node is spliced into the result as-is.
+ */
+final class NormalizedNodeReusingSerializer extends ForwardingBindingStreamEventWriter implements
+        BindingSerializer<Object, DataObject> {
+
+    private final NormalizedNodeWriterWithAddChild domWriter;
+    private final BindingToNormalizedStreamWriter delegate;
+
+    NormalizedNodeReusingSerializer(final DataContainerCodecContext<?, ?> subtreeRoot,
+            final NormalizedNodeWriterWithAddChild domWriter) {
+        this.domWriter = domWriter;
+        this.delegate = BindingToNormalizedStreamWriter.create(subtreeRoot, domWriter);
+    }
+
+    @Override
+    protected BindingStreamEventWriter delegate() {
+        return delegate;
+    }
+
+    /**
+     * Serializes input if it is backed by a Normalized Node, returns null otherwise.
+     */
+    @Override
+    public NormalizedNode<?, ?> serialize(final DataObject input) {
+        final NormalizedNode<?, ?> domData = backingNode(delegate, input);
+        if (domData != null) {
+            domWriter.addChild(domData);
+        }
+        return domData;
+    }
+
+    /**
+     * Return the Normalized Node backing a child of the node currently being written.
+     *
+     * @param writer Binding stream writer
+     * @param input Child object
+     * @return Backing Normalized Node, or null if the object is not backed by a Normalized Node of the corresponding
+     *         codec.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    static @Nullable NormalizedNode<?, ?> backingNode(final BindingToNormalizedStreamWriter writer,
+            final DataObject input) {
+        final NodeCodecContext<?> current = writer.current();
+        if (!(current instanceof DataContainerCodecContext)) {
+            return null;
+        }
+
+        final DataContainerCodecContext<?, ?> currentCtx = (DataContainerCodecContext<?, ?>) current;
+        final Class type = input.getImplementedInterface();
+        final DataContainerCodecContext<?, ?> childCtx;
+        if (type.equals(currentCtx.getBindingClass())) {
+            childCtx = currentCtx;
+        } else {
+            final Optional<DataContainerCodecContext<?, ?>> optChild = currentCtx.possibleStreamChild(type);
+            if (!optChild.isPresent()) {
+                return null;
+            }
+            childCtx = optChild.get();
+        }
+
+        return childCtx instanceof DataObjectCodecContext
+                ? ((DataObjectCodecContext<?, ?>) childCtx).getBackingNode(input) : null;
+    }
+}
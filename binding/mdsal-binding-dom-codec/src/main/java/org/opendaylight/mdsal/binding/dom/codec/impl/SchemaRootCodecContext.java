@@ -17,6 +17,8 @@ import com.google.common.cache.LoadingCache;
 import com.google.common.util.concurrent.UncheckedExecutionException;
 import java.lang.reflect.Type;
 import java.util.List;
+import java.util.Map.Entry;
+import java.util.function.Predicate;
 import org.opendaylight.yangtools.yang.binding.BindingMapping;
 import org.opendaylight.yangtools.yang.binding.ChoiceIn;
 import org.opendaylight.yangtools.yang.binding.DataContainer;
@@ -132,6 +134,48 @@ final class SchemaRootCodecContext<D extends DataObject> extends DataContainerCo
     }
 
 
+    /**
+     * Seed this root with top-level codec contexts instantiated by the root of a previous codec tree. Only contexts
+     * of classes accepted by the supplied predicate are taken over, all others are instantiated on demand as usual.
+     * Reused contexts are rebound to the factory of this root, hence any contexts they instantiate from now on are
+     * created by this codec tree.
+     *
+     * @param previous Root of the previous codec tree
+     * @param reusable Predicate accepting classes whose contexts can be reused
+     * @return Number of reused contexts
+     */
+    int reuse(final SchemaRootCodecContext<?> previous, final Predicate<Class<?>> reusable) {
+        return reuse(previous.childrenByClass, childrenByClass, reusable)
+                + reuse(previous.rpcDataByClass, rpcDataByClass, reusable)
+                + reuse(previous.notificationsByClass, notificationsByClass, reusable)
+                + reuse(previous.choicesByClass, choicesByClass, reusable);
+    }
+
+    private <K extends Class<?>, V extends DataContainerCodecContext<?, ?>> int reuse(final LoadingCache<K, V> from,
+            final LoadingCache<K, V> to, final Predicate<Class<?>> reusable) {
+        int ret = 0;
+        for (final Entry<K, V> entry : from.asMap().entrySet()) {
+            if (reusable.test(entry.getKey())) {
+                final V context = entry.getValue();
+                // Top-level contexts are always created with a subtree factory, see subtreeFactory()
+                ((ForwardingCodecContextFactory) context.factory()).rebind(factory());
+                to.put(entry.getKey(), context);
+                ret++;
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Create a factory for a new top-level subtree. Each subtree has its own factory, so that it can be rebound
+     * to another codec tree independently of other subtrees.
+     *
+     * @return A new subtree factory
+     */
+    private CodecContextFactory subtreeFactory() {
+        return new ForwardingCodecContextFactory(factory());
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public <C extends DataObject> DataContainerCodecContext<C, ?> streamChild(final Class<C> childClass) {
@@ -182,7 +226,7 @@ final class SchemaRootCodecContext<D extends DataObject> extends DataContainerCo
         final QName qname = BindingReflections.findQName(key);
         final DataSchemaNode childSchema = childNonNull(getSchema().getDataChildByName(qname), key,
             "%s is not top-level item.", key);
-        return DataContainerCodecPrototype.from(key, childSchema, factory()).get();
+        return DataContainerCodecPrototype.from(key, childSchema, subtreeFactory()).get();
     }
 
     ContainerNodeCodecContext<?> createRpcDataContext(final Class<?> key) {
@@ -211,7 +255,7 @@ final class SchemaRootCodecContext<D extends DataObject> extends DataContainerCo
         Preconditions.checkArgument(rpc != null, "Supplied class %s is not valid RPC class.", key);
         final ContainerSchemaNode schema = SchemaNodeUtils.getRpcDataSchema(rpc, qname);
         Preconditions.checkArgument(schema != null, "Schema for %s does not define input / output.", rpc.getQName());
-        return (ContainerNodeCodecContext<?>) DataContainerCodecPrototype.from(key, schema, factory()).get();
+        return (ContainerNodeCodecContext<?>) DataContainerCodecPrototype.from(key, schema, subtreeFactory()).get();
     }
 
     NotificationCodecContext<?> createNotificationDataContext(final Class<?> notificationType) {
@@ -226,7 +270,7 @@ final class SchemaRootCodecContext<D extends DataObject> extends DataContainerCo
                 SchemaPath.create(true, qname));
         Preconditions.checkArgument(schema != null, "Supplied %s is not valid notification", notificationType);
 
-        return new NotificationCodecContext<>(notificationType, schema, factory());
+        return new NotificationCodecContext<>(notificationType, schema, subtreeFactory());
     }
 
     ChoiceNodeCodecContext<?> createChoiceDataContext(final Class<? extends DataObject> caseType) {
@@ -237,7 +281,7 @@ final class SchemaRootCodecContext<D extends DataObject> extends DataContainerCo
             caseType);
 
         final DataContainerCodecContext<?, ChoiceSchemaNode> choice = DataContainerCodecPrototype.from(choiceClass,
-            (ChoiceSchemaNode)schema, factory()).get();
+            (ChoiceSchemaNode)schema, subtreeFactory()).get();
         Verify.verify(choice instanceof ChoiceNodeCodecContext);
         return (ChoiceNodeCodecContext<?>) choice;
     }
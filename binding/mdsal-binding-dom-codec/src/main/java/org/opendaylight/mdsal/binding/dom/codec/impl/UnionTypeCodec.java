@@ -7,14 +7,18 @@
  */
 package org.opendaylight.mdsal.binding.dom.codec.impl;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableSet;
 import java.lang.reflect.Method;
 import java.util.LinkedHashSet;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import org.opendaylight.mdsal.binding.yang.types.BaseYangTypes;
 import org.opendaylight.yangtools.concepts.Codec;
 import org.opendaylight.yangtools.yang.binding.BindingMapping;
+import org.opendaylight.yangtools.yang.binding.util.BindingReflections;
 import org.opendaylight.yangtools.yang.model.api.LeafSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.Module;
 import org.opendaylight.yangtools.yang.model.api.RevisionAwareXPath;
@@ -25,10 +29,17 @@ import org.opendaylight.yangtools.yang.model.api.type.LeafrefTypeDefinition;
 import org.opendaylight.yangtools.yang.model.api.type.UnionTypeDefinition;
 import org.opendaylight.yangtools.yang.model.util.SchemaContextUtil;
 
+/**
+ * Codec for union types. Deserialization dispatches on the class of the NormalizedNode value: the members which can
+ * accept a particular class are computed once and cached, and each candidate member is checked against
+ * {@link UnionValueFilter} before attempting to deserialize the value.
+ */
 final class UnionTypeCodec extends ReflectionBasedCodec {
+    private final ConcurrentMap<Class<?>, UnionValueOptionContext[]> dispatch = new ConcurrentHashMap<>();
     private final ImmutableSet<UnionValueOptionContext> typeCodecs;
 
-    private UnionTypeCodec(final Class<?> unionCls,final Set<UnionValueOptionContext> codecs) {
+    @VisibleForTesting
+    UnionTypeCodec(final Class<?> unionCls, final Set<UnionValueOptionContext> codecs) {
         super(unionCls);
         typeCodecs = ImmutableSet.copyOf(codecs);
     }
@@ -46,7 +57,8 @@ final class UnionTypeCodec extends ReflectionBasedCodec {
                     final Class<?> valueType = valueGetter.getReturnType();
                     final Codec<Object, Object> valueCodec = bindingCodecContext.getCodec(valueType, subtype);
 
-                    values.add(new UnionValueOptionContext(unionCls, valueType, valueGetter, valueCodec));
+                    values.add(new UnionValueOptionContext(unionCls, valueType, valueGetter, valueCodec,
+                        UnionValueFilter.create(subtype, BindingReflections.isBindingClass(valueType))));
                 }
             }
 
@@ -98,12 +110,18 @@ final class UnionTypeCodec extends ReflectionBasedCodec {
         // prepare codec of union subtype according to return type of referenced
         // leaf
         final Codec<Object, Object> valueCodec = bindingCodecContext.getCodec(returnType, subtype);
-        values.add(new UnionValueOptionContext(unionCls, returnType, valueGetterParent, valueCodec));
+        values.add(new UnionValueOptionContext(unionCls, returnType, valueGetterParent, valueCodec,
+            UnionValueFilter.create(typeNode.getType(), BindingReflections.isBindingClass(returnType))));
     }
 
     @Override
     public Object deserialize(final Object input) {
-        for (final UnionValueOptionContext member : typeCodecs) {
+        UnionValueOptionContext[] candidates = dispatch.get(input.getClass());
+        if (candidates == null) {
+            candidates = dispatch.computeIfAbsent(input.getClass(), this::candidatesFor);
+        }
+
+        for (final UnionValueOptionContext member : candidates) {
             final Object ret = member.deserializeUnion(input);
             if (ret != null) {
                 return ret;
@@ -114,6 +132,11 @@ final class UnionTypeCodec extends ReflectionBasedCodec {
             getTypeClass(), input));
     }
 
+    private UnionValueOptionContext[] candidatesFor(final Class<?> valueClass) {
+        return typeCodecs.stream().filter(member -> member.acceptsClass(valueClass))
+                .toArray(UnionValueOptionContext[]::new);
+    }
+
     @Override
     public Object serialize(final Object input) {
         if (input != null) {
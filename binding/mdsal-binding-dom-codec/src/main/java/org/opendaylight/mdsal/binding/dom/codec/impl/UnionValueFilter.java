@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2018 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.binding.dom.codec.impl;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.RangeSet;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import javax.annotation.Nullable;
+import org.opendaylight.yangtools.yang.binding.BindingMapping;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.model.api.TypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.BinaryTypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.BitsTypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.BooleanTypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.DecimalTypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.EnumTypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.EnumTypeDefinition.EnumPair;
+import org.opendaylight.yangtools.yang.model.api.type.IdentityrefTypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.InstanceIdentifierTypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.Int16TypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.Int32TypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.Int64TypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.Int8TypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.LengthConstraint;
+import org.opendaylight.yangtools.yang.model.api.type.LengthRestrictedTypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.ModifierKind;
+import org.opendaylight.yangtools.yang.model.api.type.PatternConstraint;
+import org.opendaylight.yangtools.yang.model.api.type.RangeConstraint;
+import org.opendaylight.yangtools.yang.model.api.type.RangeRestrictedTypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.StringTypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.Uint16TypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.Uint32TypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.Uint64TypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.Uint8TypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.UnionTypeDefinition;
+
+/**
+ * Quick check whether a NormalizedNode value can be deserialized by a particular member of a union, so that
+ * {@link UnionTypeCodec} does not need to try members one by one and have them fail with exceptions.
+ *
+ *<p>
+ * A filter checks the Java class used to represent values of the member's base type and, for members which are
+ * represented by a generated type, the pattern, length and range restrictions, which the generated type's constructor
+ * would enforce. Filters are conservative: they reject only values, which the member is known not to accept.
+ */
+final class UnionValueFilter {
+    static final UnionValueFilter ANY = new UnionValueFilter(null, ImmutableList.of());
+
+    private final Class<?> valueClass;
+    private final List<Predicate<Object>> restrictions;
+
+    private UnionValueFilter(final Class<?> valueClass, final List<Predicate<Object>> restrictions) {
+        this.valueClass = valueClass;
+        this.restrictions = ImmutableList.copyOf(restrictions);
+    }
+
+    /**
+     * Create a filter for a union member.
+     *
+     * @param type Type of the union member
+     * @param enforced True if the member's restrictions are enforced by its binding representation
+     * @return A filter
+     */
+    static UnionValueFilter create(final TypeDefinition<?> type, final boolean enforced) {
+        if (type instanceof UnionTypeDefinition) {
+            final List<UnionValueFilter> members = new ArrayList<>();
+            for (final TypeDefinition<?> member : ((UnionTypeDefinition) type).getTypes()) {
+                members.add(create(member, false));
+            }
+            return new UnionValueFilter(null, ImmutableList.of(value -> {
+                for (final UnionValueFilter member : members) {
+                    if (member.accepts(value)) {
+                        return true;
+                    }
+                }
+                return false;
+            }));
+        }
+
+        TypeDefinition<?> rootType = type;
+        while (rootType.getBaseType() != null) {
+            rootType = rootType.getBaseType();
+        }
+
+        final List<Predicate<Object>> restrictions = new ArrayList<>();
+        if (rootType instanceof EnumTypeDefinition) {
+            final ImmutableSet.Builder<String> names = ImmutableSet.builder();
+            for (final EnumPair pair : ((EnumTypeDefinition) rootType).getValues()) {
+                names.add(pair.getName());
+            }
+            restrictions.add(names.build()::contains);
+        }
+        if (enforced) {
+            addRestrictions(restrictions, type);
+        }
+
+        return new UnionValueFilter(valueClassOf(rootType), restrictions);
+    }
+
+    /**
+     * Check whether values of specified class can be accepted by this filter.
+     *
+     * @param cls Value class
+     * @return False if this filter does not accept any value of specified class
+     */
+    boolean acceptsClass(final Class<?> cls) {
+        return valueClass == null || valueClass.isAssignableFrom(cls);
+    }
+
+    /**
+     * Check whether a value can be accepted by this filter.
+     *
+     * @param value Value to be checked
+     * @return False if the value is known not to be accepted by the union member
+     */
+    boolean accepts(final Object value) {
+        if (valueClass != null && !valueClass.isInstance(value)) {
+            return false;
+        }
+        for (final Predicate<Object> restriction : restrictions) {
+            if (!restriction.test(value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void addRestrictions(final List<Predicate<Object>> restrictions, final TypeDefinition<?> type) {
+        final Set<String> patterns = new LinkedHashSet<>();
+        for (TypeDefinition<?> wlk = type; wlk != null; wlk = wlk.getBaseType()) {
+            if (wlk instanceof StringTypeDefinition) {
+                for (final PatternConstraint constraint : ((StringTypeDefinition) wlk).getPatternConstraints()) {
+                    final Optional<ModifierKind> modifier = constraint.getModifier();
+                    patterns.add(modifier.isPresent() && modifier.get() == ModifierKind.INVERT_MATCH
+                            ? BindingMapping.negatePatternString(constraint.getJavaPatternString())
+                                    : constraint.getJavaPatternString());
+                }
+            }
+            if (wlk instanceof LengthRestrictedTypeDefinition) {
+                final Optional<LengthConstraint> length = ((LengthRestrictedTypeDefinition<?>) wlk)
+                        .getLengthConstraint();
+                if (length.isPresent()) {
+                    final RangeSet<Integer> allowed = length.get().getAllowedRanges();
+                    restrictions.add(value -> allowed.contains(lengthOf(value)));
+                }
+            }
+            if (wlk instanceof RangeRestrictedTypeDefinition) {
+                final Optional<? extends RangeConstraint<?>> range = ((RangeRestrictedTypeDefinition<?, ?>) wlk)
+                        .getRangeConstraint();
+                if (range.isPresent()) {
+                    restrictions.add(rangePredicate(range.get().getAllowedRanges()));
+                }
+            }
+        }
+
+        for (final String pattern : patterns) {
+            final Pattern compiled = Pattern.compile(pattern);
+            restrictions.add(value -> compiled.matcher((String) value).matches());
+        }
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static Predicate<Object> rangePredicate(final RangeSet<?> allowed) {
+        return value -> ((RangeSet) allowed).contains((Comparable) value);
+    }
+
+    private static int lengthOf(final Object value) {
+        return value instanceof byte[] ? ((byte[]) value).length : ((String) value).length();
+    }
+
+    /**
+     * Return the class used to represent values of a base type in NormalizedNode model.
+     *
+     * @param rootType Base type
+     * @return Value class, or null if it is not known
+     */
+    @Nullable
+    private static Class<?> valueClassOf(final TypeDefinition<?> rootType) {
+        if (rootType instanceof StringTypeDefinition || rootType instanceof EnumTypeDefinition) {
+            return String.class;
+        } else if (rootType instanceof Int8TypeDefinition) {
+            return Byte.class;
+        } else if (rootType instanceof Int16TypeDefinition || rootType instanceof Uint8TypeDefinition) {
+            return Short.class;
+        } else if (rootType instanceof Int32TypeDefinition || rootType instanceof Uint16TypeDefinition) {
+            return Integer.class;
+        } else if (rootType instanceof Int64TypeDefinition || rootType instanceof Uint32TypeDefinition) {
+            return Long.class;
+        } else if (rootType instanceof Uint64TypeDefinition) {
+            return BigInteger.class;
+        } else if (rootType instanceof DecimalTypeDefinition) {
+            return BigDecimal.class;
+        } else if (rootType instanceof BooleanTypeDefinition) {
+            return Boolean.class;
+        } else if (rootType instanceof BinaryTypeDefinition) {
+            return byte[].class;
+        } else if (rootType instanceof BitsTypeDefinition) {
+            return Set.class;
+        } else if (rootType instanceof IdentityrefTypeDefinition) {
+            return QName.class;
+        } else if (rootType instanceof InstanceIdentifierTypeDefinition) {
+            return YangInstanceIdentifier.class;
+        }
+
+        // Empty and leafref types, which we do not resolve
+        return null;
+    }
+}
@@ -25,11 +25,18 @@ final class UnionValueOptionContext {
     private final Codec<Object,Object> codec;
     private final MethodHandle getter;
     private final MethodHandle unionCtor;
+    private final UnionValueFilter filter;
 
     UnionValueOptionContext(final Class<?> unionType, final Class<?> valueType, final Method getter,
             final Codec<Object, Object> codec) {
+        this(unionType, valueType, getter, codec, UnionValueFilter.ANY);
+    }
+
+    UnionValueOptionContext(final Class<?> unionType, final Class<?> valueType, final Method getter,
+            final Codec<Object, Object> codec, final UnionValueFilter filter) {
         this.bindingType = Preconditions.checkNotNull(valueType);
         this.codec = Preconditions.checkNotNull(codec);
+        this.filter = Preconditions.checkNotNull(filter);
 
         try {
             this.getter = MethodHandles.publicLookup().unreflect(getter).asType(OBJECT_TYPE);
@@ -51,9 +58,22 @@ final class UnionValueOptionContext {
         return baValue == null ? null : codec.serialize(baValue);
     }
 
+    /**
+     * Check whether this member may accept values of specified class.
+     *
+     * @param valueClass Class of a NormalizedNode value
+     * @return False if values of specified class are never accepted by this member
+     */
+    boolean acceptsClass(final Class<?> valueClass) {
+        return filter.acceptsClass(valueClass);
+    }
+
     @SuppressWarnings("checkstyle:illegalCatch")
     Object deserializeUnion(final Object input) {
-        // Side-step potential exceptions by checking the type if it is available
+        // Side-step potential exceptions by checking the type and restrictions if they are available
+        if (!filter.accepts(input)) {
+            return null;
+        }
         if (codec instanceof EncapsulatedValueCodec && !((EncapsulatedValueCodec) codec).canAcceptObject(input)) {
             return null;
         }
@@ -16,6 +16,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import org.opendaylight.yangtools.yang.binding.Augmentable;
 import org.opendaylight.yangtools.yang.binding.Augmentation;
+import org.opendaylight.yangtools.yang.binding.BindingSerializer;
 import org.opendaylight.yangtools.yang.binding.BindingStreamEventWriter;
 import org.opendaylight.yangtools.yang.binding.DataObject;
 import org.opendaylight.yangtools.yang.binding.DataObjectSerializer;
@@ -40,6 +41,8 @@ public class AugmentableDispatchSerializer implements DataObjectSerializerImplem
             final Map<Class<? extends Augmentation<?>>, Augmentation<?>> augmentations;
             if (reg instanceof AugmentationReader) {
                 augmentations = ((AugmentationReader) reg).getAugmentations(obj);
+            } else if (obj instanceof AugmentationReader) {
+                augmentations = ((AugmentationReader) obj).getAugmentations(obj);
             } else if (Proxy.isProxyClass(obj.getClass())) {
                 augmentations = getFromProxy(obj);
             } else {
@@ -71,6 +74,14 @@ public class AugmentableDispatchSerializer implements DataObjectSerializerImplem
             return;
         }
         Preconditions.checkArgument(value instanceof DataObject);
+        if (stream instanceof BindingSerializer) {
+            // The writer may be able to emit the augmentation without us walking it
+            @SuppressWarnings("unchecked")
+            final BindingSerializer<?, DataObject> bindingSerializer = (BindingSerializer<?, DataObject>) stream;
+            if (bindingSerializer.serialize((DataObject) value) != null) {
+                return;
+            }
+        }
         @SuppressWarnings("unchecked")
         final DataObjectSerializer serializer = registry.getSerializer(type);
         if (serializer != null) {
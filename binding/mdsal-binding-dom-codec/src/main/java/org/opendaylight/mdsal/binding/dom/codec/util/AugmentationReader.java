@@ -12,7 +12,9 @@ import org.opendaylight.yangtools.yang.binding.Augmentation;
 
 /**
  * Interface which sould be implemented by proxy {@link java.lang.reflect.InvocationHandler} to obtain augmentations
- * from proxy implementations of {@link org.opendaylight.yangtools.yang.binding.Augmentable} object.
+ * from proxy implementations of {@link org.opendaylight.yangtools.yang.binding.Augmentable} object. Non-proxy
+ * implementations can implement it directly, in which case they are expected to be passed to
+ * {@link #getAugmentations(Object)} as its argument.
  *
  * <p>
  * If implemented proxy does not implement this interface, its augmentations are not properly serialized / deserialized.
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2018 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.binding.dom.codec.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import java.util.Set;
+import org.junit.Test;
+import org.opendaylight.yangtools.yang.model.api.type.BitsTypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.BitsTypeDefinition.Bit;
+
+public class BitsCodecTest {
+
+    public static final class TestBits {
+        private final Boolean alpha;
+        private final Boolean beta;
+
+        public TestBits(final Boolean alpha, final Boolean beta) {
+            this.alpha = alpha;
+            this.beta = beta;
+        }
+
+        public TestBits(final TestBits source) {
+            this(source.alpha, source.beta);
+        }
+
+        public Boolean isAlpha() {
+            return alpha;
+        }
+
+        public Boolean isBeta() {
+            return beta;
+        }
+    }
+
+    @Test
+    public void basicTest() throws Exception {
+        // Definition order differs from the lexical order of constructor arguments
+        final BitsCodec codec = BitsCodec.loader(TestBits.class, bitsDefinition("beta", "alpha")).call();
+
+        final TestBits onlyBeta = (TestBits) codec.deserialize(ImmutableSet.of("beta"));
+        assertFalse(onlyBeta.isAlpha());
+        assertTrue(onlyBeta.isBeta());
+        assertSame(onlyBeta, codec.deserialize(ImmutableSet.of("beta", "unknown")));
+
+        final Set<String> serialized = codec.serialize(new TestBits(true, false));
+        assertEquals(ImmutableSet.of("alpha"), serialized);
+        assertSame(serialized, codec.serialize(new TestBits(true, false)));
+        assertEquals(ImmutableList.of("beta", "alpha"),
+            ImmutableList.copyOf(codec.serialize(new TestBits(true, true))));
+        assertEquals(ImmutableSet.of(), codec.serialize(new TestBits(false, false)));
+    }
+
+    private static BitsTypeDefinition bitsDefinition(final String... names) {
+        final ImmutableList.Builder<Bit> bits = ImmutableList.builder();
+        for (String name : names) {
+            final Bit bit = mock(Bit.class);
+            doReturn(name).when(bit).getName();
+            bits.add(bit);
+        }
+
+        final BitsTypeDefinition definition = mock(BitsTypeDefinition.class);
+        doReturn(bits.build()).when(definition).getBits();
+        return definition;
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2018 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.binding.dom.codec.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.opendaylight.mdsal.binding.dom.codec.impl.UnionValueFilterTest.pattern;
+import static org.opendaylight.mdsal.binding.dom.codec.impl.UnionValueFilterTest.stringType;
+
+import com.google.common.collect.ImmutableSet;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.yangtools.concepts.Codec;
+
+public class UnionTypeCodecTest {
+    private UnionTypeCodec codec;
+    private UnionTypeCodec unfilteredCodec;
+
+    @Before
+    public void setUp() throws Exception {
+        final UnionValueFilter nameFilter = UnionValueFilter.create(stringType(null, pattern("^[a-z]+$", false)),
+            true);
+        final UnionValueFilter stringFilter = UnionValueFilter.create(stringType(null), false);
+
+        codec = new UnionTypeCodec(TestUnion.class, ImmutableSet.of(
+            new UnionValueOptionContext(TestUnion.class, TestName.class, TestUnion.class.getMethod("getName"),
+                new TestNameCodec(), nameFilter),
+            new UnionValueOptionContext(TestUnion.class, String.class, TestUnion.class.getMethod("getString"),
+                ValueTypeCodec.NOOP_CODEC, stringFilter)));
+        unfilteredCodec = new UnionTypeCodec(TestUnion.class, ImmutableSet.of(
+            new UnionValueOptionContext(TestUnion.class, TestName.class, TestUnion.class.getMethod("getName"),
+                new TestNameCodec()),
+            new UnionValueOptionContext(TestUnion.class, String.class, TestUnion.class.getMethod("getString"),
+                ValueTypeCodec.NOOP_CODEC)));
+    }
+
+    @Test
+    public void testFilterRejectsFirstMember() {
+        final TestUnion accepted = (TestUnion) codec.deserialize("abc");
+        assertEquals("abc", accepted.getName().getValue());
+        assertNull(accepted.getString());
+
+        // The first member's codec does not check the pattern, hence only the filter can reject the value
+        final TestUnion rejected = (TestUnion) codec.deserialize("ABC");
+        assertNull(rejected.getName());
+        assertEquals("ABC", rejected.getString());
+        assertEquals("ABC", ((TestUnion) unfilteredCodec.deserialize("ABC")).getName().getValue());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNoMemberAcceptsClass() {
+        codec.deserialize(1);
+    }
+
+    public static final class TestName {
+        private final String value;
+
+        public TestName(final String value) {
+            this.value = value;
+        }
+
+        public String getValue() {
+            return value;
+        }
+    }
+
+    public static final class TestUnion {
+        private final TestName name;
+        private final String string;
+
+        public TestUnion(final TestName name) {
+            this.name = name;
+            this.string = null;
+        }
+
+        public TestUnion(final String string) {
+            this.name = null;
+            this.string = string;
+        }
+
+        public TestName getName() {
+            return name;
+        }
+
+        public String getString() {
+            return string;
+        }
+    }
+
+    private static final class TestNameCodec implements Codec<Object, Object> {
+        @Override
+        public Object deserialize(final Object input) {
+            return new TestName((String) input);
+        }
+
+        @Override
+        public Object serialize(final Object input) {
+            return ((TestName) input).getValue();
+        }
+    }
+}
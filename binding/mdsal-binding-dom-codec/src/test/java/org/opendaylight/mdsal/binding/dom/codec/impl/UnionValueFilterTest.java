@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2018 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.binding.dom.codec.impl;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableRangeSet;
+import com.google.common.collect.Range;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.Test;
+import org.opendaylight.yangtools.yang.model.api.TypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.EnumTypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.EnumTypeDefinition.EnumPair;
+import org.opendaylight.yangtools.yang.model.api.type.Int32TypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.LeafrefTypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.ModifierKind;
+import org.opendaylight.yangtools.yang.model.api.type.PatternConstraint;
+import org.opendaylight.yangtools.yang.model.api.type.RangeConstraint;
+import org.opendaylight.yangtools.yang.model.api.type.StringTypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.UnionTypeDefinition;
+
+public class UnionValueFilterTest {
+    @Test
+    public void testEnumeration() {
+        final UnionValueFilter filter = UnionValueFilter.create(enumType("one", "two"), false);
+        assertTrue(filter.acceptsClass(String.class));
+        assertFalse(filter.acceptsClass(Integer.class));
+        assertTrue(filter.accepts("one"));
+        assertTrue(filter.accepts("two"));
+        assertFalse(filter.accepts("three"));
+        assertFalse(filter.accepts(1));
+    }
+
+    @Test
+    public void testPattern() {
+        final StringTypeDefinition type = stringType(null, pattern("^[a-z]+$", false));
+        final UnionValueFilter filter = UnionValueFilter.create(type, true);
+        assertTrue(filter.acceptsClass(String.class));
+        assertTrue(filter.accepts("abc"));
+        assertFalse(filter.accepts("ABC"));
+        assertFalse(filter.accepts(1));
+
+        // Restrictions are checked only if they are enforced by the binding representation
+        assertTrue(UnionValueFilter.create(type, false).accepts("ABC"));
+    }
+
+    @Test
+    public void testInvertedPattern() {
+        final UnionValueFilter filter = UnionValueFilter.create(stringType(null, pattern("^[a-z]+$", true)), true);
+        assertFalse(filter.accepts("abc"));
+        assertTrue(filter.accepts("ABC"));
+    }
+
+    @Test
+    public void testDerivedPattern() {
+        // Patterns of base types are enforced as well
+        final StringTypeDefinition base = stringType(null, pattern("^[a-z]+$", false));
+        final UnionValueFilter filter = UnionValueFilter.create(stringType(base, pattern("^a.*$", false)), true);
+        assertTrue(filter.accepts("abc"));
+        assertFalse(filter.accepts("bcd"));
+        assertFalse(filter.accepts("ABC"));
+    }
+
+    @Test
+    public void testRange() {
+        final UnionValueFilter filter = UnionValueFilter.create(int32Type(1, 10), true);
+        assertTrue(filter.acceptsClass(Integer.class));
+        assertFalse(filter.acceptsClass(Long.class));
+        assertFalse(filter.acceptsClass(String.class));
+        assertTrue(filter.accepts(1));
+        assertTrue(filter.accepts(10));
+        assertFalse(filter.accepts(0));
+        assertFalse(filter.accepts(11));
+        assertFalse(filter.accepts(5L));
+
+        assertTrue(UnionValueFilter.create(int32Type(1, 10), false).accepts(11));
+    }
+
+    @Test
+    public void testNestedUnion() {
+        final UnionTypeDefinition union = mock(UnionTypeDefinition.class);
+        doReturn(ImmutableList.of(enumType("one"), int32Type(1, 10))).when(union).getTypes();
+
+        final UnionValueFilter filter = UnionValueFilter.create(union, true);
+        // Members of a nested union have different value classes, hence no class is rejected outright
+        assertTrue(filter.acceptsClass(Long.class));
+        assertTrue(filter.accepts("one"));
+        assertFalse(filter.accepts("two"));
+        // Restrictions of nested members are not enforced by the nested union's binding representation
+        assertTrue(filter.accepts(11));
+        assertFalse(filter.accepts(11L));
+    }
+
+    @Test
+    public void testUnresolvedType() {
+        final UnionValueFilter filter = UnionValueFilter.create(mock(LeafrefTypeDefinition.class), true);
+        assertTrue(filter.acceptsClass(Long.class));
+        assertTrue(filter.accepts("abc"));
+        assertTrue(UnionValueFilter.ANY.acceptsClass(String.class));
+        assertTrue(UnionValueFilter.ANY.accepts(1));
+    }
+
+    static EnumTypeDefinition enumType(final String... names) {
+        final List<EnumPair> pairs = new ArrayList<>();
+        for (final String name : names) {
+            final EnumPair pair = mock(EnumPair.class);
+            doReturn(name).when(pair).getName();
+            pairs.add(pair);
+        }
+        final EnumTypeDefinition type = mock(EnumTypeDefinition.class);
+        doReturn(pairs).when(type).getValues();
+        return type;
+    }
+
+    static StringTypeDefinition stringType(final StringTypeDefinition baseType, final PatternConstraint... patterns) {
+        final StringTypeDefinition type = mock(StringTypeDefinition.class);
+        doReturn(baseType).when(type).getBaseType();
+        doReturn(ImmutableList.copyOf(patterns)).when(type).getPatternConstraints();
+        doReturn(Optional.empty()).when(type).getLengthConstraint();
+        return type;
+    }
+
+    static PatternConstraint pattern(final String javaPattern, final boolean inverted) {
+        final PatternConstraint pattern = mock(PatternConstraint.class);
+        doReturn(javaPattern).when(pattern).getJavaPatternString();
+        doReturn(inverted ? Optional.of(ModifierKind.INVERT_MATCH) : Optional.empty()).when(pattern).getModifier();
+        return pattern;
+    }
+
+    private static TypeDefinition<?> int32Type(final int min, final int max) {
+        final RangeConstraint<?> range = mock(RangeConstraint.class);
+        doReturn(ImmutableRangeSet.of(Range.closed(min, max))).when(range).getAllowedRanges();
+        final Int32TypeDefinition type = mock(Int32TypeDefinition.class);
+        doReturn(Optional.of(range)).when(type).getRangeConstraint();
+        return type;
+    }
+}
@@ -11,6 +11,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertSame;
 
+import com.google.common.cache.CacheStats;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import java.util.Collection;
@@ -98,6 +99,26 @@ public class CachingCodecTest extends AbstractBindingRuntimeTest {
         verifyListItemSame(first, third);
     }
 
+    @Test
+    public void testCacheStats() {
+        final BindingNormalizedNodeCachingCodec<Top> cachingCodec = createCachingCodec(TopLevelList.class);
+        final NormalizedNode<?, ?> first = cachingCodec.serialize(TOP_TWO_LIST_DATA);
+        cachingCodec.serialize(TOP_THREE_LIST_DATA);
+
+        CacheStats stats = cachingCodec.getCacheStats().get(TopLevelList.class);
+        assertEquals(3, stats.missCount());
+        assertEquals(2, stats.hitCount());
+
+        // Objects backed by a NormalizedNode are not looked up, their backing node is reused
+        final Top deserialized = cachingCodec.deserialize(first);
+        final NormalizedNode<?, ?> second = cachingCodec.serialize(deserialized);
+        verifyListItemSame(first, second);
+
+        stats = cachingCodec.getCacheStats().get(TopLevelList.class);
+        assertEquals(3, stats.missCount());
+        assertEquals(2, stats.hitCount());
+    }
+
     @SafeVarargs
     private final BindingNormalizedNodeCachingCodec<Top> createCachingCodec(
             final Class<? extends DataObject>... classes) {
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2018 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.binding.dom.codec.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.base.Optional;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import javassist.ClassPool;
+import org.junit.Test;
+import org.opendaylight.mdsal.binding.dom.codec.gen.impl.StreamWriterGenerator;
+import org.opendaylight.mdsal.binding.dom.codec.impl.BindingNormalizedNodeCodecRegistry;
+import org.opendaylight.mdsal.binding.dom.codec.util.AugmentationReader;
+import org.opendaylight.mdsal.binding.generator.util.JavassistUtils;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.augment.rev140709.TreeComplexUsesAugment;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.augment.rev140709.TreeComplexUsesAugmentBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.augment.rev140709.TreeLeafOnlyAugment;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.augment.rev140709.complex.from.grouping.ContainerWithUsesBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.augment.rev140709.complex.from.grouping.ListViaUses;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.binding.rev140701.Top;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.binding.rev140701.two.level.list.TopLevelList;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.binding.rev140701.two.level.list.TopLevelListBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.binding.rev140701.two.level.list.TopLevelListKey;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+
+public class CodecDataObjectTest extends AbstractBindingRuntimeTest {
+    private static final TopLevelListKey TOP_FOO_KEY = new TopLevelListKey("foo");
+
+    private BindingNormalizedNodeCodecRegistry registry;
+
+    @Override
+    public void setup() {
+        super.setup();
+        final JavassistUtils utils = JavassistUtils.forClassPool(ClassPool.getDefault());
+        registry = new BindingNormalizedNodeCodecRegistry(StreamWriterGenerator.create(utils));
+        registry.onBindingRuntimeContextUpdated(getRuntimeContext());
+    }
+
+    @Test
+    public void generatedImplementationTest() {
+        final TreeComplexUsesAugment augment = new TreeComplexUsesAugmentBuilder()
+                .setContainerWithUses(new ContainerWithUsesBuilder().setLeafFromGrouping("foo").build())
+                .setListViaUses(Collections.<ListViaUses>emptyList())
+                .build();
+        final TopLevelList manuallyConstructed = new TopLevelListBuilder()
+                .withKey(TOP_FOO_KEY)
+                .addAugmentation(TreeComplexUsesAugment.class, augment)
+                .build();
+
+        final TopLevelList deserialized = deserialize(manuallyConstructed);
+        assertFalse(Proxy.isProxyClass(deserialized.getClass()));
+        assertTrue(deserialized instanceof AugmentationReader);
+        assertSame(TopLevelList.class, deserialized.getImplementedInterface());
+
+        // Key is decoded from the identifier, properties and augmentations from data
+        assertEquals(TOP_FOO_KEY, deserialized.key());
+        assertEquals("foo", deserialized.getName());
+        assertEquals(augment, deserialized.augmentation(TreeComplexUsesAugment.class));
+        assertNull(deserialized.augmentation(TreeLeafOnlyAugment.class));
+
+        assertEquals(manuallyConstructed, deserialized);
+        assertEquals(deserialized, manuallyConstructed);
+
+        final TopLevelList other = deserialize(manuallyConstructed);
+        assertSame(deserialized.getClass(), other.getClass());
+        assertEquals(deserialized, other);
+        assertEquals(deserialized.hashCode(), other.hashCode());
+        assertEquals(deserialized.toString(), other.toString());
+
+        final TopLevelList bar = deserialize(new TopLevelListBuilder().setName("bar").build());
+        assertSame(deserialized.getClass(), bar.getClass());
+        assertNotEquals(deserialized, bar);
+    }
+
+    private TopLevelList deserialize(final TopLevelList data) {
+        final InstanceIdentifier<TopLevelList> path = InstanceIdentifier.builder(Top.class)
+                .child(TopLevelList.class, new TopLevelListKey(data.getName())).build();
+        final NormalizedNode<?, ?> dom = registry.toNormalizedNode(path, data).getValue();
+        return registry.deserializeFunction(path).apply(Optional.of(dom)).get();
+    }
+}
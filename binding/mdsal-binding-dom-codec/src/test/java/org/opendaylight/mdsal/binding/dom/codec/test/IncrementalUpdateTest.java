@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2018 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.binding.dom.codec.test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import javassist.ClassPool;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.mdsal.binding.dom.codec.api.BindingCodecTreeNode;
+import org.opendaylight.mdsal.binding.dom.codec.gen.impl.StreamWriterGenerator;
+import org.opendaylight.mdsal.binding.dom.codec.impl.BindingNormalizedNodeCodecRegistry;
+import org.opendaylight.mdsal.binding.generator.impl.ModuleInfoBackedContext;
+import org.opendaylight.mdsal.binding.generator.util.BindingRuntimeContext;
+import org.opendaylight.mdsal.binding.generator.util.JavassistUtils;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.augment.rev140709.TreeLeafOnlyAugment;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.binding.rev140701.Top;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.binding.rev140701.two.level.list.TopLevelList;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.binding.rev140701.two.level.list.TopLevelListKey;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.opendaylight.yangtools.yang.binding.YangModuleInfo;
+import org.opendaylight.yangtools.yang.binding.util.BindingReflections;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+
+public class IncrementalUpdateTest {
+    private static final InstanceIdentifier<Top> TOP_PATH = InstanceIdentifier.create(Top.class);
+    private static final InstanceIdentifier<TopLevelList> LIST_PATH = TOP_PATH.child(TopLevelList.class,
+        new TopLevelListKey("foo"));
+
+    private BindingNormalizedNodeCodecRegistry registry;
+
+    @Before
+    public void setup() {
+        final JavassistUtils utils = JavassistUtils.forClassPool(ClassPool.getDefault());
+        registry = new BindingNormalizedNodeCodecRegistry(StreamWriterGenerator.create(utils));
+    }
+
+    @Test
+    public void testUnchangedModuleReused() throws Exception {
+        registry.onBindingRuntimeContextUpdated(runtimeContext(BindingReflections.getModuleInfo(Top.class)));
+        final BindingCodecTreeNode<Top> top = registry.getCodecContext().getSubtreeCodec(TOP_PATH);
+        final PathArgument key = registry.toYangInstanceIdentifier(LIST_PATH).getLastPathArgument();
+
+        registry.onBindingRuntimeContextUpdated(runtimeContext(BindingReflections.getModuleInfo(Top.class)));
+        assertSame(top, registry.getCodecContext().getSubtreeCodec(TOP_PATH));
+
+        // The key codec is reused along with its cache
+        assertSame(key, registry.toYangInstanceIdentifier(LIST_PATH).getLastPathArgument());
+    }
+
+    @Test
+    public void testReusedSubtreeRebound() throws Exception {
+        registry.onBindingRuntimeContextUpdated(runtimeContext(BindingReflections.getModuleInfo(Top.class)));
+        final BindingCodecTreeNode<Top> top = registry.getCodecContext().getSubtreeCodec(TOP_PATH);
+        assertFalse(registry.getKeyCacheStats().containsKey(TopLevelList.class));
+
+        registry.onBindingRuntimeContextUpdated(runtimeContext(BindingReflections.getModuleInfo(Top.class)));
+        assertSame(top, registry.getCodecContext().getSubtreeCodec(TOP_PATH));
+
+        // The list is first reached through the reused subtree, its key codec needs to be owned by the current tree
+        registry.toYangInstanceIdentifier(LIST_PATH);
+        assertTrue(registry.getKeyCacheStats().containsKey(TopLevelList.class));
+    }
+
+    @Test
+    public void testAugmentedModuleRebuilt() throws Exception {
+        registry.onBindingRuntimeContextUpdated(runtimeContext(BindingReflections.getModuleInfo(Top.class)));
+        final BindingCodecTreeNode<Top> top = registry.getCodecContext().getSubtreeCodec(TOP_PATH);
+
+        registry.onBindingRuntimeContextUpdated(runtimeContext(BindingReflections.getModuleInfo(Top.class),
+            BindingReflections.getModuleInfo(TreeLeafOnlyAugment.class)));
+        assertNotSame(top, registry.getCodecContext().getSubtreeCodec(TOP_PATH));
+    }
+
+    private static BindingRuntimeContext runtimeContext(final YangModuleInfo... moduleInfos) {
+        final ModuleInfoBackedContext ctx = ModuleInfoBackedContext.create();
+        for (final YangModuleInfo moduleInfo : moduleInfos) {
+            ctx.registerModuleInfo(moduleInfo);
+        }
+        return BindingRuntimeContext.create(ctx, ctx.tryToCreateSchemaContext().get());
+    }
+}
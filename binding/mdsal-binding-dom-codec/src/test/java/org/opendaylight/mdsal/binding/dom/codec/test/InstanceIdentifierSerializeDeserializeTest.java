@@ -10,8 +10,11 @@ package org.opendaylight.mdsal.binding.dom.codec.test;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import com.google.common.cache.CacheStats;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Iterables;
 import javassist.ClassPool;
 import org.junit.Before;
@@ -24,6 +27,15 @@ import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.te
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.binding.rev140701.Top;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.binding.rev140701.two.level.list.TopLevelList;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.binding.rev140701.two.level.list.TopLevelListKey;
+import org.opendaylight.yang.gen.v1.urn.test.opendaylight.mdsal.multi.key.norev.Grouped;
+import org.opendaylight.yang.gen.v1.urn.test.opendaylight.mdsal.multi.key.norev.MultiKeys;
+import org.opendaylight.yang.gen.v1.urn.test.opendaylight.mdsal.multi.key.norev.grouped.grouped.choice.GroupedCase;
+import org.opendaylight.yang.gen.v1.urn.test.opendaylight.mdsal.multi.key.norev.grp.GrpList;
+import org.opendaylight.yang.gen.v1.urn.test.opendaylight.mdsal.multi.key.norev.grp.GrpListKey;
+import org.opendaylight.yang.gen.v1.urn.test.opendaylight.mdsal.multi.key.norev.multi.keys.ThreeKeys;
+import org.opendaylight.yang.gen.v1.urn.test.opendaylight.mdsal.multi.key.norev.multi.keys.ThreeKeysKey;
+import org.opendaylight.yang.gen.v1.urn.test.opendaylight.mdsal.multi.key.norev.multi.keys.TwoKeys;
+import org.opendaylight.yang.gen.v1.urn.test.opendaylight.mdsal.multi.key.norev.multi.keys.TwoKeysKey;
 import org.opendaylight.yang.gen.v1.urn.test.opendaylight.mdsal45.aug.norev.cont.cont.choice.ContAug;
 import org.opendaylight.yang.gen.v1.urn.test.opendaylight.mdsal45.aug.norev.root.RootAug;
 import org.opendaylight.yang.gen.v1.urn.test.opendaylight.mdsal45.base.norev.Cont;
@@ -34,6 +46,7 @@ import org.opendaylight.yang.gen.v1.urn.test.opendaylight.mdsal45.base.norev.grp
 import org.opendaylight.yang.gen.v1.urn.test.opendaylight.mdsal45.base.norev.root.RootBase;
 import org.opendaylight.yangtools.yang.binding.Identifier;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier.IdentifiableItem;
 import org.opendaylight.yangtools.yang.common.QName;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.AugmentationIdentifier;
@@ -63,6 +76,11 @@ public class InstanceIdentifierSerializeDeserializeTest extends AbstractBindingR
             .node(new NodeIdentifierWithPredicates(TOP_LEVEL_LIST_QNAME, TOP_LEVEL_LIST_KEY,
                 TOP_LEVEL_LIST_KEY_VALUE));
 
+    private static final QName ALPHA_QNAME = QName.create(MultiKeys.QNAME, "alpha");
+    private static final QName BETA_QNAME = QName.create(MultiKeys.QNAME, "beta");
+    private static final QName GAMMA_QNAME = QName.create(MultiKeys.QNAME, "gamma");
+    private static final QName ZETA_QNAME = QName.create(MultiKeys.QNAME, "zeta");
+
     private BindingNormalizedNodeCodecRegistry registry;
 
     @Override
@@ -192,4 +210,80 @@ public class InstanceIdentifierSerializeDeserializeTest extends AbstractBindingR
                 NodeIdentifier.create(GrpCont.QNAME.withModule(RootAug.QNAME.getModule()))));
         assertEquals(InstanceIdentifier.builder(RootAug.class, GrpCont.class).build(), rootAug);
     }
+
+    @Test
+    public void testKeyInterning() {
+        final PathArgument fromBinding = registry.toYangInstanceIdentifier(BA_TOP_LEVEL_LIST).getLastPathArgument();
+        assertSame(fromBinding, registry.toYangInstanceIdentifier(BA_TOP_LEVEL_LIST).getLastPathArgument());
+
+        // The identifier created by the codec is reused for the key, even though the DOM identifier is not the same
+        final InstanceIdentifier<?> fromDom = registry.fromYangInstanceIdentifier(BI_TOP_LEVEL_LIST_1_PATH);
+        assertEquals(BA_TOP_LEVEL_LIST, fromDom);
+        assertSame(fromBinding, registry.toYangInstanceIdentifier(fromDom).getLastPathArgument());
+
+        final CacheStats stats = registry.getKeyCacheStats().get(TopLevelList.class);
+        assertTrue(stats.hitCount() >= 2);
+    }
+
+    @Test
+    public void testTwoKeysRoundTrip() {
+        // Binding constructor arguments are in alphabetical order, whereas the keys are defined as "zeta alpha"
+        final InstanceIdentifier<TwoKeys> bindingId = InstanceIdentifier.create(MultiKeys.class)
+                .child(TwoKeys.class, new TwoKeysKey("a", "z"));
+        final YangInstanceIdentifier domId = registry.toYangInstanceIdentifier(bindingId);
+        final PathArgument lastArg = domId.getLastPathArgument();
+        assertTrue(lastArg instanceof NodeIdentifierWithPredicates);
+        assertEquals(TwoKeys.QNAME, lastArg.getNodeType());
+        assertEquals(ImmutableMap.of(ZETA_QNAME, "z", ALPHA_QNAME, "a"),
+            ((NodeIdentifierWithPredicates) lastArg).getKeyValues());
+        assertEquals(bindingId, registry.fromYangInstanceIdentifier(domId));
+
+        final InstanceIdentifier<?> fromDom = registry.fromYangInstanceIdentifier(
+            YangInstanceIdentifier.create(NodeIdentifier.create(MultiKeys.QNAME), NodeIdentifier.create(TwoKeys.QNAME),
+                new NodeIdentifierWithPredicates(TwoKeys.QNAME, ImmutableMap.of(ZETA_QNAME, "z2", ALPHA_QNAME, "a2"))));
+        final TwoKeysKey key = (TwoKeysKey) ((IdentifiableItem<?, ?>) Iterables.getLast(fromDom.getPathArguments()))
+                .getKey();
+        assertEquals("a2", key.getAlpha());
+        assertEquals("z2", key.getZeta());
+        assertEquals(fromDom, registry.fromYangInstanceIdentifier(registry.toYangInstanceIdentifier(fromDom)));
+    }
+
+    @Test
+    public void testThreeKeysRoundTrip() {
+        // Binding constructor arguments are in alphabetical order, whereas the keys are defined as "gamma alpha beta"
+        final InstanceIdentifier<ThreeKeys> bindingId = InstanceIdentifier.create(MultiKeys.class)
+                .child(ThreeKeys.class, new ThreeKeysKey("a", "b", "g"));
+        final YangInstanceIdentifier domId = registry.toYangInstanceIdentifier(bindingId);
+        final PathArgument lastArg = domId.getLastPathArgument();
+        assertTrue(lastArg instanceof NodeIdentifierWithPredicates);
+        assertEquals(ThreeKeys.QNAME, lastArg.getNodeType());
+        assertEquals(ImmutableMap.of(GAMMA_QNAME, "g", ALPHA_QNAME, "a", BETA_QNAME, "b"),
+            ((NodeIdentifierWithPredicates) lastArg).getKeyValues());
+        assertEquals(bindingId, registry.fromYangInstanceIdentifier(domId));
+
+        final InstanceIdentifier<?> fromDom = registry.fromYangInstanceIdentifier(
+            YangInstanceIdentifier.create(NodeIdentifier.create(MultiKeys.QNAME),
+                NodeIdentifier.create(ThreeKeys.QNAME), new NodeIdentifierWithPredicates(ThreeKeys.QNAME,
+                    ImmutableMap.of(GAMMA_QNAME, "g2", ALPHA_QNAME, "a2", BETA_QNAME, "b2"))));
+        final ThreeKeysKey key = (ThreeKeysKey) ((IdentifiableItem<?, ?>) Iterables.getLast(
+            fromDom.getPathArguments())).getKey();
+        assertEquals("a2", key.getAlpha());
+        assertEquals("b2", key.getBeta());
+        assertEquals("g2", key.getGamma());
+        assertEquals(fromDom, registry.fromYangInstanceIdentifier(registry.toYangInstanceIdentifier(fromDom)));
+    }
+
+    @Test
+    public void testCaseQualifiedKeyNotInterned() {
+        final GrpListKey key = new GrpListKey("foo");
+        final InstanceIdentifier<GrpList> caseQualified = InstanceIdentifier.builder(Grouped.class)
+                .child(GroupedCase.class, GrpList.class, key).build();
+        final YangInstanceIdentifier domId = registry.toYangInstanceIdentifier(caseQualified);
+
+        // Deserialization must not return the case-qualified item cached by serialization
+        final InstanceIdentifier.PathArgument lastArg = Iterables.getLast(
+            registry.fromYangInstanceIdentifier(domId).getPathArguments());
+        assertEquals(IdentifiableItem.of(GrpList.class, key), lastArg);
+        assertFalse(lastArg.getCaseType().isPresent());
+    }
 }
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2018 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.binding.dom.codec.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import com.google.common.base.Optional;
+import com.google.common.collect.ImmutableList;
+import java.util.Collections;
+import javassist.ClassPool;
+import org.junit.Test;
+import org.opendaylight.mdsal.binding.dom.codec.gen.impl.StreamWriterGenerator;
+import org.opendaylight.mdsal.binding.dom.codec.impl.BindingNormalizedNodeCodecRegistry;
+import org.opendaylight.mdsal.binding.generator.util.JavassistUtils;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.augment.rev140709.TreeComplexUsesAugment;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.augment.rev140709.TreeComplexUsesAugmentBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.augment.rev140709.complex.from.grouping.ContainerWithUsesBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.augment.rev140709.complex.from.grouping.ListViaUses;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.binding.rev140701.Top;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.binding.rev140701.TopBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.binding.rev140701.two.level.list.TopLevelList;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.binding.rev140701.two.level.list.TopLevelListBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.binding.rev140701.two.level.list.TopLevelListKey;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.AugmentationNode;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.DataContainerChild;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+
+public class NormalizedNodeReuseTest extends AbstractBindingRuntimeTest {
+    private static final NodeIdentifier TOP_LEVEL_LIST_ARG = new NodeIdentifier(TopLevelList.QNAME);
+    private static final InstanceIdentifier<Top> TOP_PATH = InstanceIdentifier.create(Top.class);
+    private static final TopLevelListKey TOP_FOO_KEY = new TopLevelListKey("foo");
+    private static final TopLevelListKey TOP_BAR_KEY = new TopLevelListKey("bar");
+    private static final InstanceIdentifier<TopLevelList> TOP_FOO_PATH = TOP_PATH.child(TopLevelList.class,
+        TOP_FOO_KEY);
+
+    private BindingNormalizedNodeCodecRegistry registry;
+
+    @Override
+    public void setup() {
+        super.setup();
+        final JavassistUtils utils = JavassistUtils.forClassPool(ClassPool.getDefault());
+        registry = new BindingNormalizedNodeCodecRegistry(StreamWriterGenerator.create(utils));
+        registry.onBindingRuntimeContextUpdated(getRuntimeContext());
+    }
+
+    @Test
+    public void testRootReuse() {
+        final Top top = new TopBuilder().setTopLevelList(ImmutableList.of(
+            new TopLevelListBuilder().withKey(TOP_FOO_KEY).build(),
+            new TopLevelListBuilder().withKey(TOP_BAR_KEY).build())).build();
+        final NormalizedNode<?, ?> dom = registry.toNormalizedNode(TOP_PATH, top).getValue();
+        final Top lazy = deserialize(TOP_PATH, dom);
+
+        assertSame(dom, registry.toNormalizedNode(TOP_PATH, lazy).getValue());
+    }
+
+    @Test
+    public void testNestedReuse() {
+        final Top top = new TopBuilder().setTopLevelList(ImmutableList.of(
+            new TopLevelListBuilder().withKey(TOP_FOO_KEY).build(),
+            new TopLevelListBuilder().withKey(TOP_BAR_KEY).build())).build();
+        final ContainerNode dom = (ContainerNode) registry.toNormalizedNode(TOP_PATH, top).getValue();
+        final Top lazy = deserialize(TOP_PATH, dom);
+
+        // A freshly-built container holding lazy list entries
+        final Top rebuilt = new TopBuilder().setTopLevelList(lazy.getTopLevelList()).build();
+        final ContainerNode rebuiltDom = (ContainerNode) registry.toNormalizedNode(TOP_PATH, rebuilt).getValue();
+        assertNotSame(dom, rebuiltDom);
+        assertEquals(dom, rebuiltDom);
+
+        final MapNode list = (MapNode) dom.getChild(TOP_LEVEL_LIST_ARG).get();
+        final MapNode rebuiltList = (MapNode) rebuiltDom.getChild(TOP_LEVEL_LIST_ARG).get();
+        for (final MapEntryNode entry : list.getValue()) {
+            assertSame(entry, rebuiltList.getChild(entry.getIdentifier()).get());
+        }
+    }
+
+    @Test
+    public void testAugmentationReuse() {
+        final TopLevelList foo = new TopLevelListBuilder().withKey(TOP_FOO_KEY)
+                .addAugmentation(TreeComplexUsesAugment.class, new TreeComplexUsesAugmentBuilder()
+                    .setContainerWithUses(new ContainerWithUsesBuilder().setLeafFromGrouping("foo").build())
+                    .setListViaUses(Collections.<ListViaUses>emptyList())
+                    .build())
+                .build();
+        final MapEntryNode dom = (MapEntryNode) registry.toNormalizedNode(TOP_FOO_PATH, foo).getValue();
+        final TopLevelList lazy = deserialize(TOP_FOO_PATH, dom);
+
+        // A freshly-built list entry holding a lazy augmentation
+        final TopLevelList rebuilt = new TopLevelListBuilder().withKey(TOP_FOO_KEY)
+                .addAugmentation(TreeComplexUsesAugment.class, lazy.augmentation(TreeComplexUsesAugment.class))
+                .build();
+        final MapEntryNode rebuiltDom = (MapEntryNode) registry.toNormalizedNode(TOP_FOO_PATH, rebuilt).getValue();
+        assertNotSame(dom, rebuiltDom);
+        assertEquals(dom, rebuiltDom);
+
+        final AugmentationNode augmentation = findAugmentation(dom);
+        assertSame(augmentation, rebuiltDom.getChild(augmentation.getIdentifier()).get());
+    }
+
+    private <T extends DataObject> T deserialize(final InstanceIdentifier<T> path,
+            final NormalizedNode<?, ?> dom) {
+        return registry.deserializeFunction(path).apply(Optional.of(dom)).get();
+    }
+
+    private static AugmentationNode findAugmentation(final MapEntryNode entry) {
+        for (final DataContainerChild<?, ?> child : entry.getValue()) {
+            if (child instanceof AugmentationNode) {
+                return (AugmentationNode) child;
+            }
+        }
+        throw new AssertionError("No augmentation in " + entry);
+    }
+}
@@ -82,4 +82,23 @@ public class UnionTypeTest extends AbstractBindingRuntimeTest {
         IpAddressBinary desIpAddress = ((Root) rootObj).getIpAddress();
         assertEquals(ipAddress, desIpAddress);
     }
+
+    @Test
+    public void bug5446Ipv6Test() {
+        // 16 bytes do not match ipv4-address-binary's length, hence the union has to pick its second member
+        byte[] bytes = new byte[16];
+        bytes[0] = (byte) 0xff;
+        bytes[15] = 1;
+        IpAddressBinary ipAddress = IpAddressBinaryBuilder.getDefaultInstance(bytes);
+        Root root = new RootBuilder().setIpAddress(ipAddress).build();
+        NormalizedNode<?, ?> rootNode = registry.toNormalizedNode(InstanceIdentifier.builder(Root.class).build(), root)
+                .getValue();
+
+        Entry<InstanceIdentifier<?>, DataObject> rootEntry = registry.fromNormalizedNode(
+                YangInstanceIdentifier.of(rootNode.getNodeType()), rootNode);
+
+        IpAddressBinary desIpAddress = ((Root) rootEntry.getValue()).getIpAddress();
+        assertEquals(ipAddress, desIpAddress);
+        assertEquals(16, desIpAddress.getIpv6AddressBinary().getValue().length);
+    }
 }
@@ -10,8 +10,11 @@ package org.opendaylight.mdsal.binding.generator.util;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkState;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
+import com.google.common.base.Stopwatch;
+import com.google.common.base.Throwables;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
@@ -19,6 +22,7 @@ import com.google.common.collect.BiMap;
 import com.google.common.collect.HashBiMap;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Iterables;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import java.util.AbstractMap.SimpleEntry;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -81,6 +85,23 @@ public final class BindingRuntimeContext implements Immutable {
     private static final Logger LOG = LoggerFactory.getLogger(BindingRuntimeContext.class);
     private static final char DOT = '.';
 
+    /*
+     * Runtime types refer to schema nodes of a particular SchemaContext, hence they cannot be shared across contexts.
+     * Multiple runtime contexts are typically created for each SchemaContext, though, each of them with a different
+     * class loading strategy. Sharing the types means the type generator runs only once for each SchemaContext,
+     * with concurrent requests for the same context waiting for the first one to complete.
+     */
+    private static final LoadingCache<SchemaContext, BindingRuntimeTypes> RUNTIME_TYPES = CacheBuilder.newBuilder()
+            .weakKeys().build(new CacheLoader<SchemaContext, BindingRuntimeTypes>() {
+                @Override
+                public BindingRuntimeTypes load(final SchemaContext key) {
+                    final Stopwatch sw = Stopwatch.createStarted();
+                    final BindingRuntimeTypes ret = new BindingGeneratorImpl().generateTypeMapping(key);
+                    LOG.debug("Generated runtime types for {} modules in {}", key.getModules().size(), sw);
+                    return ret;
+                }
+            });
+
     private final BindingRuntimeTypes runtimeTypes;
     private final ClassLoadingStrategy strategy;
     private final SchemaContext schemaContext;
@@ -102,7 +123,12 @@ public final class BindingRuntimeContext implements Immutable {
     private BindingRuntimeContext(final ClassLoadingStrategy strategy, final SchemaContext schema) {
         this.strategy = strategy;
         this.schemaContext = schema;
-        runtimeTypes = new BindingGeneratorImpl().generateTypeMapping(schema);
+        try {
+            runtimeTypes = RUNTIME_TYPES.getUnchecked(schema);
+        } catch (UncheckedExecutionException e) {
+            Throwables.throwIfUnchecked(e.getCause());
+            throw e;
+        }
     }
 
     /**
@@ -135,6 +161,11 @@ public final class BindingRuntimeContext implements Immutable {
         return schemaContext;
     }
 
+    @VisibleForTesting
+    BindingRuntimeTypes getRuntimeTypes() {
+        return runtimeTypes;
+    }
+
     /**
      * Returns schema of augmentation.
      *
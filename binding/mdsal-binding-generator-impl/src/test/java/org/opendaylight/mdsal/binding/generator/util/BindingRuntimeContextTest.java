@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2018 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.binding.generator.util;
+
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+import org.opendaylight.mdsal.binding.generator.impl.GeneratedClassLoadingStrategy;
+import org.opendaylight.yangtools.yang.model.api.SchemaContext;
+import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
+
+public class BindingRuntimeContextTest {
+    @Test
+    public void testRuntimeTypesSharedAcrossStrategies() {
+        final SchemaContext schemaContext = YangParserTestUtils.parseYangResource("/list-composite-key.yang");
+        final BindingRuntimeContext tccl = BindingRuntimeContext.create(
+            GeneratedClassLoadingStrategy.getTCCLClassLoadingStrategy(), schemaContext);
+        final BindingRuntimeContext alwaysFail = BindingRuntimeContext.create(
+            GeneratedClassLoadingStrategy.getAlwaysFailClassLoadingStrategy(), schemaContext);
+
+        assertNotSame(tccl.getStrategy(), alwaysFail.getStrategy());
+        assertSame(tccl.getRuntimeTypes(), alwaysFail.getRuntimeTypes());
+    }
+}
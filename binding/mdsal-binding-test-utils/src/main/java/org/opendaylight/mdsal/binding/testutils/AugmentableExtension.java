@@ -20,7 +20,7 @@ import org.opendaylight.yangtools.yang.binding.Augmentation;
  * Adds an {@link #getAugmentations(Augmentable)} method to {@link Augmentable}.
  *
  * <p>Note that the generated *Impl classes in the *Builder do not implement
- * {@link AugmentationReader}, only the LazyDataObject (package local) does.
+ * {@link AugmentationReader}, only the objects produced by the binding codec do.
  *
  * @see Augmentable
  * @see AugmentationReader
@@ -12,15 +12,11 @@ import static java.util.Objects.requireNonNull;
 
 import com.google.common.base.MoreObjects;
 import com.google.common.base.MoreObjects.ToStringHelper;
-import com.google.common.collect.ImmutableCollection;
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.Iterables;
 import java.io.IOException;
 import java.io.Serializable;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -65,11 +61,10 @@ public class InstanceIdentifier<T extends DataObject> implements Path<InstanceId
     private static final Field PATHARGUMENTS_FIELD;
     private static final long serialVersionUID = 2L;
     /*
-     * Protected to differentiate internal and external access. Internal
-     * access is required never to modify the contents. References passed
-     * to outside entities have to be wrapped in an unmodifiable view.
+     * Protected to differentiate internal and external access. This is a flat list, so that iteration, indexed access
+     * and comparison do not need to walk a chain of nested views.
      */
-    protected final transient Iterable<PathArgument> pathArguments;
+    protected final transient ImmutableList<PathArgument> pathArguments;
     private final Class<T> targetType;
     private final boolean wildcarded;
     private final int hash;
@@ -85,8 +80,8 @@ public class InstanceIdentifier<T extends DataObject> implements Path<InstanceId
         PATHARGUMENTS_FIELD = f;
     }
 
-    InstanceIdentifier(final Class<T> type, final Iterable<PathArgument> pathArguments, final boolean wildcarded,
-            final int hash) {
+    InstanceIdentifier(final Class<T> type, final ImmutableList<PathArgument> pathArguments,
+            final boolean wildcarded, final int hash) {
         this.pathArguments = requireNonNull(pathArguments);
         this.targetType = requireNonNull(type);
         this.wildcarded = wildcarded;
@@ -108,7 +103,7 @@ public class InstanceIdentifier<T extends DataObject> implements Path<InstanceId
      * @return Path argument chain. Immutable and does not contain nulls.
      */
     public final Iterable<PathArgument> getPathArguments() {
-        return Iterables.unmodifiableIterable(pathArguments);
+        return pathArguments;
     }
 
     /**
@@ -162,7 +157,7 @@ public class InstanceIdentifier<T extends DataObject> implements Path<InstanceId
         }
 
         // Everything checks out so far, so we have to do a full equals
-        return Iterables.elementsEqual(pathArguments, other.pathArguments);
+        return pathArguments.equals(other.pathArguments);
     }
 
     /**
@@ -188,7 +183,7 @@ public class InstanceIdentifier<T extends DataObject> implements Path<InstanceId
      * @return ToStringHelper instance which was passed in
      */
     protected ToStringHelper addToStringAttributes(final ToStringHelper toStringHelper) {
-        return toStringHelper.add("targetType", targetType).add("path", Iterables.toString(pathArguments));
+        return toStringHelper.add("targetType", targetType).add("path", pathArguments);
     }
 
     /**
@@ -214,16 +209,14 @@ public class InstanceIdentifier<T extends DataObject> implements Path<InstanceId
      *         is not present.
      */
     public final <I extends DataObject> InstanceIdentifier<I> firstIdentifierOf(final Class<I> type) {
-        int count = 1;
-        for (final PathArgument a : pathArguments) {
-            if (type.equals(a.getType())) {
+        final int size = pathArguments.size();
+        for (int i = 0; i < size; ++i) {
+            if (type.equals(pathArguments.get(i).getType())) {
                 @SuppressWarnings("unchecked")
                 final InstanceIdentifier<I> ret = (InstanceIdentifier<I>) internalCreate(
-                        Iterables.limit(pathArguments, count));
+                        pathArguments.subList(0, i + 1));
                 return ret;
             }
-
-            ++count;
         }
 
         return null;
@@ -256,10 +249,12 @@ public class InstanceIdentifier<T extends DataObject> implements Path<InstanceId
      */
     public final <N extends Identifiable<K> & DataObject, K extends Identifier<N>> K firstKeyOf(
             final Class<N> listItem) {
-        for (final PathArgument i : pathArguments) {
-            if (listItem.equals(i.getType())) {
+        final int size = pathArguments.size();
+        for (int i = 0; i < size; ++i) {
+            final PathArgument arg = pathArguments.get(i);
+            if (listItem.equals(arg.getType())) {
                 @SuppressWarnings("unchecked")
-                final K ret = ((IdentifiableItem<N, K>)i).getKey();
+                final K ret = ((IdentifiableItem<N, K>)arg).getKey();
                 return ret;
             }
         }
@@ -291,15 +286,13 @@ public class InstanceIdentifier<T extends DataObject> implements Path<InstanceId
     public final boolean contains(final InstanceIdentifier<? extends DataObject> other) {
         requireNonNull(other, "other should not be null");
 
-        final Iterator<?> lit = pathArguments.iterator();
-        final Iterator<?> oit = other.pathArguments.iterator();
-
-        while (lit.hasNext()) {
-            if (!oit.hasNext()) {
-                return false;
-            }
+        final int size = pathArguments.size();
+        if (size > other.pathArguments.size()) {
+            return false;
+        }
 
-            if (!lit.next().equals(oit.next())) {
+        for (int i = 0; i < size; ++i) {
+            if (!pathArguments.get(i).equals(other.pathArguments.get(i))) {
                 return false;
             }
         }
@@ -318,16 +311,14 @@ public class InstanceIdentifier<T extends DataObject> implements Path<InstanceId
     public final boolean containsWildcarded(final InstanceIdentifier<?> other) {
         requireNonNull(other, "other should not be null");
 
-        final Iterator<PathArgument> lit = pathArguments.iterator();
-        final Iterator<PathArgument> oit = other.pathArguments.iterator();
-
-        while (lit.hasNext()) {
-            if (!oit.hasNext()) {
-                return false;
-            }
+        final int size = pathArguments.size();
+        if (size > other.pathArguments.size()) {
+            return false;
+        }
 
-            final PathArgument la = lit.next();
-            final PathArgument oa = oit.next();
+        for (int i = 0; i < size; ++i) {
+            final PathArgument la = pathArguments.get(i);
+            final PathArgument oa = other.pathArguments.get(i);
 
             if (!la.getType().equals(oa.getType())) {
                 return false;
@@ -341,8 +332,16 @@ public class InstanceIdentifier<T extends DataObject> implements Path<InstanceId
     }
 
     private <N extends DataObject> InstanceIdentifier<N> childIdentifier(final AbstractPathArgument<N> arg) {
-        return trustedCreate(arg, Iterables.concat(pathArguments, Collections.singleton(arg)),
-            HashCodeBuilder.nextHashCode(hash, arg), isWildcarded());
+        return trustedCreate(arg, append(pathArguments, arg), HashCodeBuilder.nextHashCode(hash, arg),
+            isWildcarded());
+    }
+
+    private static ImmutableList<PathArgument> append(final ImmutableList<PathArgument> base,
+            final PathArgument arg) {
+        final int size = base.size();
+        final PathArgument[] args = base.toArray(new PathArgument[size + 1]);
+        args[size] = arg;
+        return ImmutableList.copyOf(args);
     }
 
     /**
@@ -517,22 +516,21 @@ public class InstanceIdentifier<T extends DataObject> implements Path<InstanceId
 
     /**
      * Create an instance identifier for a very specific object type. This method implements {@link #create(Iterable)}
-     * semantics, except it is used by internal callers, which have assured that the argument is an immutable Iterable.
+     * semantics, except it is used by internal callers, which have assured that the argument is an immutable List.
      *
      * @param pathArguments The path to a specific node in the data tree
      * @return InstanceIdentifier instance
      * @throws IllegalArgumentException if pathArguments is empty or contains a null element.
      * @throws NullPointerException if {@code pathArguments} is null
      */
-    private static InstanceIdentifier<?> internalCreate(final Iterable<PathArgument> pathArguments) {
-        final Iterator<? extends PathArgument> it = requireNonNull(pathArguments, "pathArguments may not be null")
-                .iterator();
+    private static InstanceIdentifier<?> internalCreate(final ImmutableList<PathArgument> pathArguments) {
+        final int size = requireNonNull(pathArguments, "pathArguments may not be null").size();
         final HashCodeBuilder<PathArgument> hashBuilder = new HashCodeBuilder<>();
         boolean wildcard = false;
         PathArgument arg = null;
 
-        while (it.hasNext()) {
-            arg = it.next();
+        for (int i = 0; i < size; ++i) {
+            arg = pathArguments.get(i);
             checkArgument(arg != null, "pathArguments may not contain null elements");
 
             // TODO: sanity check ChildOf<>;
@@ -563,12 +561,7 @@ public class InstanceIdentifier<T extends DataObject> implements Path<InstanceId
      *         contains a null element.
      */
     public static InstanceIdentifier<?> create(final Iterable<? extends PathArgument> pathArguments) {
-        if (pathArguments instanceof ImmutableCollection<?>) {
-            @SuppressWarnings("unchecked")
-            final Iterable<PathArgument> immutableArguments = (Iterable<PathArgument>) pathArguments;
-            return internalCreate(immutableArguments);
-        }
-
+        // This is a no-op for ImmutableLists
         return internalCreate(ImmutableList.copyOf(pathArguments));
     }
 
@@ -610,7 +603,7 @@ public class InstanceIdentifier<T extends DataObject> implements Path<InstanceId
 
     @SuppressWarnings({ "unchecked", "rawtypes" })
     static <N extends DataObject> InstanceIdentifier<N> trustedCreate(final PathArgument arg,
-            final Iterable<PathArgument> pathArguments, final int hash, boolean wildcarded) {
+            final ImmutableList<PathArgument> pathArguments, final int hash, boolean wildcarded) {
         if (Identifiable.class.isAssignableFrom(arg.getType()) && !wildcarded) {
             Identifier<?> key = null;
             if (arg instanceof IdentifiableItem) {
@@ -961,7 +954,7 @@ public class InstanceIdentifier<T extends DataObject> implements Path<InstanceId
 
     private void writeObject(final java.io.ObjectOutputStream out) throws IOException {
         out.defaultWriteObject();
-        out.writeInt(Iterables.size(pathArguments));
+        out.writeInt(pathArguments.size());
         for (Object o : pathArguments) {
             out.writeObject(o);
         }
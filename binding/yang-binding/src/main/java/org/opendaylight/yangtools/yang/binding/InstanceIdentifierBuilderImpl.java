@@ -9,7 +9,6 @@ package org.opendaylight.yangtools.yang.binding;
 
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.Iterables;
 import java.util.Objects;
 import org.opendaylight.yangtools.util.HashCodeBuilder;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier.IdentifiableItem;
@@ -20,7 +19,7 @@ import org.opendaylight.yangtools.yang.binding.InstanceIdentifier.PathArgument;
 final class InstanceIdentifierBuilderImpl<T extends DataObject> implements InstanceIdentifierBuilder<T> {
     private final ImmutableList.Builder<PathArgument> pathBuilder = ImmutableList.builder();
     private final HashCodeBuilder<PathArgument> hashBuilder;
-    private final Iterable<? extends PathArgument> basePath;
+    private final ImmutableList<PathArgument> basePath;
     private boolean wildcard = false;
     private PathArgument arg = null;
 
@@ -29,10 +28,14 @@ final class InstanceIdentifierBuilderImpl<T extends DataObject> implements Insta
         this.basePath = null;
     }
 
-    InstanceIdentifierBuilderImpl(final PathArgument item, final Iterable<? extends PathArgument> pathArguments,
+    InstanceIdentifierBuilderImpl(final PathArgument item, final ImmutableList<PathArgument> pathArguments,
             final int hash, final boolean wildcard) {
         this.hashBuilder = new HashCodeBuilder<>(hash);
         this.basePath = pathArguments;
+        // Start with the base path, so the resulting identifier ends up with a flat list
+        if (pathArguments != null) {
+            this.pathBuilder.addAll(pathArguments);
+        }
         this.wildcard = wildcard;
         this.arg = item;
     }
@@ -99,16 +102,9 @@ final class InstanceIdentifierBuilderImpl<T extends DataObject> implements Insta
     public InstanceIdentifier<T> build() {
         Preconditions.checkState(arg != null, "No path arguments present");
 
-        final Iterable<PathArgument> pathArguments;
-        if (basePath == null) {
-            pathArguments = pathBuilder.build();
-        } else {
-            pathArguments = Iterables.concat(basePath, pathBuilder.build());
-        }
-
         @SuppressWarnings("unchecked")
-        final InstanceIdentifier<T> ret = (InstanceIdentifier<T>) InstanceIdentifier.trustedCreate(arg, pathArguments,
-            hashBuilder.build(), wildcard);
+        final InstanceIdentifier<T> ret = (InstanceIdentifier<T>) InstanceIdentifier.trustedCreate(arg,
+            pathBuilder.build(), hashBuilder.build(), wildcard);
         return ret;
     }
 
@@ -7,6 +7,8 @@
  */
 package org.opendaylight.yangtools.yang.binding;
 
+import com.google.common.collect.ImmutableList;
+
 /**
  * An {@link InstanceIdentifier}, which has a list key attached at its last path element.
  *
@@ -18,8 +20,8 @@ public class KeyedInstanceIdentifier<T extends Identifiable<K> & DataObject, K e
     private static final long serialVersionUID = 1L;
     private final K key;
 
-    KeyedInstanceIdentifier(final Class<T> type, final Iterable<PathArgument> pathArguments, final boolean wildcarded,
-        final int hash, final K key) {
+    KeyedInstanceIdentifier(final Class<T> type, final ImmutableList<PathArgument> pathArguments,
+        final boolean wildcarded, final int hash, final K key) {
         super(type, pathArguments, wildcarded, hash);
         this.key = key;
     }
@@ -21,7 +21,9 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.lang.reflect.Field;
 import org.junit.Test;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier.IdentifiableItem;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier.InstanceIdentifierBuilder;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier.Item;
 import org.opendaylight.yangtools.yang.binding.test.mock.FooChild;
 import org.opendaylight.yangtools.yang.binding.test.mock.InstantiatedFoo;
 import org.opendaylight.yangtools.yang.binding.test.mock.Node;
@@ -242,6 +244,27 @@ public class InstanceIdentifierTest {
         assertTrue(iib3.equals(iib1));
     }
 
+    @Test
+    public void childChainTest() {
+        final InstanceIdentifier<Nodes> nodes = InstanceIdentifier.create(Nodes.class);
+        final InstanceIdentifier<Node> node = nodes.child(Node.class, new NodeKey(10));
+        final InstanceIdentifier<NodeChild> child = node.child(NodeChild.class, new NodeChildKey(20));
+        final InstanceIdentifier<NodeChild> built = node.builder().child(NodeChild.class, new NodeChildKey(20))
+                .build();
+
+        assertEquals(built, child);
+        assertEquals(built.hashCode(), child.hashCode());
+        assertEquals(ImmutableList.of(Item.of(Nodes.class), IdentifiableItem.of(Node.class, new NodeKey(10)),
+            IdentifiableItem.of(NodeChild.class, new NodeChildKey(20))), child.getPathArguments());
+        assertEquals(child.getPathArguments(), built.getPathArguments());
+
+        assertTrue(nodes.contains(child));
+        assertTrue(node.contains(child));
+        assertFalse(child.contains(node));
+        assertEquals(node, child.firstIdentifierOf(Node.class));
+        assertEquals(new NodeKey(10), child.firstKeyOf(Node.class));
+    }
+
     @Test
     public void hashCodeTest() {
         final InstanceIdentifierBuilder<DataObject> builder1 =  InstanceIdentifier.create(DataObject.class).builder();
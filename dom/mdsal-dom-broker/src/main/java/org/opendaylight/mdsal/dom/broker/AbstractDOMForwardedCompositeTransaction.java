@@ -10,6 +10,7 @@ package org.opendaylight.mdsal.dom.broker;
 
 import com.google.common.base.Preconditions;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
 import org.opendaylight.mdsal.common.api.AsyncTransaction;
 import org.opendaylight.mdsal.dom.spi.store.DOMStoreTransaction;
@@ -74,6 +75,14 @@ abstract class AbstractDOMForwardedCompositeTransaction<K, T extends DOMStoreTra
         return backingTxs.values();
     }
 
+    /**
+     * Returns immutable Map of all subtransactions, keyed by their distinguisher.
+     *
+     */
+    protected Map<K, T> getSubtransactionMap() {
+        return Collections.unmodifiableMap(backingTxs);
+    }
+
     @Override
     public Object getIdentifier() {
         return identifier;
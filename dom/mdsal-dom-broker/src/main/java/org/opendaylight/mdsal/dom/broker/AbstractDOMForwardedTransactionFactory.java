@@ -9,7 +9,6 @@ package org.opendaylight.mdsal.dom.broker;
 
 import com.google.common.base.Preconditions;
 import com.google.common.util.concurrent.FluentFuture;
-import java.util.Collection;
 import java.util.EnumMap;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -69,14 +68,15 @@ abstract class AbstractDOMForwardedTransactionFactory<T extends DOMStoreTransact
      * created by this factory.
      *
      * @param transaction Transaction on which {@link DOMDataTreeWriteTransaction#commit()} was invoked.
-     * @param cohorts Iteratable of cohorts for subtransactions associated with the transaction
+     * @param cohorts Map of cohorts for subtransactions associated with the transaction, keyed by the datastore
+     *                they are being committed to
      *        being committed.
      * @return a FluentFuture. if commit coordination on cohorts finished successfully,
      *         a CommitInfo is returned from the Future, On failure,
      *         the Future fails with a {@link TransactionCommitFailedException}.
      */
     protected abstract FluentFuture<? extends CommitInfo> commit(DOMDataTreeWriteTransaction transaction,
-            Collection<DOMStoreThreePhaseCommitCohort> cohorts);
+            Map<LogicalDatastoreType, DOMStoreThreePhaseCommitCohort> cohorts);
 
     /**
      * Creates a new composite read-only transaction.
@@ -141,7 +141,7 @@ abstract class AbstractDOMForwardedTransactionFactory<T extends DOMStoreTransact
      * is invoked on selected subtransaction.
      * <li> {@link DOMDataTreeWriteTransaction#commit()} - results in invoking
      * {@link DOMStoreWriteTransaction#ready()}, gathering all resulting cohorts and then invoking
-     * finalized implementation callback {@link #commit(DOMDataTreeWriteTransaction, Collection)} with
+     * finalized implementation callback {@link #commit(DOMDataTreeWriteTransaction, Map)} with
      * transaction which was commited and gathered results.</li>
      * </ul>
      *
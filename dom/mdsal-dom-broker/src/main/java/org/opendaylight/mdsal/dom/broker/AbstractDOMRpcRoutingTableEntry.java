@@ -9,14 +9,12 @@ package org.opendaylight.mdsal.dom.broker;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
-import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.ImmutableMap.Builder;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Maps;
 import com.google.common.util.concurrent.CheckedFuture;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
 import org.opendaylight.mdsal.dom.api.DOMRpcAvailabilityListener;
 import org.opendaylight.mdsal.dom.api.DOMRpcException;
@@ -63,60 +61,74 @@ abstract class AbstractDOMRpcRoutingTableEntry {
     }
 
     /**
-     * This method adds the given DOMRpcImplementation instance for the given list RPC identifiers.
+     * This method adds the given DOMRpcImplementation instance for the given list RPC identifiers. The cost of this
+     * operation is proportional to the number of RPC identifiers being added, not to the size of this entry.
      *
      * @param implementation the DOMRpcImplementation instance to add
-     * @param newRpcs the List of new RPCs that the DOMRpcImplementation provides, must be mutable
+     * @param newRpcs the List of new RPCs that the DOMRpcImplementation provides
      * @return a new instance of AbstractDOMRpcRoutingTableEntry with the additions
      */
     final AbstractDOMRpcRoutingTableEntry add(
             final DOMRpcImplementation implementation, final List<YangInstanceIdentifier> newRpcs) {
-        final Builder<YangInstanceIdentifier, List<DOMRpcImplementation>> vb = ImmutableMap.builder();
-        for (final Entry<YangInstanceIdentifier, List<DOMRpcImplementation>> ve : implementations.entrySet()) {
-            if (newRpcs.remove(ve.getKey())) {
-                final List<DOMRpcImplementation> i = new ArrayList<>(ve.getValue().size() + 1);
-                i.addAll(ve.getValue());
+        PersistentHashMap<YangInstanceIdentifier, List<DOMRpcImplementation>> map =
+                PersistentHashMap.copyOf(implementations);
+        for (final YangInstanceIdentifier ii : newRpcs) {
+            final List<DOMRpcImplementation> existing = map.get(ii);
+            final List<DOMRpcImplementation> i;
+            if (existing != null) {
+                i = new ArrayList<>(existing.size() + 1);
+                i.addAll(existing);
                 i.add(implementation);
 
                 // New implementation is at the end, this will move it to be the last among implementations
                 // with equal cost -- relying on sort() being stable.
                 i.sort((i1, i2) -> Long.compare(i1.invocationCost(), i2.invocationCost()));
-                vb.put(ve.getKey(), i);
             } else {
-                vb.put(ve);
+                i = ImmutableList.of(implementation);
             }
-        }
-        for (final YangInstanceIdentifier ii : newRpcs) {
-            final List<DOMRpcImplementation> impl = new ArrayList<>(1);
-            impl.add(implementation);
-            vb.put(ii, impl);
+            map = map.plus(ii, i);
         }
 
-        return newInstance(vb.build());
+        return newInstance(map);
     }
 
     final AbstractDOMRpcRoutingTableEntry remove(
             final DOMRpcImplementation implementation, final List<YangInstanceIdentifier> removed) {
-        final Builder<YangInstanceIdentifier, List<DOMRpcImplementation>> vb = ImmutableMap.builder();
-        for (final Entry<YangInstanceIdentifier, List<DOMRpcImplementation>> ve : implementations.entrySet()) {
-            if (removed.remove(ve.getKey())) {
-                final List<DOMRpcImplementation> i = new ArrayList<>(ve.getValue());
+        PersistentHashMap<YangInstanceIdentifier, List<DOMRpcImplementation>> map =
+                PersistentHashMap.copyOf(implementations);
+        for (final YangInstanceIdentifier ii : removed) {
+            final List<DOMRpcImplementation> existing = map.get(ii);
+            if (existing != null) {
+                final List<DOMRpcImplementation> i = new ArrayList<>(existing);
                 i.remove(implementation);
                 // We could trimToSize(), but that may perform another copy just to get rid
                 // of a single element. That is probably not worth the trouble.
-                if (!i.isEmpty()) {
-                    vb.put(ve.getKey(), i);
-                }
-            } else {
-                vb.put(ve);
+                map = i.isEmpty() ? map.minus(ii) : map.plus(ii, i);
             }
         }
 
-        final Map<YangInstanceIdentifier, List<DOMRpcImplementation>> v = vb.build();
-        return v.isEmpty() ? null : newInstance(v);
+        return map.isEmpty() ? null : newInstance(map);
+    }
+
+    /**
+     * Invoke this RPC, always using the cheapest implementation.
+     *
+     * @param input RPC input
+     * @return Future completing with the result of the invocation
+     */
+    protected final CheckedFuture<DOMRpcResult, DOMRpcException> invokeRpc(final NormalizedNode<?, ?> input) {
+        return invokeRpc(input, RpcImplementationSelector.DEFAULT);
     }
 
-    protected abstract CheckedFuture<DOMRpcResult, DOMRpcException> invokeRpc(NormalizedNode<?, ?> input);
+    /**
+     * Invoke this RPC, using the specified selector to pick an implementation.
+     *
+     * @param input RPC input
+     * @param selector Implementation selector
+     * @return Future completing with the result of the invocation
+     */
+    protected abstract CheckedFuture<DOMRpcResult, DOMRpcException> invokeRpc(NormalizedNode<?, ?> input,
+            RpcImplementationSelector selector);
 
     protected abstract AbstractDOMRpcRoutingTableEntry newInstance(
             Map<YangInstanceIdentifier, List<DOMRpcImplementation>> impls);
@@ -0,0 +1,326 @@
+/*
+ * Copyright (c) 2018 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.dom.broker;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+import org.opendaylight.mdsal.common.api.CommitInfo;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.mdsal.common.api.TransactionCommitFailedException;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeWriteTransaction;
+import org.opendaylight.mdsal.dom.spi.store.DOMStoreThreePhaseCommitCohort;
+import org.opendaylight.yangtools.util.DurationStatisticsTracker;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Non-blocking three-phase commit coordination of a single transaction, without support for cancellation.
+ *
+ *<p>
+ * Each phase is fanned out to all cohorts in parallel, each cohort being invoked from a task running on the executor
+ * of its {@link LogicalDatastoreType}, and the next phase is triggered by completion of all futures returned from
+ * the previous phase. No thread is ever parked waiting for a cohort to respond.
+ *
+ *<p>
+ * Every cohort is associated with a {@link LogicalDatastoreType} lane. Once a cohort successfully completes its
+ * commit, its lane is released via {@link #laneReleased(LogicalDatastoreType)}. This allows a subsequent transaction
+ * to start its canCommit phase on a datastore while this transaction is still committing to other datastores. If
+ * the transaction fails, the remaining lanes are released only after all cohorts which have not committed have
+ * completed their abort, so that a subsequent transaction does not race with an abort on the same datastore.
+ * Cohorts which have already committed are not aborted, as their lane may already be in use.
+ */
+final class AsyncCommitCoordinationTask {
+    private static final Logger LOG = LoggerFactory.getLogger(AsyncCommitCoordinationTask.class);
+
+    private final Map<LogicalDatastoreType, SettableFuture<Void>> lanes = new EnumMap<>(LogicalDatastoreType.class);
+    private final SettableFuture<CommitInfo> result = SettableFuture.create();
+    private final Map<LogicalDatastoreType, DOMStoreThreePhaseCommitCohort> cohorts;
+    private final Map<LogicalDatastoreType, ? extends Executor> laneExecutors;
+    private final DurationStatisticsTracker commitStatTracker;
+    private final Map<CommitPhase, DurationHistogram> phaseHistograms;
+    private final DOMDataTreeWriteTransaction tx;
+    private final Executor executor;
+
+    // Accessed only from phase tasks, which are ordered by future completion
+    private CommitPhase phase;
+    private long startTime;
+    private long phaseStartTime;
+
+    AsyncCommitCoordinationTask(final DOMDataTreeWriteTransaction transaction,
+            final Map<LogicalDatastoreType, DOMStoreThreePhaseCommitCohort> cohorts, final Executor executor,
+            final DurationStatisticsTracker commitStatTracker,
+            final Map<CommitPhase, DurationHistogram> phaseHistograms) {
+        this(transaction, cohorts, executor, ImmutableMap.of(), commitStatTracker, phaseHistograms);
+    }
+
+    AsyncCommitCoordinationTask(final DOMDataTreeWriteTransaction transaction,
+            final Map<LogicalDatastoreType, DOMStoreThreePhaseCommitCohort> cohorts, final Executor executor,
+            final Map<LogicalDatastoreType, ? extends Executor> laneExecutors,
+            final DurationStatisticsTracker commitStatTracker,
+            final Map<CommitPhase, DurationHistogram> phaseHistograms) {
+        this.tx = Preconditions.checkNotNull(transaction, "transaction must not be null");
+        this.cohorts = Preconditions.checkNotNull(cohorts, "cohorts must not be null");
+        this.executor = Preconditions.checkNotNull(executor, "executor must not be null");
+        this.laneExecutors = Preconditions.checkNotNull(laneExecutors, "laneExecutors must not be null");
+        this.commitStatTracker = commitStatTracker;
+        this.phaseHistograms = phaseHistograms;
+
+        for (LogicalDatastoreType type : cohorts.keySet()) {
+            lanes.put(type, SettableFuture.create());
+        }
+    }
+
+    /**
+     * Return a future which completes when the cohort for specified datastore has successfully finished its commit or
+     * the transaction has failed and its abort has completed. The returned future never fails.
+     *
+     * @param type datastore type
+     * @return A future completing when the lane is released, or null if this transaction does not have a cohort for
+     *         specified datastore.
+     */
+    ListenableFuture<?> laneReleased(final LogicalDatastoreType type) {
+        return lanes.get(type);
+    }
+
+    /**
+     * Start coordination once the specified future completes.
+     *
+     * @param predecessors Future which completes when all conflicting transactions have released their lanes
+     * @return Future completing with the result of the commit
+     */
+    ListenableFuture<CommitInfo> start(final ListenableFuture<?> predecessors) {
+        predecessors.addListener(this::canCommit, MoreExecutors.directExecutor());
+        return result;
+    }
+
+    /**
+     * Invoke an operation on all cohorts in parallel, each on the executor of its datastore.
+     *
+     * @param operation Operation to invoke
+     * @param releaseLanes True if successful completion of the operation should release the cohort's lane
+     * @return Future completing with results of all invocations once all of them complete. It fails with the first
+     *         failure encountered.
+     */
+    private <T> ListenableFuture<List<T>> fanOut(
+            final Function<DOMStoreThreePhaseCommitCohort, ListenableFuture<T>> operation, final boolean releaseLanes) {
+        final List<ListenableFuture<T>> ops = new ArrayList<>(cohorts.size());
+        for (Entry<LogicalDatastoreType, DOMStoreThreePhaseCommitCohort> entry : cohorts.entrySet()) {
+            final SettableFuture<T> op = SettableFuture.create();
+            if (releaseLanes) {
+                // Failed cohorts are aborted, their lanes are released only once the abort completes
+                final SettableFuture<Void> lane = lanes.get(entry.getKey());
+                op.addListener(() -> {
+                    if (succeeded(op)) {
+                        lane.set(null);
+                    }
+                }, MoreExecutors.directExecutor());
+            }
+            invoke(entry.getKey(), entry.getValue(), operation, op);
+            ops.add(op);
+        }
+
+        // We need to wait for all invocations, so we do not start aborting while a cohort is being invoked
+        return Futures.whenAllComplete(ops).call(() -> {
+            final List<T> ret = new ArrayList<>(ops.size());
+            for (ListenableFuture<T> op : ops) {
+                ret.add(Futures.getDone(op));
+            }
+            return ret;
+        }, MoreExecutors.directExecutor());
+    }
+
+    private static boolean succeeded(final ListenableFuture<?> future) {
+        try {
+            Futures.getDone(future);
+            return true;
+        } catch (ExecutionException | CancellationException e) {
+            return false;
+        }
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private <T> void invoke(final LogicalDatastoreType type, final DOMStoreThreePhaseCommitCohort cohort,
+            final Function<DOMStoreThreePhaseCommitCohort, ListenableFuture<T>> operation,
+            final SettableFuture<T> future) {
+        final Executor laneExecutor = laneExecutors.containsKey(type) ? laneExecutors.get(type) : executor;
+        try {
+            laneExecutor.execute(() -> {
+                try {
+                    future.setFuture(operation.apply(cohort));
+                } catch (RuntimeException e) {
+                    future.setException(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            LOG.error("The commit executor's queue is full - submit task was rejected. \n{}", laneExecutor, e);
+            future.setException(new TransactionCommitFailedException(
+                "Could not submit the commit task - the commit queue capacity has been exceeded.", e));
+        }
+    }
+
+    private void enterPhase(final CommitPhase newPhase) {
+        final long now = System.nanoTime();
+        if (phase == null) {
+            startTime = now;
+        }
+        phase = newPhase;
+        phaseStartTime = now;
+        LOG.debug("Transaction {}: {} Started", tx.getIdentifier(), newPhase);
+    }
+
+    private void exitPhase() {
+        if (phaseHistograms != null) {
+            phaseHistograms.get(phase).addDuration(System.nanoTime() - phaseStartTime);
+        }
+    }
+
+    private void canCommit() {
+        enterPhase(CommitPhase.CAN_COMMIT);
+
+        final ListenableFuture<List<Boolean>> ops = fanOut(DOMStoreThreePhaseCommitCohort::canCommit, false);
+        Futures.addCallback(ops, new FutureCallback<List<Boolean>>() {
+            @Override
+            public void onSuccess(final List<Boolean> results) {
+                exitPhase();
+                for (Boolean canCommit : results) {
+                    if (canCommit == null || !canCommit) {
+                        phaseFailed(new TransactionCommitFailedException(
+                            "Can Commit failed, no detailed cause available."));
+                        return;
+                    }
+                }
+                preCommit();
+            }
+
+            @Override
+            public void onFailure(final Throwable cause) {
+                exitPhase();
+                phaseFailed(TransactionCommitFailedExceptionMapper.CAN_COMMIT_ERROR_MAPPER.apply(
+                    new ExecutionException(cause)));
+            }
+        }, MoreExecutors.directExecutor());
+    }
+
+    private void preCommit() {
+        enterPhase(CommitPhase.PRE_COMMIT);
+
+        final ListenableFuture<List<Void>> ops = fanOut(DOMStoreThreePhaseCommitCohort::preCommit, false);
+        Futures.addCallback(ops, new FutureCallback<List<Void>>() {
+            @Override
+            public void onSuccess(final List<Void> results) {
+                exitPhase();
+                doCommit();
+            }
+
+            @Override
+            public void onFailure(final Throwable cause) {
+                exitPhase();
+                phaseFailed(TransactionCommitFailedExceptionMapper.PRE_COMMIT_MAPPER.apply(
+                    new ExecutionException(cause)));
+            }
+        }, MoreExecutors.directExecutor());
+    }
+
+    private void doCommit() {
+        enterPhase(CommitPhase.DO_COMMIT);
+
+        final ListenableFuture<List<Void>> ops = fanOut(DOMStoreThreePhaseCommitCohort::commit, true);
+        Futures.addCallback(ops, new FutureCallback<List<Void>>() {
+            @Override
+            public void onSuccess(final List<Void> results) {
+                exitPhase();
+                LOG.debug("Transaction {}: doCommit completed", tx.getIdentifier());
+                recordDuration();
+                result.set(CommitInfo.empty());
+            }
+
+            @Override
+            public void onFailure(final Throwable cause) {
+                exitPhase();
+                phaseFailed(TransactionCommitFailedExceptionMapper.COMMIT_ERROR_MAPPER.apply(
+                    new ExecutionException(cause)));
+            }
+        }, MoreExecutors.directExecutor());
+    }
+
+    private void phaseFailed(final TransactionCommitFailedException cause) {
+        LOG.warn("Tx: {} Error during phase {}, starting Abort", tx.getIdentifier(), phase, cause);
+        abort(cause);
+    }
+
+    /**
+     * Aborts transaction. Invokes {@link DOMStoreThreePhaseCommitCohort#abort()} on all cohorts which have not
+     * released their lane after a successful commit and fails the transaction with supplied cause once all of them
+     * complete. If any of the aborts fails, the transaction is failed with an {@link IllegalStateException}, which
+     * contains the original cause as a suppressed exception.
+     *
+     * @param originalCause Exception which should be used to fail transaction for consumers of transaction future
+     *                      and listeners of transaction failure.
+     */
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private void abort(final TransactionCommitFailedException originalCause) {
+        final List<ListenableFuture<Void>> ops = new ArrayList<>(cohorts.size());
+        try {
+            for (Entry<LogicalDatastoreType, DOMStoreThreePhaseCommitCohort> entry : cohorts.entrySet()) {
+                if (!lanes.get(entry.getKey()).isDone()) {
+                    ops.add(entry.getValue().abort());
+                }
+            }
+        } catch (RuntimeException e) {
+            ops.add(Futures.immediateFailedFuture(e));
+        }
+
+        /*
+         * We are waiting for all futures, not only succeeded ones in order to fail composite future if any of them
+         * failed. See Futures.allAsList for this description.
+         */
+        Futures.addCallback(Futures.allAsList(ops), new FutureCallback<List<Void>>() {
+            @Override
+            public void onSuccess(final List<Void> results) {
+                failed(originalCause);
+            }
+
+            @Override
+            public void onFailure(final Throwable cause) {
+                LOG.error("Tx: {} Error during Abort.", tx.getIdentifier(), cause);
+                final IllegalStateException failure = new IllegalStateException("Abort failed.", cause);
+                failure.addSuppressed(originalCause);
+                failed(failure);
+            }
+        }, MoreExecutors.directExecutor());
+    }
+
+    private void failed(final Exception cause) {
+        for (SettableFuture<Void> lane : lanes.values()) {
+            lane.set(null);
+        }
+        recordDuration();
+        result.setException(cause);
+    }
+
+    private void recordDuration() {
+        if (commitStatTracker != null && phase != null) {
+            commitStatTracker.addDuration(System.nanoTime() - startTime);
+        }
+    }
+}
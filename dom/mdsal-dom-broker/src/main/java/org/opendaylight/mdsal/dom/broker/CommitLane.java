@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2018 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.dom.broker;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+
+/**
+ * Commit lane of a single {@link LogicalDatastoreType} in {@link SerializedDOMDataBroker}. Transactions are committed
+ * to a datastore in the order in which they were submitted to its lane. Transactions touching only one datastore
+ * never wait for transactions touching only the other one, while transactions touching multiple datastores wait for
+ * all of their lanes.
+ *
+ *<p>
+ * Each lane exposes its queue depth and a histogram of the time transactions spend waiting for their predecessors.
+ */
+public final class CommitLane {
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final DurationHistogram waitTimeHistogram = new DurationHistogram();
+    private final LogicalDatastoreType datastoreType;
+
+    // Guarded by the owning broker
+    private ListenableFuture<?> tail;
+
+    CommitLane(final LogicalDatastoreType datastoreType) {
+        this.datastoreType = Preconditions.checkNotNull(datastoreType);
+    }
+
+    /**
+     * Return the datastore type this lane serves.
+     *
+     * @return Datastore type
+     */
+    public LogicalDatastoreType getDatastoreType() {
+        return datastoreType;
+    }
+
+    /**
+     * Return the number of transactions which have been submitted to this lane and have not released it yet. This
+     * includes the transaction currently committing to the datastore.
+     *
+     * @return Current queue depth
+     */
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    /**
+     * Return the histogram of times transactions waited for their predecessors in this lane to release it.
+     *
+     * @return Wait time histogram
+     */
+    public DurationHistogram getWaitTimeHistogram() {
+        return waitTimeHistogram;
+    }
+
+    /**
+     * Append a transaction to this lane. Must be invoked with the owning broker's lock held.
+     *
+     * @param released Future which completes when the transaction releases this lane
+     * @return Future which completes when the previous transaction releases this lane, or null if there is no such
+     *         transaction pending
+     */
+    ListenableFuture<?> enqueue(final ListenableFuture<?> released) {
+        queueDepth.incrementAndGet();
+        released.addListener(queueDepth::decrementAndGet, MoreExecutors.directExecutor());
+
+        final ListenableFuture<?> prev = tail;
+        tail = released;
+        if (prev == null || prev.isDone()) {
+            waitTimeHistogram.addDuration(0);
+            return null;
+        }
+
+        final long enqueued = System.nanoTime();
+        prev.addListener(() -> waitTimeHistogram.addDuration(System.nanoTime() - enqueued),
+            MoreExecutors.directExecutor());
+        return prev;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("datastore", datastoreType).add("depth", getQueueDepth())
+                .add("wait", waitTimeHistogram).toString();
+    }
+}
@@ -0,0 +1,26 @@
+/*
+ * Copyright (c) 2018 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.dom.broker;
+
+/**
+ * Phases of the three-phase commit protocol, as driven by {@link SerializedDOMDataBroker}.
+ */
+public enum CommitPhase {
+    /**
+     * {@link org.opendaylight.mdsal.dom.spi.store.DOMStoreThreePhaseCommitCohort#canCommit()} phase.
+     */
+    CAN_COMMIT,
+    /**
+     * {@link org.opendaylight.mdsal.dom.spi.store.DOMStoreThreePhaseCommitCohort#preCommit()} phase.
+     */
+    PRE_COMMIT,
+    /**
+     * {@link org.opendaylight.mdsal.dom.spi.store.DOMStoreThreePhaseCommitCohort#commit()} phase.
+     */
+    DO_COMMIT
+}
@@ -10,9 +10,9 @@ package org.opendaylight.mdsal.dom.broker;
 import com.google.common.base.Preconditions;
 import com.google.common.util.concurrent.FluentFuture;
 import com.google.common.util.concurrent.Futures;
-import java.util.ArrayList;
-import java.util.Collection;
+import java.util.EnumMap;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import org.eclipse.jdt.annotation.NonNull;
@@ -130,13 +130,13 @@ class DOMForwardedWriteTransaction<T extends DOMStoreWriteTransaction> extends
         final AbstractDOMForwardedTransactionFactory<?> impl = IMPL_UPDATER.getAndSet(this, null);
         checkRunning(impl);
 
-        final Collection<T> txns = getSubtransactions();
-        final Collection<DOMStoreThreePhaseCommitCohort> cohorts = new ArrayList<>(txns.size());
+        final Map<LogicalDatastoreType, DOMStoreThreePhaseCommitCohort> cohorts =
+                new EnumMap<>(LogicalDatastoreType.class);
 
         FluentFuture<? extends CommitInfo> ret;
         try {
-            for (final DOMStoreWriteTransaction txn : txns) {
-                cohorts.add(txn.ready());
+            for (final Entry<LogicalDatastoreType, T> txn : getSubtransactionMap().entrySet()) {
+                cohorts.put(txn.getKey(), txn.getValue().ready());
             }
 
             ret = impl.commit(this, cohorts);
@@ -11,27 +11,35 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMultimap;
-import com.google.common.collect.ImmutableMultimap.Builder;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Multimap;
-import com.google.common.collect.Multimaps;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
-import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.common.util.concurrent.SettableFuture;
 import com.lmax.disruptor.EventHandler;
 import com.lmax.disruptor.InsufficientCapacityException;
 import com.lmax.disruptor.PhasedBackoffWaitStrategy;
+import com.lmax.disruptor.RingBuffer;
+import com.lmax.disruptor.Sequence;
+import com.lmax.disruptor.SequenceReportingEventHandler;
 import com.lmax.disruptor.WaitStrategy;
 import com.lmax.disruptor.dsl.Disruptor;
 import com.lmax.disruptor.dsl.ProducerType;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
 import org.opendaylight.mdsal.dom.api.DOMNotification;
 import org.opendaylight.mdsal.dom.api.DOMNotificationListener;
 import org.opendaylight.mdsal.dom.api.DOMNotificationPublishService;
@@ -45,7 +53,6 @@ import org.opendaylight.yangtools.yang.model.api.SchemaPath;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-
 /**
  * Joint implementation of {@link DOMNotificationPublishService} and {@link DOMNotificationService}. Provides
  * routing of notifications from publishers to subscribers.
@@ -53,16 +60,29 @@ import org.slf4j.LoggerFactory;
  *<p>
  * Internal implementation works by allocating a two-handler Disruptor. The first handler delivers notifications
  * to subscribed listeners and the second one notifies whoever may be listening on the returned future. Registration
- * state tracking is performed by a simple immutable multimap -- when a registration or unregistration occurs we
- * re-generate the entire map from scratch and set it atomically. While registrations/unregistrations synchronize
- * on this instance, notifications do not take any locks here.
+ * state is tracked in a concurrent map keyed by notification type, each type holding a copy-on-write list of its
+ * listeners. Registrations and unregistrations synchronize only on the types they affect and copy only the listeners
+ * of those types, while notifications do not take any locks here and hand the current list of subscribers to
+ * the Disruptor as-is.
+ *
+ *<p>
+ * By default the first handler invokes all subscribers sequentially, hence a slow listener delays delivery of all
+ * notifications. A router created with a non-zero listener queue depth operates in parallel delivery mode instead:
+ * each listener has its own bounded {@link NotificationListenerQueue}, which is drained in batches on the router's
+ * executor, and the first handler merely hands notifications off to the queues of their subscribers. In this mode
+ * futures returned from publish methods complete once all subscribers have consumed the notification.
  *
  *<p>
  * The fully-blocking {@link #publish(long, DOMNotification, Collection)}
  * and non-blocking {@link #offerNotification(DOMNotification)}
  * are realized using the Disruptor's native operations. The bounded-blocking {@link
  * #offerNotification(DOMNotification, long, TimeUnit)}
- * is realized by arming a background wakeup interrupt.
+ * is realized by a timed claim, which retries claiming a slot in the ring buffer, first spinning and then parking
+ * for increasing periods of time, until the deadline expires.
+ *
+ *<p>
+ * Finally {@link #offerNotificationAsync(DOMNotification)} does not block at all: if the ring buffer is full,
+ * the notification is queued and is published as soon as the last handler releases a slot.
  */
 public class DOMNotificationRouter implements AutoCloseable, DOMNotificationPublishService,
         DOMNotificationService, DOMNotificationSubscriptionListenerRegistry {
@@ -73,27 +93,85 @@ public class DOMNotificationRouter implements AutoCloseable, DOMNotificationPubl
             1L, 30L, TimeUnit.MILLISECONDS);
     private static final EventHandler<DOMNotificationRouterEvent> DISPATCH_NOTIFICATIONS =
         (event, sequence, endOfBatch) -> event.deliverNotification();
-    private static final EventHandler<DOMNotificationRouterEvent> NOTIFY_FUTURE =
-        (event, sequence, endOfBatch) -> event.setFuture();
+    /**
+     * Number of times a timed claim retries without parking.
+     */
+    private static final int CLAIM_SPIN_TRIES = 100;
+    /**
+     * Maximum time a timed claim parks between retries.
+     */
+    private static final long CLAIM_MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    /**
+     * A notification waiting for capacity in the ring buffer.
+     */
+    private static final class PendingOffer {
+        final SettableFuture<ListenableFuture<? extends Object>> future = SettableFuture.create();
+        final Collection<ListenerRegistration<? extends DOMNotificationListener>> subscribers;
+        final DOMNotification notification;
+
+        PendingOffer(final DOMNotification notification,
+                final Collection<ListenerRegistration<? extends DOMNotificationListener>> subscribers) {
+            this.notification = notification;
+            this.subscribers = subscribers;
+        }
+    }
+
+    /**
+     * Last handler in the pipeline. Once it is done with an event, it releases the event's slot and publishes any
+     * pending asynchronous offers.
+     */
+    private final class NotifyFuture implements SequenceReportingEventHandler<DOMNotificationRouterEvent> {
+        private Sequence sequenceCallback;
+
+        @Override
+        public void setSequenceCallback(final Sequence sequenceCallback) {
+            this.sequenceCallback = sequenceCallback;
+        }
+
+        @Override
+        public void onEvent(final DOMNotificationRouterEvent event, final long sequence, final boolean endOfBatch) {
+            event.setFuture();
+
+            /*
+             * Release the slot right away rather than at the end of the batch. An offer queued after the check below
+             * must be able to claim the slot by itself, as nobody would retry it otherwise. The volatile store orders
+             * the release before the check, pairing with offerNotificationAsync(), which queues the offer before
+             * claiming.
+             */
+            sequenceCallback.setVolatile(sequence);
+            if (!pendingOffers.isEmpty()) {
+                publishPendingOffers();
+            }
+        }
+    }
 
     private final Disruptor<DOMNotificationRouterEvent> disruptor;
     private final ExecutorService executor;
-    private volatile Multimap<SchemaPath, ListenerRegistration<? extends
-            DOMNotificationListener>> listeners = ImmutableMultimap.of();
+    private final ConcurrentMap<SchemaPath, TypeListeners> listeners = new ConcurrentHashMap<>();
     private final ListenerRegistry<DOMNotificationSubscriptionListener> subscriptionListeners =
             ListenerRegistry.create();
-    private final ScheduledThreadPoolExecutor observer;
+    private final Set<NotificationListenerQueue> listenerQueues = ConcurrentHashMap.newKeySet();
+    private final Queue<PendingOffer> pendingOffers = new ConcurrentLinkedQueue<>();
+    private final ReentrantLock pendingOffersLock = new ReentrantLock();
+    private final int listenerQueueDepth;
 
-    @SuppressWarnings("unchecked")
     @VisibleForTesting
     DOMNotificationRouter(final ExecutorService executor, final int queueDepth, final WaitStrategy strategy) {
+        this(executor, queueDepth, strategy, 0);
+    }
+
+    @SuppressWarnings("unchecked")
+    @VisibleForTesting
+    DOMNotificationRouter(final ExecutorService executor, final int queueDepth, final WaitStrategy strategy,
+            final int listenerQueueDepth) {
+        Preconditions.checkArgument(listenerQueueDepth >= 0, "Invalid listener queue depth %s", listenerQueueDepth);
+        this.listenerQueueDepth = listenerQueueDepth;
         this.executor = Preconditions.checkNotNull(executor);
-        this.observer = new ScheduledThreadPoolExecutor(1, new ThreadFactoryBuilder()
-                .setDaemon(true).setNameFormat("DOMNotificationRouter-%d").build());
         disruptor = new Disruptor<>(DOMNotificationRouterEvent.FACTORY,
                 queueDepth, executor, ProducerType.MULTI, strategy);
         disruptor.handleEventsWith(DISPATCH_NOTIFICATIONS);
-        disruptor.after(DISPATCH_NOTIFICATIONS).handleEventsWith(NOTIFY_FUTURE);
+        disruptor.after(DISPATCH_NOTIFICATIONS).handleEventsWith(new NotifyFuture());
         disruptor.start();
     }
 
@@ -103,6 +181,20 @@ public class DOMNotificationRouter implements AutoCloseable, DOMNotificationPubl
         return new DOMNotificationRouter(executor, queueDepth, DEFAULT_STRATEGY);
     }
 
+    /**
+     * Create a new router operating in parallel delivery mode.
+     *
+     * @param queueDepth Disruptor ring buffer size
+     * @param listenerQueueDepth Maximum number of notifications queued for each listener
+     * @return A new router
+     */
+    public static DOMNotificationRouter create(final int queueDepth, final int listenerQueueDepth) {
+        Preconditions.checkArgument(listenerQueueDepth > 0, "Invalid listener queue depth %s", listenerQueueDepth);
+        final ExecutorService executor = Executors.newCachedThreadPool();
+
+        return new DOMNotificationRouter(executor, queueDepth, DEFAULT_STRATEGY, listenerQueueDepth);
+    }
+
     public static DOMNotificationRouter create(final int queueDepth, final long spinTime,
             final long parkTime, final TimeUnit unit) {
         Preconditions.checkArgument(Long.lowestOneBit(queueDepth) == Long.highestOneBit(queueDepth),
@@ -113,32 +205,140 @@ public class DOMNotificationRouter implements AutoCloseable, DOMNotificationPubl
         return new DOMNotificationRouter(executor, queueDepth, strategy);
     }
 
+    /**
+     * Listeners registered for a single notification type. The list of registrations is replaced on each change, so
+     * that publishers can use it without any synchronization. Once the last listener is removed, the instance is
+     * retired and removed from {@link DOMNotificationRouter#listeners}.
+     */
+    private static final class TypeListeners {
+        private volatile ImmutableList<ListenerRegistration<? extends DOMNotificationListener>> registrations =
+                ImmutableList.of();
+        @GuardedBy("this")
+        private boolean retired;
+
+        ImmutableList<ListenerRegistration<? extends DOMNotificationListener>> registrations() {
+            return registrations;
+        }
+
+        /**
+         * Add a registration.
+         *
+         * @return True if the registration was added, false if this instance has been retired
+         */
+        synchronized boolean add(final ListenerRegistration<? extends DOMNotificationListener> reg) {
+            if (retired) {
+                return false;
+            }
+
+            final ImmutableList<ListenerRegistration<? extends DOMNotificationListener>> current = registrations;
+            final ImmutableList.Builder<ListenerRegistration<? extends DOMNotificationListener>> builder =
+                    ImmutableList.builderWithExpectedSize(current.size() + 1);
+            registrations = builder.addAll(current).add(reg).build();
+            return true;
+        }
+
+        /**
+         * Remove a registration.
+         *
+         * @return True if this instance has become empty and has been retired as a result
+         */
+        synchronized boolean remove(final ListenerRegistration<? extends DOMNotificationListener> reg) {
+            final ImmutableList<ListenerRegistration<? extends DOMNotificationListener>> current = registrations;
+            if (current.size() == 1 && current.get(0) == reg) {
+                registrations = ImmutableList.of();
+                retired = true;
+                return true;
+            }
+
+            final ImmutableList.Builder<ListenerRegistration<? extends DOMNotificationListener>> builder =
+                    ImmutableList.builderWithExpectedSize(current.size());
+            for (ListenerRegistration<? extends DOMNotificationListener> existing : current) {
+                if (existing != reg) {
+                    builder.add(existing);
+                }
+            }
+            registrations = builder.build();
+            return false;
+        }
+    }
+
     @Override
-    public synchronized <T extends DOMNotificationListener> ListenerRegistration<T> registerNotificationListener(
+    public <T extends DOMNotificationListener> ListenerRegistration<T> registerNotificationListener(
             final T listener, final Collection<SchemaPath> types) {
-        final ListenerRegistration<T> reg = new AbstractListenerRegistration<T>(listener) {
-            @Override
-            protected void removeRegistration() {
-                synchronized (DOMNotificationRouter.this) {
-                    replaceListeners(ImmutableMultimap.copyOf(Multimaps.filterValues(listeners,
-                        input -> input != this)));
+        final Set<SchemaPath> uniqueTypes = ImmutableSet.copyOf(types);
+        final NotificationListenerQueue queue;
+        if (listenerQueueDepth != 0) {
+            queue = new NotificationListenerQueue(listener, listenerQueueDepth, executor);
+            listenerQueues.add(queue);
+        } else {
+            queue = null;
+        }
+        final ListenerRegistration<T> reg = new Registration<>(listener, uniqueTypes, queue);
+
+        boolean typesChanged = false;
+        for (final SchemaPath type : uniqueTypes) {
+            while (true) {
+                final TypeListeners existing = listeners.get(type);
+                if (existing != null) {
+                    if (existing.add(reg)) {
+                        break;
+                    }
+
+                    // The instance has been retired concurrently, help with its removal and retry
+                    listeners.remove(type, existing);
+                    continue;
+                }
+
+                final TypeListeners created = new TypeListeners();
+                created.add(reg);
+                if (listeners.putIfAbsent(type, created) == null) {
+                    typesChanged = true;
+                    break;
                 }
             }
-        };
+        }
 
-        if (!types.isEmpty()) {
-            final Builder<SchemaPath, ListenerRegistration<? extends DOMNotificationListener>> b =
-                    ImmutableMultimap.builder();
-            b.putAll(listeners);
+        if (typesChanged) {
+            notifyListenerTypesChanged();
+        }
+        return reg;
+    }
 
-            for (final SchemaPath t : types) {
-                b.put(t, reg);
-            }
+    /**
+     * Registration of a listener. In parallel delivery mode it also holds the listener's queue.
+     */
+    final class Registration<T extends DOMNotificationListener> extends AbstractListenerRegistration<T> {
+        private final Set<SchemaPath> types;
+        private final NotificationListenerQueue queue;
+
+        Registration(final T listener, final Set<SchemaPath> types, final NotificationListenerQueue queue) {
+            super(listener);
+            this.types = Preconditions.checkNotNull(types);
+            this.queue = queue;
+        }
 
-            replaceListeners(b.build());
+        @Nullable NotificationListenerQueue queue() {
+            return queue;
         }
 
-        return reg;
+        @Override
+        protected void removeRegistration() {
+            boolean typesChanged = false;
+            for (final SchemaPath type : types) {
+                final TypeListeners typeListeners = listeners.get(type);
+                if (typeListeners != null && typeListeners.remove(this)) {
+                    listeners.remove(type, typeListeners);
+                    typesChanged = true;
+                }
+            }
+            if (queue != null) {
+                listenerQueues.remove(queue);
+                queue.close();
+            }
+            if (typesChanged) {
+                notifyListenerTypesChanged();
+            }
+        }
     }
 
     @Override
@@ -148,35 +348,49 @@ public class DOMNotificationRouter implements AutoCloseable, DOMNotificationPubl
     }
 
     /**
-     * Swaps registered listeners and triggers notification update.
-     *
-     * @param newListeners is used to notify listenerTypes changed
+     * Triggers notification update when the set of notification types with listeners has changed. This method
+     * synchronizes on {@link #subscriptionListeners}, so updates are submitted in the order in which their snapshots
+     * were taken.
      */
-    private void replaceListeners(
-            final Multimap<SchemaPath, ListenerRegistration<? extends DOMNotificationListener>> newListeners) {
-        listeners = newListeners;
-        notifyListenerTypesChanged(newListeners.keySet());
-    }
-
     @SuppressWarnings("checkstyle:IllegalCatch")
-    private void notifyListenerTypesChanged(final Set<SchemaPath> typesAfter) {
-        final List<ListenerRegistration<DOMNotificationSubscriptionListener>> listenersAfter =
-                ImmutableList.copyOf(subscriptionListeners.getListeners());
-        executor.submit(() -> {
-            for (final ListenerRegistration<DOMNotificationSubscriptionListener> subListener : listenersAfter) {
-                try {
-                    subListener.getInstance().onSubscriptionChanged(typesAfter);
-                } catch (final Exception e) {
-                    LOG.warn("Uncaught exception during invoking listener {}", subListener.getInstance(), e);
+    private void notifyListenerTypesChanged() {
+        synchronized (subscriptionListeners) {
+            final Set<SchemaPath> typesAfter = currentTypes();
+            final List<ListenerRegistration<DOMNotificationSubscriptionListener>> listenersAfter =
+                    ImmutableList.copyOf(subscriptionListeners.getListeners());
+            executor.submit(() -> {
+                for (final ListenerRegistration<DOMNotificationSubscriptionListener> subListener : listenersAfter) {
+                    try {
+                        subListener.getInstance().onSubscriptionChanged(typesAfter);
+                    } catch (final Exception e) {
+                        LOG.warn("Uncaught exception during invoking listener {}", subListener.getInstance(), e);
+                    }
                 }
-            }
-        });
+            });
+        }
+    }
+
+    private Set<SchemaPath> currentTypes() {
+        return ImmutableSet.copyOf(listeners.keySet());
+    }
+
+    /**
+     * Return current subscribers of a notification type. Notification types are typically constants, hence
+     * the lookup usually hits the very same {@link SchemaPath} instance we use as key, which has its hash code
+     * precomputed, and does not need to compare paths.
+     *
+     * @param type Notification type
+     * @return Current subscribers, possibly empty
+     */
+    private Collection<ListenerRegistration<? extends DOMNotificationListener>> subscribers(final SchemaPath type) {
+        final TypeListeners typeListeners = listeners.get(type);
+        return typeListeners != null ? typeListeners.registrations() : ImmutableList.of();
     }
 
     @Override
     public <L extends DOMNotificationSubscriptionListener> ListenerRegistration<L> registerSubscriptionListener(
             final L listener) {
-        final Set<SchemaPath> initialTypes = listeners.keySet();
+        final Set<SchemaPath> initialTypes = currentTypes();
         executor.submit(() -> listener.onSubscriptionChanged(initialTypes));
         return subscriptionListeners.registerWithType(listener);
     }
@@ -193,7 +407,7 @@ public class DOMNotificationRouter implements AutoCloseable, DOMNotificationPubl
     public ListenableFuture<? extends Object> putNotification(final DOMNotification notification)
             throws InterruptedException {
         final Collection<ListenerRegistration<? extends DOMNotificationListener>> subscribers =
-                listeners.get(notification.getType());
+                subscribers(notification.getType());
         if (subscribers.isEmpty()) {
             return NO_LISTENERS;
         }
@@ -219,7 +433,7 @@ public class DOMNotificationRouter implements AutoCloseable, DOMNotificationPubl
     @Override
     public ListenableFuture<? extends Object> offerNotification(final DOMNotification notification) {
         final Collection<ListenerRegistration<? extends DOMNotificationListener>> subscribers =
-                listeners.get(notification.getType());
+                subscribers(notification.getType());
         if (subscribers.isEmpty()) {
             return NO_LISTENERS;
         }
@@ -231,33 +445,135 @@ public class DOMNotificationRouter implements AutoCloseable, DOMNotificationPubl
     public ListenableFuture<? extends Object> offerNotification(final DOMNotification notification, final long timeout,
             final TimeUnit unit) throws InterruptedException {
         final Collection<ListenerRegistration<? extends DOMNotificationListener>> subscribers =
-                listeners.get(notification.getType());
+                subscribers(notification.getType());
         if (subscribers.isEmpty()) {
             return NO_LISTENERS;
         }
         // Attempt to perform a non-blocking publish first
-        final ListenableFuture<?> noBlock = tryPublish(notification, subscribers);
+        final ListenableFuture<? extends Object> noBlock = tryPublish(notification, subscribers);
         if (!DOMNotificationPublishService.REJECTED.equals(noBlock)) {
             return noBlock;
         }
 
+        final long seq = claim(System.nanoTime() + unit.toNanos(timeout));
+        return seq < 0 ? DOMNotificationPublishService.REJECTED : publish(seq, notification, subscribers);
+    }
+
+    /**
+     * Claim a slot in the ring buffer, waiting until specified deadline. We first spin for a while, as capacity
+     * typically becomes available quickly, and then park for exponentially-increasing periods of time, bounded by
+     * {@link #CLAIM_MAX_PARK_NANOS} and the deadline.
+     *
+     * @param deadline Deadline, as reported by {@link System#nanoTime()}
+     * @return Claimed sequence, or -1 if the deadline expired
+     * @throws InterruptedException if the calling thread is interrupted
+     */
+    private long claim(final long deadline) throws InterruptedException {
+        final RingBuffer<DOMNotificationRouterEvent> ringBuffer = disruptor.getRingBuffer();
+        int spins = 0;
+        long parkNanos = 1000;
+        while (true) {
+            try {
+                return ringBuffer.tryNext();
+            } catch (InsufficientCapacityException e) {
+                // Fall through to back off
+            }
+
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            final long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return -1;
+            }
+
+            if (spins < CLAIM_SPIN_TRIES) {
+                spins++;
+                Thread.yield();
+            } else {
+                LockSupport.parkNanos(this, Math.min(parkNanos, remaining));
+                parkNanos = Math.min(parkNanos * 2, CLAIM_MAX_PARK_NANOS);
+            }
+        }
+    }
+
+    /**
+     * Offer a notification without blocking. Unlike {@link #offerNotification(DOMNotification)}, this method does
+     * not reject the notification when the ring buffer is full, but rather queues it until capacity becomes available.
+     *
+     * @param notification Notification to be published
+     * @return A future which completes once the notification has been accepted by this router. Its value is the
+     *         future which {@link #putNotification(DOMNotification)} would have returned.
+     */
+    public ListenableFuture<ListenableFuture<? extends Object>> offerNotificationAsync(
+            final DOMNotification notification) {
+        final Collection<ListenerRegistration<? extends DOMNotificationListener>> subscribers =
+                subscribers(notification.getType());
+        if (subscribers.isEmpty()) {
+            return Futures.immediateFuture(NO_LISTENERS);
+        }
+
+        // Do not overtake pending offers
+        if (pendingOffers.isEmpty()) {
+            final ListenableFuture<? extends Object> noBlock = tryPublish(notification, subscribers);
+            if (!DOMNotificationPublishService.REJECTED.equals(noBlock)) {
+                return Futures.immediateFuture(noBlock);
+            }
+        }
+
+        final PendingOffer offer = new PendingOffer(notification, subscribers);
+        pendingOffers.add(offer);
+        // Capacity may have become available after we have failed to claim it, but before we have queued the offer
+        publishPendingOffers();
+        return offer.future;
+    }
+
+    /**
+     * Publish pending offers while there is capacity in the ring buffer. This is invoked by offering threads and by
+     * the last handler whenever it releases a slot, hence any offer queued when the ring buffer is full is picked up
+     * once the ring buffer drains.
+     */
+    private void publishPendingOffers() {
+        final RingBuffer<DOMNotificationRouterEvent> ringBuffer = disruptor.getRingBuffer();
+        pendingOffersLock.lock();
         try {
-            final Thread publishThread = Thread.currentThread();
-            ScheduledFuture<?> timerTask = observer.schedule(publishThread::interrupt, timeout, unit);
-            final ListenableFuture<?> withBlock = putNotification(notification);
-            timerTask.cancel(true);
-            if (observer.getQueue().size() > 50) {
-                observer.purge();
+            for (PendingOffer offer = pendingOffers.peek(); offer != null; offer = pendingOffers.peek()) {
+                final long seq;
+                try {
+                    seq = ringBuffer.tryNext();
+                } catch (InsufficientCapacityException e) {
+                    LOG.trace("Ring buffer is full, {} offers remain pending", pendingOffers.size(), e);
+                    return;
+                }
+
+                pendingOffers.remove();
+                offer.future.set(publish(seq, offer.notification, offer.subscribers));
             }
-            return withBlock;
-        } catch (InterruptedException e) {
-            return DOMNotificationPublishService.REJECTED;
+        } finally {
+            pendingOffersLock.unlock();
         }
     }
 
+    /**
+     * Return the queues of currently-registered listeners. This is empty unless this router operates in parallel
+     * delivery mode.
+     *
+     * @return Listener queues
+     */
+    public Collection<NotificationListenerQueue> getListenerQueues() {
+        return ImmutableList.copyOf(listenerQueues);
+    }
+
     @Override
     public void close() {
-        observer.shutdown();
+        pendingOffersLock.lock();
+        try {
+            for (PendingOffer offer = pendingOffers.poll(); offer != null; offer = pendingOffers.poll()) {
+                offer.future.set(DOMNotificationPublishService.REJECTED);
+            }
+        } finally {
+            pendingOffersLock.unlock();
+        }
         disruptor.shutdown();
         executor.shutdown();
     }
@@ -269,7 +585,9 @@ public class DOMNotificationRouter implements AutoCloseable, DOMNotificationPubl
 
     @VisibleForTesting
     Multimap<SchemaPath, ?> listeners() {
-        return listeners;
+        final ImmutableMultimap.Builder<SchemaPath, Object> builder = ImmutableMultimap.builder();
+        listeners.forEach((type, typeListeners) -> builder.putAll(type, typeListeners.registrations()));
+        return builder.build();
     }
 
     @VisibleForTesting
@@ -14,6 +14,7 @@ import com.lmax.disruptor.EventFactory;
 import java.util.Collection;
 import org.opendaylight.mdsal.dom.api.DOMNotification;
 import org.opendaylight.mdsal.dom.api.DOMNotificationListener;
+import org.opendaylight.mdsal.dom.broker.NotificationListenerQueue.PendingNotification;
 import org.opendaylight.yangtools.concepts.ListenerRegistration;
 
 /**
@@ -41,16 +42,41 @@ final class DOMNotificationRouterEvent {
     }
 
     void deliverNotification() {
+        int queued = 0;
         for (ListenerRegistration<? extends DOMNotificationListener> r : subscribers) {
+            if (queueOf(r) != null) {
+                queued++;
+                continue;
+            }
+
             final DOMNotificationListener l = r.getInstance();
             if (l != null) {
                 l.onNotification(notification);
             }
         }
+
+        if (queued != 0) {
+            // Hand the future off to the listener queues, it will be completed once they all consume the notification
+            final PendingNotification pending = new PendingNotification(notification, future, queued);
+            future = null;
+            for (ListenerRegistration<? extends DOMNotificationListener> r : subscribers) {
+                final NotificationListenerQueue queue = queueOf(r);
+                if (queue != null) {
+                    queue.enqueue(pending);
+                }
+            }
+        }
     }
 
     void setFuture() {
-        future.set(null);
+        if (future != null) {
+            future.set(null);
+        }
+    }
+
+    private static NotificationListenerQueue queueOf(final ListenerRegistration<?> reg) {
+        return reg instanceof DOMNotificationRouter.Registration
+                ? ((DOMNotificationRouter.Registration<?>) reg).queue() : null;
     }
 
 }
\ No newline at end of file
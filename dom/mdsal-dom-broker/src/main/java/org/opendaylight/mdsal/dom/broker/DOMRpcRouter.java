@@ -7,7 +7,6 @@
  */
 package org.opendaylight.mdsal.dom.broker;
 
-import static com.google.common.base.Verify.verifyNotNull;
 import static java.util.Objects.requireNonNull;
 
 import com.google.common.annotations.VisibleForTesting;
@@ -15,21 +14,20 @@ import com.google.common.collect.Collections2;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableList.Builder;
 import com.google.common.collect.ImmutableSet;
-import com.google.common.collect.MapDifference;
-import com.google.common.collect.MapDifference.ValueDifference;
-import com.google.common.collect.Maps;
-import com.google.common.collect.Sets;
 import com.google.common.util.concurrent.CheckedFuture;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 import javax.annotation.concurrent.GuardedBy;
 import org.opendaylight.mdsal.dom.api.DOMRpcAvailabilityListener;
 import org.opendaylight.mdsal.dom.api.DOMRpcException;
@@ -60,10 +58,46 @@ public final class DOMRpcRouter implements AutoCloseable, DOMRpcService, DOMRpcP
 
     private volatile DOMRpcRoutingTable routingTable = DOMRpcRoutingTable.EMPTY;
 
+    private final RpcImplementationSelector selector;
+
     private ListenerRegistration<?> listenerRegistration;
 
+    public DOMRpcRouter() {
+        this(RpcImplementationSelector.DEFAULT);
+    }
+
+    /**
+     * Create a router which selects among multiple implementations of an RPC according to specified strategy.
+     *
+     * @param strategy implementation selection strategy
+     * @param maxOutstandingRequests maximum number of outstanding requests to a single implementation, after which
+     *                               it is not selected if there are other implementations available, 0 means no limit
+     * @param failureThreshold number of consecutive failed invocations after which an implementation is not
+     *                         selected for a period of time, 0 disables this check
+     * @param ejectionTime period of time for which a failing implementation is not selected
+     * @param unit time unit of ejectionTime
+     */
+    public DOMRpcRouter(final DOMRpcSelectionStrategy strategy, final int maxOutstandingRequests,
+            final int failureThreshold, final long ejectionTime, final TimeUnit unit) {
+        this(new RpcImplementationSelector(strategy, maxOutstandingRequests, failureThreshold, ejectionTime, unit));
+    }
+
+    private DOMRpcRouter(final RpcImplementationSelector selector) {
+        this.selector = requireNonNull(selector);
+    }
+
     public static DOMRpcRouter newInstance(final DOMSchemaService schemaService) {
-        final DOMRpcRouter rpcRouter = new DOMRpcRouter();
+        return register(new DOMRpcRouter(), schemaService);
+    }
+
+    public static DOMRpcRouter newInstance(final DOMSchemaService schemaService,
+            final DOMRpcSelectionStrategy strategy, final int maxOutstandingRequests, final int failureThreshold,
+            final long ejectionTimeMillis) {
+        return register(new DOMRpcRouter(strategy, maxOutstandingRequests, failureThreshold, ejectionTimeMillis,
+            TimeUnit.MILLISECONDS), schemaService);
+    }
+
+    private static DOMRpcRouter register(final DOMRpcRouter rpcRouter, final DOMSchemaService schemaService) {
         rpcRouter.listenerRegistration = schemaService.registerSchemaContextListener(rpcRouter);
         return rpcRouter;
     }
@@ -81,7 +115,7 @@ public final class DOMRpcRouter implements AutoCloseable, DOMRpcService, DOMRpcP
         final DOMRpcRoutingTable newTable = oldTable.add(implementation, rpcs);
         routingTable = newTable;
 
-        listenerNotifier.execute(() -> notifyAdded(newTable, implementation));
+        listenerNotifier.execute(() -> notifyAdded(newTable, implementation, rpcs));
 
         return new AbstractDOMRpcImplementationRegistration<T>(implementation) {
             @Override
@@ -97,28 +131,30 @@ public final class DOMRpcRouter implements AutoCloseable, DOMRpcService, DOMRpcP
         final DOMRpcRoutingTable newTable = oldTable.remove(implementation, rpcs);
         routingTable = newTable;
 
-        listenerNotifier.execute(() -> notifyRemoved(newTable, implementation));
+        listenerNotifier.execute(() -> notifyRemoved(newTable, implementation, rpcs));
     }
 
     @Override
     public CheckedFuture<DOMRpcResult, DOMRpcException> invokeRpc(final SchemaPath type,
             final NormalizedNode<?, ?> input) {
-        return routingTable.invokeRpc(type, input);
+        return routingTable.invokeRpc(type, input, selector);
     }
 
     private synchronized void removeListener(final ListenerRegistration<? extends DOMRpcAvailabilityListener> reg) {
         listeners = ImmutableList.copyOf(Collections2.filter(listeners, input -> !reg.equals(input)));
     }
 
-    private synchronized void notifyAdded(final DOMRpcRoutingTable newTable, final DOMRpcImplementation impl) {
+    private synchronized void notifyAdded(final DOMRpcRoutingTable newTable, final DOMRpcImplementation impl,
+            final Set<DOMRpcIdentifier> rpcs) {
         for (Registration<?> l : listeners) {
-            l.addRpc(newTable, impl);
+            l.addRpc(newTable, impl, rpcs);
         }
     }
 
-    private synchronized void notifyRemoved(final DOMRpcRoutingTable newTable, final DOMRpcImplementation impl) {
+    private synchronized void notifyRemoved(final DOMRpcRoutingTable newTable, final DOMRpcImplementation impl,
+            final Set<DOMRpcIdentifier> rpcs) {
         for (Registration<?> l : listeners) {
-            l.removeRpc(newTable, impl);
+            l.removeRpc(newTable, impl, rpcs);
         }
     }
 
@@ -166,13 +202,16 @@ public final class DOMRpcRouter implements AutoCloseable, DOMRpcService, DOMRpcP
 
         private final DOMRpcRouter router;
 
-        private Map<SchemaPath, Set<YangInstanceIdentifier>> prevRpcs;
+        // Accessed only from the listenerNotifier thread
+        private final Map<SchemaPath, Set<YangInstanceIdentifier>> prevRpcs = new HashMap<>();
 
         Registration(final DOMRpcRouter router, final T listener,
                 final Map<SchemaPath, Set<YangInstanceIdentifier>> rpcs) {
             super(listener);
             this.router = requireNonNull(router);
-            this.prevRpcs = requireNonNull(rpcs);
+            for (Entry<SchemaPath, Set<YangInstanceIdentifier>> e : rpcs.entrySet()) {
+                prevRpcs.put(e.getKey(), new HashSet<>(e.getValue()));
+            }
         }
 
         @Override
@@ -190,53 +229,52 @@ public final class DOMRpcRouter implements AutoCloseable, DOMRpcService, DOMRpcP
             }
         }
 
-        void addRpc(final DOMRpcRoutingTable newTable, final DOMRpcImplementation impl) {
+        /*
+         * Both addRpc() and removeRpc() only look at the identifiers being changed, so their cost does not depend on
+         * the size of the routing table.
+         */
+        void addRpc(final DOMRpcRoutingTable newTable, final DOMRpcImplementation impl,
+                final Set<DOMRpcIdentifier> rpcs) {
             final T l = getInstance();
             if (!l.acceptsImplementation(impl)) {
                 return;
             }
 
-            final Map<SchemaPath, Set<YangInstanceIdentifier>> rpcs = verifyNotNull(newTable.getRpcs(l));
-            final MapDifference<SchemaPath, Set<YangInstanceIdentifier>> diff = Maps.difference(prevRpcs, rpcs);
-
             final Collection<DOMRpcIdentifier> added = new ArrayList<>();
-            for (Entry<SchemaPath, Set<YangInstanceIdentifier>> e : diff.entriesOnlyOnRight().entrySet()) {
-                added.addAll(Collections2.transform(e.getValue(), i -> DOMRpcIdentifier.create(e.getKey(), i)));
-            }
-            for (Entry<SchemaPath, ValueDifference<Set<YangInstanceIdentifier>>> e :
-                    diff.entriesDiffering().entrySet()) {
-                for (YangInstanceIdentifier i : Sets.difference(e.getValue().rightValue(), e.getValue().leftValue())) {
-                    added.add(DOMRpcIdentifier.create(e.getKey(), i));
+            for (DOMRpcIdentifier rpc : rpcs) {
+                if (prevRpcs.computeIfAbsent(rpc.getType(), k -> new HashSet<>()).add(rpc.getContextReference())) {
+                    added.add(rpc);
                 }
             }
 
-            prevRpcs = rpcs;
             if (!added.isEmpty()) {
                 l.onRpcAvailable(added);
             }
         }
 
-        void removeRpc(final DOMRpcRoutingTable newTable, final DOMRpcImplementation impl) {
+        void removeRpc(final DOMRpcRoutingTable newTable, final DOMRpcImplementation impl,
+                final Set<DOMRpcIdentifier> rpcs) {
             final T l = getInstance();
             if (!l.acceptsImplementation(impl)) {
                 return;
             }
 
-            final Map<SchemaPath, Set<YangInstanceIdentifier>> rpcs = verifyNotNull(newTable.getRpcs(l));
-            final MapDifference<SchemaPath, Set<YangInstanceIdentifier>> diff = Maps.difference(prevRpcs, rpcs);
-
             final Collection<DOMRpcIdentifier> removed = new ArrayList<>();
-            for (Entry<SchemaPath, Set<YangInstanceIdentifier>> e : diff.entriesOnlyOnLeft().entrySet()) {
-                removed.addAll(Collections2.transform(e.getValue(), i -> DOMRpcIdentifier.create(e.getKey(), i)));
-            }
-            for (Entry<SchemaPath, ValueDifference<Set<YangInstanceIdentifier>>> e :
-                    diff.entriesDiffering().entrySet()) {
-                for (YangInstanceIdentifier i : Sets.difference(e.getValue().leftValue(), e.getValue().rightValue())) {
-                    removed.add(DOMRpcIdentifier.create(e.getKey(), i));
+            for (DOMRpcIdentifier rpc : rpcs) {
+                // Another implementation acceptable to the listener may still be providing the RPC
+                if (newTable.contains(rpc, l)) {
+                    continue;
+                }
+
+                final Set<YangInstanceIdentifier> contexts = prevRpcs.get(rpc.getType());
+                if (contexts != null && contexts.remove(rpc.getContextReference())) {
+                    if (contexts.isEmpty()) {
+                        prevRpcs.remove(rpc.getType());
+                    }
+                    removed.add(rpc);
                 }
             }
 
-            prevRpcs = rpcs;
             if (!removed.isEmpty()) {
                 l.onRpcUnavailable(removed);
             }
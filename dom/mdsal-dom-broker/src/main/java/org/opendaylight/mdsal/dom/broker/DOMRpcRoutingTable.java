@@ -10,15 +10,11 @@ package org.opendaylight.mdsal.dom.broker;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.ImmutableMap.Builder;
 import com.google.common.collect.LinkedListMultimap;
 import com.google.common.collect.ListMultimap;
 import com.google.common.collect.Maps;
 import com.google.common.util.concurrent.CheckedFuture;
 import com.google.common.util.concurrent.Futures;
-import java.util.ArrayList;
-import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -39,13 +35,17 @@ import org.opendaylight.yangtools.yang.model.api.RpcDefinition;
 import org.opendaylight.yangtools.yang.model.api.SchemaContext;
 import org.opendaylight.yangtools.yang.model.api.SchemaPath;
 
+/**
+ * Immutable snapshot of registered RPC implementations. Modifications produce a new snapshot, sharing unmodified
+ * state with this one, so their cost is proportional to the number of RPC identifiers being modified.
+ */
 final class DOMRpcRoutingTable {
-    static final DOMRpcRoutingTable EMPTY = new DOMRpcRoutingTable(ImmutableMap.of(), null);
+    static final DOMRpcRoutingTable EMPTY = new DOMRpcRoutingTable(PersistentHashMap.of(), null);
 
-    private final Map<SchemaPath, AbstractDOMRpcRoutingTableEntry> rpcs;
+    private final PersistentHashMap<SchemaPath, AbstractDOMRpcRoutingTableEntry> rpcs;
     private final SchemaContext schemaContext;
 
-    private DOMRpcRoutingTable(final Map<SchemaPath, AbstractDOMRpcRoutingTableEntry> rpcs,
+    private DOMRpcRoutingTable(final PersistentHashMap<SchemaPath, AbstractDOMRpcRoutingTableEntry> rpcs,
             final SchemaContext schemaContext) {
         this.rpcs = Preconditions.checkNotNull(rpcs);
         this.schemaContext = schemaContext;
@@ -68,30 +68,26 @@ final class DOMRpcRoutingTable {
         // First decompose the identifiers to a multimap
         final ListMultimap<SchemaPath, YangInstanceIdentifier> toAdd = decomposeIdentifiers(rpcsToAdd);
 
-        // Now iterate over existing entries, modifying them as appropriate...
-        final Builder<SchemaPath, AbstractDOMRpcRoutingTableEntry> mb = ImmutableMap.builder();
-        for (Entry<SchemaPath, AbstractDOMRpcRoutingTableEntry> re : this.rpcs.entrySet()) {
-            List<YangInstanceIdentifier> newRpcs = new ArrayList<>(toAdd.removeAll(re.getKey()));
-            if (!newRpcs.isEmpty()) {
-                final AbstractDOMRpcRoutingTableEntry ne = re.getValue().add(implementation, newRpcs);
-                mb.put(re.getKey(), ne);
+        // Now update only the entries which are affected
+        PersistentHashMap<SchemaPath, AbstractDOMRpcRoutingTableEntry> map = rpcs;
+        for (SchemaPath type : toAdd.keySet()) {
+            final List<YangInstanceIdentifier> newRpcs = toAdd.get(type);
+            final AbstractDOMRpcRoutingTableEntry existing = map.get(type);
+            final AbstractDOMRpcRoutingTableEntry ne;
+            if (existing != null) {
+                ne = existing.add(implementation, newRpcs);
             } else {
-                mb.put(re);
-            }
-        }
-
-        // Finally add whatever is left in the decomposed multimap
-        for (Entry<SchemaPath, Collection<YangInstanceIdentifier>> e : toAdd.asMap().entrySet()) {
-            final Builder<YangInstanceIdentifier, List<DOMRpcImplementation>> vb = ImmutableMap.builder();
-            final List<DOMRpcImplementation> v = ImmutableList.of(implementation);
-            for (YangInstanceIdentifier i : e.getValue()) {
-                vb.put(i, v);
+                final List<DOMRpcImplementation> v = ImmutableList.of(implementation);
+                PersistentHashMap<YangInstanceIdentifier, List<DOMRpcImplementation>> vm = PersistentHashMap.of();
+                for (YangInstanceIdentifier i : newRpcs) {
+                    vm = vm.plus(i, v);
+                }
+                ne = createRpcEntry(schemaContext, type, vm);
             }
-
-            mb.put(e.getKey(), createRpcEntry(schemaContext, e.getKey(), vb.build()));
+            map = map.plus(type, ne);
         }
 
-        return new DOMRpcRoutingTable(mb.build(), schemaContext);
+        return new DOMRpcRoutingTable(map, schemaContext);
     }
 
     DOMRpcRoutingTable remove(final DOMRpcImplementation implementation, final Set<DOMRpcIdentifier> rpcIds) {
@@ -102,22 +98,17 @@ final class DOMRpcRoutingTable {
         // First decompose the identifiers to a multimap
         final ListMultimap<SchemaPath, YangInstanceIdentifier> toRemove = decomposeIdentifiers(rpcIds);
 
-        // Now iterate over existing entries, modifying them as appropriate...
-        final Builder<SchemaPath, AbstractDOMRpcRoutingTableEntry> b = ImmutableMap.builder();
-        for (Entry<SchemaPath, AbstractDOMRpcRoutingTableEntry> e : this.rpcs.entrySet()) {
-            final List<YangInstanceIdentifier> removed = new ArrayList<>(toRemove.removeAll(e.getKey()));
-            if (!removed.isEmpty()) {
-                final AbstractDOMRpcRoutingTableEntry ne = e.getValue().remove(implementation, removed);
-                if (ne != null) {
-                    b.put(e.getKey(), ne);
-                }
-            } else {
-                b.put(e);
+        // Now update only the entries which are affected, anything not found was not there in the first place
+        PersistentHashMap<SchemaPath, AbstractDOMRpcRoutingTableEntry> map = rpcs;
+        for (SchemaPath type : toRemove.keySet()) {
+            final AbstractDOMRpcRoutingTableEntry existing = map.get(type);
+            if (existing != null) {
+                final AbstractDOMRpcRoutingTableEntry ne = existing.remove(implementation, toRemove.get(type));
+                map = ne != null ? map.plus(type, ne) : map.minus(type);
             }
         }
 
-        // All done, whatever is in toRemove, was not there in the first place
-        return new DOMRpcRoutingTable(b.build(), schemaContext);
+        return new DOMRpcRoutingTable(map, schemaContext);
     }
 
     boolean contains(final DOMRpcIdentifier input) {
@@ -125,6 +116,23 @@ final class DOMRpcRoutingTable {
         return contexts != null && contexts.containsContext(input.getContextReference());
     }
 
+    /**
+     * Check whether an RPC identifier has at least one implementation which is acceptable to a listener.
+     *
+     * @param input RPC identifier
+     * @param listener Listener to check
+     * @return True if a matching implementation exists
+     */
+    boolean contains(final DOMRpcIdentifier input, final DOMRpcAvailabilityListener listener) {
+        final AbstractDOMRpcRoutingTableEntry contexts = rpcs.get(input.getType());
+        if (contexts == null) {
+            return false;
+        }
+
+        final List<DOMRpcImplementation> impls = contexts.getImplementations(input.getContextReference());
+        return impls != null && impls.stream().anyMatch(listener::acceptsImplementation);
+    }
+
     @VisibleForTesting
     Map<SchemaPath, Set<YangInstanceIdentifier>> getRpcs() {
         return Maps.transformValues(rpcs, AbstractDOMRpcRoutingTableEntry::registeredIdentifiers);
@@ -174,23 +182,23 @@ final class DOMRpcRoutingTable {
         return new GlobalDOMRpcRoutingTableEntry(rpcDef, implementations);
     }
 
-    CheckedFuture<DOMRpcResult, DOMRpcException> invokeRpc(final SchemaPath type, final NormalizedNode<?, ?> input) {
+    CheckedFuture<DOMRpcResult, DOMRpcException> invokeRpc(final SchemaPath type, final NormalizedNode<?, ?> input,
+            final RpcImplementationSelector selector) {
         final AbstractDOMRpcRoutingTableEntry entry = rpcs.get(type);
         if (entry == null) {
             return Futures.<DOMRpcResult, DOMRpcException>immediateFailedCheckedFuture(
                     new DOMRpcImplementationNotAvailableException("No implementation of RPC %s available", type));
         }
 
-        return entry.invokeRpc(input);
+        return entry.invokeRpc(input, selector);
     }
 
     DOMRpcRoutingTable setSchemaContext(final SchemaContext context) {
-        final Builder<SchemaPath, AbstractDOMRpcRoutingTableEntry> b = ImmutableMap.builder();
-
+        PersistentHashMap<SchemaPath, AbstractDOMRpcRoutingTableEntry> map = rpcs;
         for (Entry<SchemaPath, AbstractDOMRpcRoutingTableEntry> e : rpcs.entrySet()) {
-            b.put(e.getKey(), createRpcEntry(context, e.getKey(), e.getValue().getImplementations()));
+            map = map.plus(e.getKey(), createRpcEntry(context, e.getKey(), e.getValue().getImplementations()));
         }
 
-        return new DOMRpcRoutingTable(b.build(), context);
+        return new DOMRpcRoutingTable(map, context);
     }
 }
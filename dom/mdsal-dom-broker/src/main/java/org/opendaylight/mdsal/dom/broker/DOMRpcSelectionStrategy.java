@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2018 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.dom.broker;
+
+/**
+ * Strategy used by {@link DOMRpcRouter} to select which of multiple {@link org.opendaylight.mdsal.dom.api
+ * .DOMRpcImplementation}s registered for the same RPC and context is invoked. Implementations which are currently
+ * ejected, either because they failed too many times in a row or because they have too many outstanding requests, are
+ * not considered, unless all implementations are ejected.
+ */
+public enum DOMRpcSelectionStrategy {
+    /**
+     * Always select the first available implementation, i.e. the one with the lowest
+     * {@link org.opendaylight.mdsal.dom.api.DOMRpcImplementation#invocationCost()}.
+     */
+    FIRST,
+    /**
+     * Rotate requests across all available implementations.
+     */
+    ROUND_ROBIN,
+    /**
+     * Select the available implementation with the least number of requests which have not completed yet. Ties are
+     * broken by invocation cost.
+     */
+    LEAST_OUTSTANDING,
+    /**
+     * Select the available implementation with the lowest exponentially-weighted moving average of response time,
+     * scaled by the number of its outstanding requests.
+     */
+    LATENCY_EWMA
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2018 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.dom.broker;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe histogram of durations, measured in nanoseconds. Durations are recorded into power-of-two buckets,
+ * bucket {@code 0} holds non-positive durations and bucket {@code N} holds durations in range
+ * {@code [2^(N-1), 2^N)}. The last bucket also holds all durations exceeding its lower bound.
+ *
+ *<p>
+ * Recording a duration is a single atomic increment and does not allocate, hence it is suitable for use on hot
+ * paths. Reads are not atomic with regard to concurrent updates, which is acceptable for statistics purposes.
+ */
+public final class DurationHistogram {
+    /**
+     * Number of buckets. The last bucket starts at 2^39 nanoseconds, which is a bit over 9 minutes.
+     */
+    static final int BUCKET_COUNT = 41;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+
+    /**
+     * Record a duration.
+     *
+     * @param nanos duration in nanoseconds
+     */
+    public void addDuration(final long nanos) {
+        buckets.incrementAndGet(bucketOf(nanos));
+    }
+
+    /**
+     * Return the total number of recorded durations.
+     *
+     * @return Total number of recorded durations
+     */
+    public long getTotalCount() {
+        long ret = 0;
+        for (int i = 0; i < BUCKET_COUNT; ++i) {
+            ret += buckets.get(i);
+        }
+        return ret;
+    }
+
+    /**
+     * Return a snapshot of bucket counts. Element at index {@code N} corresponds to durations bounded by
+     * {@link #getBucketUpperBound(int)}.
+     *
+     * @return Bucket counts
+     */
+    public long[] getBucketCounts() {
+        final long[] ret = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; ++i) {
+            ret[i] = buckets.get(i);
+        }
+        return ret;
+    }
+
+    /**
+     * Return the exclusive upper bound of a particular bucket, in nanoseconds. The last bucket is unbounded,
+     * hence it reports {@link Long#MAX_VALUE}.
+     *
+     * @param bucket bucket index
+     * @return Exclusive upper bound of the bucket
+     * @throws IllegalArgumentException if the bucket index is out of range
+     */
+    public static long getBucketUpperBound(final int bucket) {
+        Preconditions.checkArgument(bucket >= 0 && bucket < BUCKET_COUNT, "Invalid bucket %s", bucket);
+        return bucket == BUCKET_COUNT - 1 ? Long.MAX_VALUE : 1L << bucket;
+    }
+
+    /**
+     * Estimate the duration at specified percentile. The estimate is the upper bound of the bucket in which
+     * the percentile falls.
+     *
+     * @param percentile requested percentile, in range (0, 100]
+     * @return Estimated duration in nanoseconds, or 0 if no durations have been recorded
+     * @throws IllegalArgumentException if the percentile is out of range
+     */
+    public long getPercentile(final double percentile) {
+        Preconditions.checkArgument(percentile > 0 && percentile <= 100, "Invalid percentile %s", percentile);
+
+        final long[] counts = getBucketCounts();
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        final long threshold = (long) Math.ceil(total * percentile / 100);
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; ++i) {
+            seen += counts[i];
+            if (seen >= threshold) {
+                return getBucketUpperBound(i);
+            }
+        }
+        return Long.MAX_VALUE;
+    }
+
+    /**
+     * Reset all buckets to zero.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; ++i) {
+            buckets.set(i, 0);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("count", getTotalCount()).add("p50", getPercentile(50))
+                .add("p99", getPercentile(99)).toString();
+    }
+
+    static int bucketOf(final long nanos) {
+        if (nanos <= 0) {
+            return 0;
+        }
+        return Math.min(Long.SIZE - Long.numberOfLeadingZeros(nanos), BUCKET_COUNT - 1);
+    }
+}
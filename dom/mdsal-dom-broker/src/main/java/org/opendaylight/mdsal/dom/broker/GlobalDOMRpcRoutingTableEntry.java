@@ -38,8 +38,9 @@ final class GlobalDOMRpcRoutingTableEntry extends AbstractDOMRpcRoutingTableEntr
     }
 
     @Override
-    protected CheckedFuture<DOMRpcResult, DOMRpcException> invokeRpc(final NormalizedNode<?, ?> input) {
-        return getImplementations(ROOT).get(0).invokeRpc(rpcId, input);
+    protected CheckedFuture<DOMRpcResult, DOMRpcException> invokeRpc(final NormalizedNode<?, ?> input,
+            final RpcImplementationSelector selector) {
+        return selector.invokeRpc(getImplementations(ROOT), rpcId, input);
     }
 
     @Override
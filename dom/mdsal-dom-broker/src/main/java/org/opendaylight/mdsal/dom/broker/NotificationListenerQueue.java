@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2018 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.dom.broker;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.SettableFuture;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.opendaylight.mdsal.dom.api.DOMNotification;
+import org.opendaylight.mdsal.dom.api.DOMNotificationListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded queue of notifications pending delivery to a single {@link DOMNotificationListener} registered with
+ * a {@link DOMNotificationRouter} operating in parallel delivery mode. The Disruptor thread hands notifications off
+ * to the queues of their subscribers, which are drained in batches on the router's executor, so that a slow listener
+ * holds up only notifications of the types it is subscribed to, and only once its queue is full.
+ *
+ *<p>
+ * Each queue exposes its depth and a histogram of the time notifications spend waiting in it before they are
+ * delivered.
+ */
+public final class NotificationListenerQueue implements Runnable {
+    /**
+     * A notification handed off to one or more queues. Its future completes once all of them have consumed it.
+     */
+    static final class PendingNotification {
+        private final AtomicInteger remaining;
+        private final SettableFuture<Void> future;
+        private final long handedOff = System.nanoTime();
+        final DOMNotification notification;
+
+        PendingNotification(final DOMNotification notification, final SettableFuture<Void> future,
+                final int subscribers) {
+            this.notification = Preconditions.checkNotNull(notification);
+            this.future = Preconditions.checkNotNull(future);
+            this.remaining = new AtomicInteger(subscribers);
+        }
+
+        void consumed() {
+            if (remaining.decrementAndGet() == 0) {
+                future.set(null);
+            }
+        }
+    }
+
+    private static final Logger LOG = LoggerFactory.getLogger(NotificationListenerQueue.class);
+
+    private final DurationHistogram lagHistogram = new DurationHistogram();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final BlockingQueue<PendingNotification> queue;
+    private final DOMNotificationListener listener;
+    private final Executor executor;
+
+    private volatile boolean closed;
+
+    NotificationListenerQueue(final DOMNotificationListener listener, final int capacity, final Executor executor) {
+        this.listener = Preconditions.checkNotNull(listener);
+        this.executor = Preconditions.checkNotNull(executor);
+        this.queue = new ArrayBlockingQueue<>(capacity);
+    }
+
+    /**
+     * Return the listener this queue delivers to.
+     *
+     * @return Notification listener
+     */
+    public DOMNotificationListener getListener() {
+        return listener;
+    }
+
+    /**
+     * Return the number of notifications waiting for delivery.
+     *
+     * @return Current queue depth
+     */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * Return the histogram of times notifications waited in this queue before being delivered.
+     *
+     * @return Delivery lag histogram
+     */
+    public DurationHistogram getLagHistogram() {
+        return lagHistogram;
+    }
+
+    /**
+     * Enqueue a notification, blocking while this queue is full.
+     *
+     * @param pending Notification to deliver
+     */
+    void enqueue(final PendingNotification pending) {
+        if (closed) {
+            pending.consumed();
+            return;
+        }
+
+        try {
+            queue.put(pending);
+        } catch (InterruptedException e) {
+            LOG.warn("Interrupted while queueing notification {} for listener {}, dropping it", pending.notification,
+                listener, e);
+            pending.consumed();
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        schedule();
+    }
+
+    /**
+     * Close this queue. Notifications which have not been delivered yet are dropped.
+     */
+    void close() {
+        closed = true;
+        // Make sure whatever is queued is consumed
+        schedule();
+    }
+
+    private void schedule() {
+        if (scheduled.compareAndSet(false, true)) {
+            try {
+                executor.execute(this);
+            } catch (RejectedExecutionException e) {
+                LOG.debug("Failed to schedule delivery to listener {}, delivering inline", listener, e);
+                run();
+            }
+        }
+    }
+
+    @Override
+    public void run() {
+        for (PendingNotification pending = queue.poll(); pending != null; pending = queue.poll()) {
+            deliver(pending);
+        }
+
+        scheduled.set(false);
+        // Notifications enqueued after we have drained the queue, but before we cleared the flag, need a new task
+        if (!queue.isEmpty()) {
+            schedule();
+        }
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private void deliver(final PendingNotification pending) {
+        try {
+            if (!closed) {
+                lagHistogram.addDuration(System.nanoTime() - pending.handedOff);
+                listener.onNotification(pending.notification);
+            }
+        } catch (RuntimeException e) {
+            LOG.warn("Listener {} failed to process notification {}", listener, pending.notification, e);
+        } finally {
+            pending.consumed();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("listener", listener).add("depth", getQueueDepth())
+                .add("lag", lagHistogram).toString();
+    }
+}
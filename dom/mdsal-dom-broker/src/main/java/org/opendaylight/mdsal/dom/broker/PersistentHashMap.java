@@ -0,0 +1,420 @@
+/*
+ * Copyright (c) 2018 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.dom.broker;
+
+import com.google.common.base.Preconditions;
+import java.util.AbstractMap;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * An immutable hash map, which supports creating modified copies in time and space proportional to the modification.
+ * It is implemented as a Hash Array Mapped Trie with 32-way branching, hence a modification copies at most 7 small
+ * nodes while sharing everything else with the original map. Lookups are plain reads of immutable state.
+ *
+ *<p>
+ * This map does not support null values. Null keys are supported.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+final class PersistentHashMap<K, V> extends AbstractMap<K, V> {
+    private static final PersistentHashMap<?, ?> EMPTY = new PersistentHashMap<>(BitmapNode.EMPTY, 0);
+
+    private final Node root;
+    private final int size;
+
+    private Set<Entry<K, V>> entrySet;
+
+    private PersistentHashMap(final Node root, final int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <K, V> PersistentHashMap<K, V> of() {
+        return (PersistentHashMap<K, V>) EMPTY;
+    }
+
+    /**
+     * Return a {@link PersistentHashMap} containing the same mappings as specified map. If the map is already
+     * a {@link PersistentHashMap}, it is returned without copying.
+     *
+     * @param map Source map
+     * @return A PersistentHashMap
+     */
+    @SuppressWarnings("unchecked")
+    static <K, V> PersistentHashMap<K, V> copyOf(final Map<? extends K, ? extends V> map) {
+        if (map instanceof PersistentHashMap) {
+            return (PersistentHashMap<K, V>) map;
+        }
+
+        PersistentHashMap<K, V> ret = of();
+        for (Entry<? extends K, ? extends V> e : map.entrySet()) {
+            ret = ret.plus(e.getKey(), e.getValue());
+        }
+        return ret;
+    }
+
+    /**
+     * Return a map with specified mapping added or replaced. If the mapping is already present, this map is returned.
+     *
+     * @param key Key
+     * @param value Value, must not be null
+     * @return A map containing the mapping
+     */
+    PersistentHashMap<K, V> plus(final K key, final V value) {
+        Preconditions.checkNotNull(value);
+        final int hash = hash(key);
+        final boolean present = root.find(key, hash, 0) != null;
+        final Node newRoot = root.plus(new SimpleImmutableEntry<>(key, value), hash, 0);
+        return newRoot == root ? this : new PersistentHashMap<>(newRoot, present ? size : size + 1);
+    }
+
+    /**
+     * Return a map with the mapping for specified key removed. If there is no such mapping, this map is returned.
+     *
+     * @param key Key
+     * @return A map not containing the key
+     */
+    PersistentHashMap<K, V> minus(final Object key) {
+        final Node newRoot = root.minus(key, hash(key), 0);
+        if (newRoot == root) {
+            return this;
+        }
+        return newRoot == null ? of() : new PersistentHashMap<>(newRoot, size - 1);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(final Object key) {
+        return (V) root.find(key, hash(key), 0);
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return root.find(key, hash(key), 0) != null;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        Set<Entry<K, V>> ret = entrySet;
+        if (ret == null) {
+            ret = new AbstractSet<Entry<K, V>>() {
+                @Override
+                public Iterator<Entry<K, V>> iterator() {
+                    return new EntryIterator<>(root);
+                }
+
+                @Override
+                public int size() {
+                    return size;
+                }
+            };
+            entrySet = ret;
+        }
+        return ret;
+    }
+
+    private static int hash(final Object key) {
+        final int h = Objects.hashCode(key);
+        return h ^ (h >>> 16);
+    }
+
+    private static int bit(final int hash, final int shift) {
+        return 1 << ((hash >>> shift) & 0x1f);
+    }
+
+    private static Object[] insert(final Object[] slots, final int index, final Object slot) {
+        final Object[] ret = new Object[slots.length + 1];
+        System.arraycopy(slots, 0, ret, 0, index);
+        ret[index] = slot;
+        System.arraycopy(slots, index, ret, index + 1, slots.length - index);
+        return ret;
+    }
+
+    private static Object[] replace(final Object[] slots, final int index, final Object slot) {
+        final Object[] ret = slots.clone();
+        ret[index] = slot;
+        return ret;
+    }
+
+    private static Object[] delete(final Object[] slots, final int index) {
+        final Object[] ret = new Object[slots.length - 1];
+        System.arraycopy(slots, 0, ret, 0, index);
+        System.arraycopy(slots, index + 1, ret, index, ret.length - index);
+        return ret;
+    }
+
+    /**
+     * A trie node. Each slot holds either a {@link SimpleImmutableEntry} or a child {@link Node}.
+     */
+    private abstract static class Node {
+        abstract Object find(Object key, int hash, int shift);
+
+        abstract Node plus(SimpleImmutableEntry<?, ?> entry, int hash, int shift);
+
+        /**
+         * Remove a key from this node.
+         *
+         * @return This node if the key was not found, null if the node became empty, a new node otherwise
+         */
+        abstract Node minus(Object key, int hash, int shift);
+
+        abstract Object[] slots();
+
+        /**
+         * Return the sole entry stored in this node, or null if this node holds more than a single entry.
+         */
+        final SimpleImmutableEntry<?, ?> singleEntry() {
+            final Object[] slots = slots();
+            return slots.length == 1 && slots[0] instanceof SimpleImmutableEntry
+                    ? (SimpleImmutableEntry<?, ?>) slots[0] : null;
+        }
+    }
+
+    private static final class BitmapNode extends Node {
+        static final BitmapNode EMPTY = new BitmapNode(0, new Object[0]);
+
+        private final Object[] slots;
+        private final int bitmap;
+
+        BitmapNode(final int bitmap, final Object[] slots) {
+            this.bitmap = bitmap;
+            this.slots = slots;
+        }
+
+        static Node of(final SimpleImmutableEntry<?, ?> first, final int firstHash,
+                final SimpleImmutableEntry<?, ?> second, final int secondHash, final int shift) {
+            if (firstHash == secondHash) {
+                return new CollisionNode(firstHash, new Object[] { first, second });
+            }
+
+            final int firstBit = bit(firstHash, shift);
+            final int secondBit = bit(secondHash, shift);
+            if (firstBit == secondBit) {
+                return new BitmapNode(firstBit, new Object[] { of(first, firstHash, second, secondHash, shift + 5) });
+            }
+
+            // Slots are ordered by their bit position
+            return new BitmapNode(firstBit | secondBit, Integer.compareUnsigned(firstBit, secondBit) < 0
+                    ? new Object[] { first, second } : new Object[] { second, first });
+        }
+
+        @Override
+        Object find(final Object key, final int hash, final int shift) {
+            final int bit = bit(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return null;
+            }
+
+            final Object slot = slots[index(bit)];
+            if (slot instanceof Node) {
+                return ((Node) slot).find(key, hash, shift + 5);
+            }
+            final SimpleImmutableEntry<?, ?> entry = (SimpleImmutableEntry<?, ?>) slot;
+            return Objects.equals(key, entry.getKey()) ? entry.getValue() : null;
+        }
+
+        @Override
+        Node plus(final SimpleImmutableEntry<?, ?> entry, final int hash, final int shift) {
+            final int bit = bit(hash, shift);
+            final int index = index(bit);
+            if ((bitmap & bit) == 0) {
+                return new BitmapNode(bitmap | bit, insert(slots, index, entry));
+            }
+
+            final Object slot = slots[index];
+            if (slot instanceof Node) {
+                final Node child = (Node) slot;
+                final Node newChild = child.plus(entry, hash, shift + 5);
+                return newChild == child ? this : new BitmapNode(bitmap, replace(slots, index, newChild));
+            }
+
+            final SimpleImmutableEntry<?, ?> existing = (SimpleImmutableEntry<?, ?>) slot;
+            if (Objects.equals(entry.getKey(), existing.getKey())) {
+                return existing.getValue() == entry.getValue() ? this
+                        : new BitmapNode(bitmap, replace(slots, index, entry));
+            }
+
+            return new BitmapNode(bitmap, replace(slots, index,
+                of(existing, hash(existing.getKey()), entry, hash, shift + 5)));
+        }
+
+        @Override
+        Node minus(final Object key, final int hash, final int shift) {
+            final int bit = bit(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return this;
+            }
+
+            final int index = index(bit);
+            final Object slot = slots[index];
+            if (slot instanceof Node) {
+                final Node child = (Node) slot;
+                final Node newChild = child.minus(key, hash, shift + 5);
+                if (newChild == child) {
+                    return this;
+                }
+                if (newChild == null) {
+                    return removeSlot(bit, index);
+                }
+
+                // Pull single entries up, so the trie does not degenerate into a chain of single-slot nodes
+                final SimpleImmutableEntry<?, ?> single = newChild.singleEntry();
+                return new BitmapNode(bitmap, replace(slots, index, single != null ? single : newChild));
+            }
+
+            final SimpleImmutableEntry<?, ?> existing = (SimpleImmutableEntry<?, ?>) slot;
+            return Objects.equals(key, existing.getKey()) ? removeSlot(bit, index) : this;
+        }
+
+        @Override
+        Object[] slots() {
+            return slots;
+        }
+
+        private Node removeSlot(final int bit, final int index) {
+            return slots.length == 1 ? null : new BitmapNode(bitmap & ~bit, delete(slots, index));
+        }
+
+        private int index(final int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+    }
+
+    /**
+     * A node holding entries whose keys have the same hash.
+     */
+    private static final class CollisionNode extends Node {
+        private final Object[] entries;
+        private final int hash;
+
+        CollisionNode(final int hash, final Object[] entries) {
+            this.hash = hash;
+            this.entries = entries;
+        }
+
+        @Override
+        Object find(final Object key, final int keyHash, final int shift) {
+            if (keyHash == hash) {
+                final int index = indexOf(key);
+                if (index != -1) {
+                    return ((SimpleImmutableEntry<?, ?>) entries[index]).getValue();
+                }
+            }
+            return null;
+        }
+
+        @Override
+        Node plus(final SimpleImmutableEntry<?, ?> entry, final int keyHash, final int shift) {
+            if (keyHash != hash) {
+                // Push this node one level down and retry
+                return new BitmapNode(bit(hash, shift), new Object[] { this }).plus(entry, keyHash, shift);
+            }
+
+            final int index = indexOf(entry.getKey());
+            if (index == -1) {
+                return new CollisionNode(hash, insert(entries, entries.length, entry));
+            }
+            return ((SimpleImmutableEntry<?, ?>) entries[index]).getValue() == entry.getValue() ? this
+                    : new CollisionNode(hash, replace(entries, index, entry));
+        }
+
+        @Override
+        Node minus(final Object key, final int keyHash, final int shift) {
+            if (keyHash != hash) {
+                return this;
+            }
+
+            final int index = indexOf(key);
+            if (index == -1) {
+                return this;
+            }
+            return entries.length == 1 ? null : new CollisionNode(hash, delete(entries, index));
+        }
+
+        @Override
+        Object[] slots() {
+            return entries;
+        }
+
+        private int indexOf(final Object key) {
+            for (int i = 0; i < entries.length; ++i) {
+                if (Objects.equals(key, ((SimpleImmutableEntry<?, ?>) entries[i]).getKey())) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+    private static final class EntryIterator<K, V> implements Iterator<Entry<K, V>> {
+        // 7 levels of bitmap nodes, plus a collision node
+        private final Object[][] stack = new Object[8][];
+        private final int[] offsets = new int[8];
+        private int depth;
+        private Entry<K, V> next;
+
+        EntryIterator(final Node root) {
+            stack[0] = root.slots();
+            next = advance();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Entry<K, V> next() {
+            final Entry<K, V> ret = next;
+            if (ret == null) {
+                throw new NoSuchElementException();
+            }
+            next = advance();
+            return ret;
+        }
+
+        @SuppressWarnings("unchecked")
+        private Entry<K, V> advance() {
+            while (depth >= 0) {
+                final Object[] slots = stack[depth];
+                if (offsets[depth] == slots.length) {
+                    --depth;
+                    continue;
+                }
+
+                final Object slot = slots[offsets[depth]++];
+                if (slot instanceof Node) {
+                    ++depth;
+                    stack[depth] = ((Node) slot).slots();
+                    offsets[depth] = 0;
+                } else {
+                    return (Entry<K, V>) slot;
+                }
+            }
+            return null;
+        }
+    }
+}
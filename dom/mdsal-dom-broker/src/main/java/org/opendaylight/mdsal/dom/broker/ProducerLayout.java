@@ -23,6 +23,8 @@ import java.util.Set;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeIdentifier;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeProducer;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeShard;
+import org.opendaylight.mdsal.dom.spi.DOMDataTreePrefixTable;
+import org.opendaylight.mdsal.dom.spi.DOMDataTreePrefixTableEntry;
 import org.opendaylight.mdsal.dom.spi.shard.DOMDataTreeShardProducer;
 import org.opendaylight.mdsal.dom.spi.shard.DOMDataTreeShardWriteTransaction;
 import org.opendaylight.mdsal.dom.spi.shard.WriteableDOMDataTreeShard;
@@ -37,6 +39,8 @@ final class ProducerLayout {
     private final BiMap<DOMDataTreeIdentifier, DOMDataTreeShardProducer> idToProducer;
     private final Map<DOMDataTreeIdentifier, DOMDataTreeProducer> children;
     private final Map<DOMDataTreeIdentifier, DOMDataTreeShard> shardMap;
+    private final DOMDataTreePrefixTable<DOMDataTreeIdentifier> subtreeTable;
+    private final DOMDataTreePrefixTable<DOMDataTreeProducer> childTable;
 
     private ProducerLayout(final Map<DOMDataTreeIdentifier, DOMDataTreeShard> shardMap,
             final BiMap<DOMDataTreeIdentifier, DOMDataTreeShardProducer> idToProducer,
@@ -44,6 +48,15 @@ final class ProducerLayout {
         this.shardMap = ImmutableMap.copyOf(shardMap);
         this.idToProducer = Preconditions.checkNotNull(idToProducer);
         this.children = Preconditions.checkNotNull(children);
+
+        subtreeTable = DOMDataTreePrefixTable.create();
+        for (final DOMDataTreeIdentifier id : this.shardMap.keySet()) {
+            subtreeTable.store(id, id);
+        }
+        childTable = DOMDataTreePrefixTable.create();
+        for (final Entry<DOMDataTreeIdentifier, DOMDataTreeProducer> e : children.entrySet()) {
+            childTable.store(e.getKey(), e.getValue());
+        }
     }
 
     static ProducerLayout create(final Map<DOMDataTreeIdentifier, DOMDataTreeShard> shardMap) {
@@ -91,24 +104,26 @@ final class ProducerLayout {
     }
 
     boolean haveSubtree(final DOMDataTreeIdentifier subtree) {
-        for (final DOMDataTreeIdentifier i : shardMap.keySet()) {
-            if (i.contains(subtree)) {
-                return true;
-            }
-        }
+        return lookupSubtree(subtree) != null;
+    }
 
-        return false;
+    /**
+     * Find the longest subtree of this layout, which contains specified path.
+     *
+     * @param path Path to look up
+     * @return Containing subtree, or null if the path is not contained in any subtree
+     */
+    DOMDataTreeIdentifier lookupSubtree(final DOMDataTreeIdentifier path) {
+        return valueOf(subtreeTable.lookup(path));
     }
 
     DOMDataTreeProducer lookupChild(final DOMDataTreeIdentifier path) {
-        for (final Entry<DOMDataTreeIdentifier, DOMDataTreeProducer> e : children.entrySet()) {
-            if (e.getKey().contains(path)) {
-                // FIXME: does this match wildcards?
-                return e.getValue();
-            }
-        }
+        // FIXME: does this match wildcards?
+        return valueOf(childTable.lookup(path));
+    }
 
-        return null;
+    private static <T> T valueOf(final DOMDataTreePrefixTableEntry<T> entry) {
+        return entry == null ? null : entry.getValue();
     }
 
     Set<DOMDataTreeIdentifier> getChildTrees() {
@@ -46,7 +46,8 @@ final class RoutedDOMRpcRoutingTableEntry extends AbstractDOMRpcRoutingTableEntr
     }
 
     @Override
-    protected CheckedFuture<DOMRpcResult, DOMRpcException> invokeRpc(final NormalizedNode<?, ?> input) {
+    protected CheckedFuture<DOMRpcResult, DOMRpcException> invokeRpc(final NormalizedNode<?, ?> input,
+            final RpcImplementationSelector selector) {
         final Optional<NormalizedNode<?, ?>> maybeKey = NormalizedNodes.findNode(input, keyId);
 
         // Routing key is present, attempt to deliver as a routed RPC
@@ -59,7 +60,7 @@ final class RoutedDOMRpcRoutingTableEntry extends AbstractDOMRpcRoutingTableEntr
                 // Find a DOMRpcImplementation for a specific iid
                 final List<DOMRpcImplementation> specificImpls = getImplementations(iid);
                 if (specificImpls != null) {
-                    return specificImpls.get(0).invokeRpc(DOMRpcIdentifier.create(getSchemaPath(), iid), input);
+                    return selector.invokeRpc(specificImpls, DOMRpcIdentifier.create(getSchemaPath(), iid), input);
                 }
 
                 LOG.debug("No implementation for context {} found will now look for wildcard id", iid);
@@ -69,7 +70,8 @@ final class RoutedDOMRpcRoutingTableEntry extends AbstractDOMRpcRoutingTableEntr
                 final List<DOMRpcImplementation> mayBeRemoteImpls = getImplementations(YangInstanceIdentifier.EMPTY);
 
                 if (mayBeRemoteImpls != null) {
-                    return mayBeRemoteImpls.get(0).invokeRpc(DOMRpcIdentifier.create(getSchemaPath(), iid), input);
+                    return selector.invokeRpc(mayBeRemoteImpls, DOMRpcIdentifier.create(getSchemaPath(), iid),
+                        input);
                 }
 
             } else {
@@ -79,7 +81,7 @@ final class RoutedDOMRpcRoutingTableEntry extends AbstractDOMRpcRoutingTableEntr
 
         final List<DOMRpcImplementation> impls = getImplementations(null);
         if (impls != null) {
-            return impls.get(0).invokeRpc(globalRpcId, input);
+            return selector.invokeRpc(impls, globalRpcId, input);
         }
 
         return Futures.<DOMRpcResult, DOMRpcException>immediateFailedCheckedFuture(
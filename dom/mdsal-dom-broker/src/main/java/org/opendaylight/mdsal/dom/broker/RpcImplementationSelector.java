@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2018 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.dom.broker;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.CheckedFuture;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.opendaylight.mdsal.dom.api.DOMRpcException;
+import org.opendaylight.mdsal.dom.api.DOMRpcIdentifier;
+import org.opendaylight.mdsal.dom.api.DOMRpcImplementation;
+import org.opendaylight.mdsal.dom.api.DOMRpcResult;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Selects a {@link DOMRpcImplementation} to invoke according to a {@link DOMRpcSelectionStrategy} and keeps track of
+ * per-implementation health based on the futures returned by invocations.
+ *
+ *<p>
+ * An implementation is ejected from selection for a configured amount of time once its invocations fail a configured
+ * number of times in a row. It is also skipped while it has reached the configured maximum number of outstanding
+ * requests. Invocations which complete with a {@link DOMRpcResult} are considered successful, even if the result
+ * carries errors, as those are reported by the RPC itself rather than the implementation being unhealthy.
+ */
+final class RpcImplementationSelector {
+    private static final class ImplementationState {
+        final AtomicInteger outstanding = new AtomicInteger();
+        final AtomicInteger consecutiveFailures = new AtomicInteger();
+        final AtomicLong latency = new AtomicLong();
+        // System.nanoTime() until which the implementation is ejected, 0 if it is not ejected
+        volatile long ejectedUntil;
+
+        boolean isEjected(final long now) {
+            final long until = ejectedUntil;
+            return until != 0 && now - until < 0;
+        }
+    }
+
+    /**
+     * Selector retaining the historic behavior of always invoking the cheapest implementation. It does not track
+     * any state.
+     */
+    static final RpcImplementationSelector DEFAULT = new RpcImplementationSelector(DOMRpcSelectionStrategy.FIRST,
+        0, 0, 0, TimeUnit.NANOSECONDS);
+
+    private static final Logger LOG = LoggerFactory.getLogger(RpcImplementationSelector.class);
+
+    // Weight of a new latency sample is 1/EWMA_DIVISOR
+    private static final int EWMA_DIVISOR = 8;
+
+    // Implementations are weakly referenced, so state does not outlive their registration
+    private final LoadingCache<DOMRpcImplementation, ImplementationState> states = CacheBuilder.newBuilder()
+            .weakKeys().build(CacheLoader.from(ImplementationState::new));
+    private final AtomicInteger sequence = new AtomicInteger();
+    private final DOMRpcSelectionStrategy strategy;
+    private final int maxOutstandingRequests;
+    private final int failureThreshold;
+    private final long ejectionNanos;
+    private final boolean tracking;
+
+    /**
+     * Create a new selector.
+     *
+     * @param strategy Selection strategy
+     * @param maxOutstandingRequests Maximum number of outstanding requests to an implementation before it is skipped,
+     *                               0 means no limit
+     * @param failureThreshold Number of consecutive failures after which an implementation is ejected, 0 means
+     *                         implementations are never ejected
+     * @param ejectionTime Time for which an implementation remains ejected
+     * @param unit Time unit of ejectionTime
+     */
+    RpcImplementationSelector(final DOMRpcSelectionStrategy strategy, final int maxOutstandingRequests,
+            final int failureThreshold, final long ejectionTime, final TimeUnit unit) {
+        Preconditions.checkArgument(maxOutstandingRequests >= 0, "Invalid maximum outstanding requests %s",
+            maxOutstandingRequests);
+        Preconditions.checkArgument(failureThreshold >= 0, "Invalid failure threshold %s", failureThreshold);
+        Preconditions.checkArgument(ejectionTime >= 0, "Invalid ejection time %s", ejectionTime);
+        this.strategy = Preconditions.checkNotNull(strategy);
+        this.maxOutstandingRequests = maxOutstandingRequests;
+        this.failureThreshold = failureThreshold;
+        this.ejectionNanos = unit.toNanos(ejectionTime);
+        this.tracking = strategy != DOMRpcSelectionStrategy.FIRST || maxOutstandingRequests != 0
+                || failureThreshold != 0;
+    }
+
+    /**
+     * Invoke an RPC on one of the candidate implementations.
+     *
+     * @param candidates Non-empty list of implementations, sorted by their invocation cost
+     * @param rpc RPC identifier to pass to the implementation
+     * @param input RPC input
+     * @return Future returned by the selected implementation
+     */
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    CheckedFuture<DOMRpcResult, DOMRpcException> invokeRpc(final List<DOMRpcImplementation> candidates,
+            final DOMRpcIdentifier rpc, final NormalizedNode<?, ?> input) {
+        if (!tracking) {
+            return candidates.get(0).invokeRpc(rpc, input);
+        }
+
+        final DOMRpcImplementation impl = select(candidates);
+        final ImplementationState state = states.getUnchecked(impl);
+        state.outstanding.incrementAndGet();
+        final long startTime = System.nanoTime();
+
+        final CheckedFuture<DOMRpcResult, DOMRpcException> ret;
+        try {
+            ret = impl.invokeRpc(rpc, input);
+        } catch (RuntimeException e) {
+            completed(impl, state, startTime, false);
+            throw e;
+        }
+
+        Futures.addCallback(ret, new FutureCallback<DOMRpcResult>() {
+            @Override
+            public void onSuccess(final DOMRpcResult result) {
+                completed(impl, state, startTime, true);
+            }
+
+            @Override
+            public void onFailure(final Throwable cause) {
+                completed(impl, state, startTime, false);
+            }
+        }, MoreExecutors.directExecutor());
+        return ret;
+    }
+
+    @VisibleForTesting
+    DOMRpcImplementation select(final List<DOMRpcImplementation> candidates) {
+        final int size = candidates.size();
+        if (size == 1) {
+            return candidates.get(0);
+        }
+
+        final int offset = strategy == DOMRpcSelectionStrategy.ROUND_ROBIN
+                ? Math.floorMod(sequence.getAndIncrement(), size) : 0;
+        final long now = System.nanoTime();
+
+        DOMRpcImplementation best = null;
+        long bestCost = Long.MAX_VALUE;
+        for (int i = 0; i < size; ++i) {
+            final DOMRpcImplementation impl = candidates.get((offset + i) % size);
+            final ImplementationState state = states.getUnchecked(impl);
+            final int outstanding = state.outstanding.get();
+            if ((maxOutstandingRequests != 0 && outstanding >= maxOutstandingRequests) || state.isEjected(now)) {
+                continue;
+            }
+
+            final long cost;
+            switch (strategy) {
+                case LEAST_OUTSTANDING:
+                    cost = outstanding;
+                    break;
+                case LATENCY_EWMA:
+                    // Unmeasured implementations are preferred, so they get a chance to be measured
+                    cost = (state.latency.get() + 1) * (outstanding + 1);
+                    break;
+                default:
+                    // FIRST and ROUND_ROBIN take the first available implementation
+                    return impl;
+            }
+
+            if (cost < bestCost) {
+                best = impl;
+                bestCost = cost;
+            }
+        }
+
+        if (best == null) {
+            // Everything is ejected, we would rather try the preferred implementation than fail the request outright
+            LOG.debug("All implementations of {} are ejected, using the preferred one", candidates);
+            return candidates.get(offset);
+        }
+        return best;
+    }
+
+    private void completed(final DOMRpcImplementation impl, final ImplementationState state, final long startTime,
+            final boolean success) {
+        final long elapsed = System.nanoTime() - startTime;
+        state.outstanding.decrementAndGet();
+        state.latency.updateAndGet(prev -> prev == 0 ? elapsed : prev + (elapsed - prev) / EWMA_DIVISOR);
+
+        if (success) {
+            state.consecutiveFailures.set(0);
+        } else if (failureThreshold != 0 && state.consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            state.consecutiveFailures.set(0);
+            state.ejectedUntil = System.nanoTime() + ejectionNanos;
+            LOG.warn("RPC implementation {} failed {} times in a row, ejecting it for {}ns", impl, failureThreshold,
+                ejectionNanos);
+        }
+    }
+}
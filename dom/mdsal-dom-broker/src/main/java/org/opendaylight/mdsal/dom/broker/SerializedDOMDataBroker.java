@@ -9,16 +9,20 @@
 package org.opendaylight.mdsal.dom.broker;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.util.concurrent.FluentFuture;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.ListeningExecutorService;
-import java.util.Collection;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Executor;
+import javax.annotation.concurrent.GuardedBy;
 import org.opendaylight.mdsal.common.api.CommitInfo;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
-import org.opendaylight.mdsal.common.api.TransactionCommitFailedException;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeWriteTransaction;
 import org.opendaylight.mdsal.dom.spi.store.DOMStore;
 import org.opendaylight.mdsal.dom.spi.store.DOMStoreThreePhaseCommitCohort;
@@ -27,15 +31,23 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Implementation of blocking three phase commit coordinator, which which
- * supports coordination on multiple {@link DOMStoreThreePhaseCommitCohort}.
+ * Implementation of a non-blocking three phase commit coordinator, which supports coordination on multiple
+ * {@link DOMStoreThreePhaseCommitCohort}s.
  *
  *<p>
- * This implementation does not support cancellation of commit,
+ * This implementation does not support cancellation of commit.
  *
  *<p>
- * In order to advance to next phase of three phase commit all subtasks of
- * previous step must be finish.
+ * In order to advance to next phase of three phase commit all subtasks of previous step must be finish. Phases are
+ * chained as callbacks on cohort futures and individual phase steps are executed on the supplied executor, hence no
+ * thread is blocked waiting for a cohort to respond.
+ *
+ *<p>
+ * Transactions are ordered per {@link LogicalDatastoreType} {@link CommitLane}: a transaction starts its canCommit
+ * phase once all previously-submitted transactions have finished committing to all the datastores it touches. This
+ * allows a transaction to proceed with canCommit while its predecessor is still committing to an unrelated datastore.
+ * Each lane can have a dedicated executor, on which the datastore's cohorts are invoked, so that phases of
+ * a transaction touching multiple datastores are executed in parallel.
  *
  *<p>
  * This executor does not have an upper bound on subtask timeout.
@@ -43,6 +55,10 @@ import org.slf4j.LoggerFactory;
 public class SerializedDOMDataBroker extends AbstractDOMDataBroker {
     private static final Logger LOG = LoggerFactory.getLogger(SerializedDOMDataBroker.class);
     private final DurationStatisticsTracker commitStatsTracker = DurationStatisticsTracker.createConcurrent();
+    private final Map<CommitPhase, DurationHistogram> phaseHistograms;
+    @GuardedBy("lanes")
+    private final Map<LogicalDatastoreType, CommitLane> lanes;
+    private final Map<LogicalDatastoreType, Executor> laneExecutors;
     private final ListeningExecutorService executor;
 
     /**
@@ -54,33 +70,96 @@ public class SerializedDOMDataBroker extends AbstractDOMDataBroker {
      */
     public SerializedDOMDataBroker(final Map<LogicalDatastoreType, DOMStore> datastores,
             final ListeningExecutorService executor) {
+        this(datastores, executor, ImmutableMap.of());
+    }
+
+    /**
+     * Construct DOMDataCommitCoordinator which uses dedicated executors to invoke cohorts of particular datastores.
+     *
+     * @param datastores the Map of backing DOMStore instances
+     * @param executor the ListeningExecutorService to use for datastores which do not have a dedicated executor
+     * @param laneExecutors the Map of dedicated executors
+     */
+    public SerializedDOMDataBroker(final Map<LogicalDatastoreType, DOMStore> datastores,
+            final ListeningExecutorService executor,
+            final Map<LogicalDatastoreType, ? extends Executor> laneExecutors) {
         super(datastores);
         this.executor = Preconditions.checkNotNull(executor, "executor must not be null.");
+        Preconditions.checkNotNull(laneExecutors, "laneExecutors must not be null.");
+
+        final Map<LogicalDatastoreType, CommitLane> commitLanes = new EnumMap<>(LogicalDatastoreType.class);
+        final Map<LogicalDatastoreType, Executor> executors = new EnumMap<>(LogicalDatastoreType.class);
+        for (LogicalDatastoreType type : LogicalDatastoreType.values()) {
+            final Executor laneExecutor = laneExecutors.get(type);
+            commitLanes.put(type, new CommitLane(type));
+            if (laneExecutor != null) {
+                executors.put(type, laneExecutor);
+            }
+        }
+        this.lanes = Collections.unmodifiableMap(commitLanes);
+        this.laneExecutors = Collections.unmodifiableMap(executors);
+
+        final Map<CommitPhase, DurationHistogram> histograms = new EnumMap<>(CommitPhase.class);
+        for (CommitPhase phase : CommitPhase.values()) {
+            histograms.put(phase, new DurationHistogram());
+        }
+        phaseHistograms = Collections.unmodifiableMap(histograms);
     }
 
+    /**
+     * Return the tracker of end-to-end commit durations, measured from the start of canCommit phase to the
+     * completion of the transaction.
+     *
+     * @return Commit duration tracker
+     */
     public DurationStatisticsTracker getCommitStatsTracker() {
         return commitStatsTracker;
     }
 
+    /**
+     * Return the latency histogram of a particular commit phase.
+     *
+     * @param phase commit phase
+     * @return Latency histogram of the specified phase
+     * @throws NullPointerException if phase is null
+     */
+    public DurationHistogram getCommitPhaseHistogram(final CommitPhase phase) {
+        return phaseHistograms.get(Preconditions.checkNotNull(phase));
+    }
+
+    /**
+     * Return the commit lane of a particular datastore, which exposes its queue depth and wait time statistics.
+     *
+     * @param type datastore type
+     * @return Commit lane of the specified datastore
+     * @throws NullPointerException if type is null
+     */
+    public CommitLane getCommitLane(final LogicalDatastoreType type) {
+        return lanes.get(Preconditions.checkNotNull(type));
+    }
+
     @Override
     protected FluentFuture<? extends CommitInfo> commit(final DOMDataTreeWriteTransaction transaction,
-            final Collection<DOMStoreThreePhaseCommitCohort> cohorts) {
+            final Map<LogicalDatastoreType, DOMStoreThreePhaseCommitCohort> cohorts) {
         Preconditions.checkArgument(transaction != null, "Transaction must not be null.");
         Preconditions.checkArgument(cohorts != null, "Cohorts must not be null.");
         LOG.debug("Tx: {} is submitted for execution.", transaction.getIdentifier());
 
-        ListenableFuture<CommitInfo> commitFuture = null;
-        try {
-            commitFuture = executor.submit(new CommitCoordinationTask(transaction, cohorts,
-                    commitStatsTracker));
-        } catch (RejectedExecutionException e) {
-            LOG.error("The commit executor's queue is full - submit task was rejected. \n"
-                    + executor, e);
-            return FluentFuture.from(Futures.immediateFailedFuture(
-                    new TransactionCommitFailedException(
-                        "Could not submit the commit task - the commit queue capacity has been exceeded.", e)));
+        final AsyncCommitCoordinationTask task = new AsyncCommitCoordinationTask(transaction, cohorts, executor,
+            laneExecutors, commitStatsTracker, phaseHistograms);
+
+        // Lanes need to be updated atomically, otherwise two multi-datastore transactions could end up waiting
+        // for each other.
+        final List<ListenableFuture<?>> predecessors = new ArrayList<>(cohorts.size());
+        synchronized (lanes) {
+            for (LogicalDatastoreType type : cohorts.keySet()) {
+                final ListenableFuture<?> prev = lanes.get(type).enqueue(task.laneReleased(type));
+                if (prev != null) {
+                    predecessors.add(prev);
+                }
+            }
         }
 
-        return FluentFuture.from(commitFuture);
+        return FluentFuture.from(task.start(Futures.successfulAsList(predecessors)));
     }
 }
@@ -18,7 +18,6 @@ import com.google.common.util.concurrent.SettableFuture;
 import java.util.ArrayDeque;
 import java.util.Deque;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -73,14 +72,9 @@ final class ShardedDOMDataTreeWriteTransaction implements DOMDataTreeCursorAware
             return fast;
         }
 
-        LOG.debug("Prefix {} not found in available subtrees {}, fallback to slow path", prefix, transactions.keySet());
-        for (final Entry<DOMDataTreeIdentifier, DOMDataTreeShardWriteTransaction> e : transactions.entrySet()) {
-            if (e.getKey().contains(prefix)) {
-                return e.getValue();
-            }
-        }
-
-        return null;
+        final DOMDataTreeIdentifier subtree = layout.lookupSubtree(prefix);
+        LOG.debug("Prefix {} not found in available subtrees {}, routed to {}", prefix, transactions.keySet(), subtree);
+        return subtree == null ? null : transactions.get(subtree);
     }
 
     @Override
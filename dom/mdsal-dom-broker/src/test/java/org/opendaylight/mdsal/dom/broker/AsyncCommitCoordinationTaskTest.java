@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2016 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.dom.broker;
+
+import static com.google.common.util.concurrent.Futures.immediateFailedCheckedFuture;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.mdsal.common.api.CommitInfo;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.mdsal.common.api.TransactionCommitFailedException;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeWriteTransaction;
+import org.opendaylight.mdsal.dom.spi.store.DOMStoreThreePhaseCommitCohort;
+
+public class AsyncCommitCoordinationTaskTest {
+
+    private final DOMStoreThreePhaseCommitCohort cohort = mock(DOMStoreThreePhaseCommitCohort.class);
+    private final Map<CommitPhase, DurationHistogram> histograms = new EnumMap<>(CommitPhase.class);
+    private AsyncCommitCoordinationTask task;
+
+    @Before
+    public void setUp() throws Exception {
+        for (CommitPhase phase : CommitPhase.values()) {
+            histograms.put(phase, new DurationHistogram());
+        }
+
+        final DOMDataTreeWriteTransaction tx = mock(DOMDataTreeWriteTransaction.class);
+        task = new AsyncCommitCoordinationTask(tx, ImmutableMap.of(LogicalDatastoreType.OPERATIONAL, cohort),
+            MoreExecutors.directExecutor(), null, histograms);
+        doReturn("test").when(tx).getIdentifier();
+    }
+
+    @Test
+    public void commitSuccess() throws Exception {
+        doReturn(Futures.immediateCheckedFuture(Boolean.TRUE)).when(cohort).canCommit();
+        doReturn(Futures.immediateCheckedFuture(null)).when(cohort).preCommit();
+        doReturn(Futures.immediateCheckedFuture(null)).when(cohort).commit();
+
+        final SettableFuture<Void> predecessor = SettableFuture.create();
+        final ListenableFuture<CommitInfo> result = task.start(predecessor);
+        assertFalse(result.isDone());
+        assertFalse(task.laneReleased(LogicalDatastoreType.OPERATIONAL).isDone());
+
+        predecessor.set(null);
+        assertSame(CommitInfo.empty(), result.get());
+        assertTrue(task.laneReleased(LogicalDatastoreType.OPERATIONAL).isDone());
+        for (DurationHistogram histogram : histograms.values()) {
+            assertEquals(1, histogram.getTotalCount());
+        }
+    }
+
+    @Test(expected = TransactionCommitFailedException.class)
+    public void canCommitWithFail() throws Throwable {
+        doReturn(Futures.immediateCheckedFuture(null)).when(cohort).abort();
+
+        doReturn(Futures.immediateCheckedFuture(Boolean.FALSE)).when(cohort).canCommit();
+        runTask();
+    }
+
+    @Test(expected = TransactionCommitFailedException.class)
+    public void canCommitWithFailException() throws Throwable {
+        doReturn(Futures.immediateCheckedFuture(null)).when(cohort).abort();
+
+        doReturn(immediateFailedCheckedFuture(new InterruptedException())).when(cohort).canCommit();
+        runTask();
+    }
+
+    @Test(expected = TransactionCommitFailedException.class)
+    public void preCommitWithFail() throws Throwable {
+        doReturn(Futures.immediateCheckedFuture(Boolean.TRUE)).when(cohort).canCommit();
+        doReturn(Futures.immediateCheckedFuture(null)).when(cohort).abort();
+
+        doReturn(immediateFailedCheckedFuture(new InterruptedException())).when(cohort).preCommit();
+        runTask();
+    }
+
+    @Test(expected = TransactionCommitFailedException.class)
+    public void commitWithFail() throws Throwable {
+        doReturn(Futures.immediateCheckedFuture(Boolean.TRUE)).when(cohort).canCommit();
+        doReturn(Futures.immediateCheckedFuture(null)).when(cohort).preCommit();
+        doReturn(Futures.immediateCheckedFuture(null)).when(cohort).abort();
+
+        doReturn(immediateFailedCheckedFuture(new InterruptedException())).when(cohort).commit();
+        try {
+            runTask();
+        } finally {
+            verify(cohort).abort();
+            assertTrue(task.laneReleased(LogicalDatastoreType.OPERATIONAL).isDone());
+        }
+    }
+
+    @Test
+    public void commitFailureReleasesLaneAfterAbort() throws Exception {
+        doReturn(Futures.immediateCheckedFuture(Boolean.TRUE)).when(cohort).canCommit();
+        doReturn(Futures.immediateCheckedFuture(null)).when(cohort).preCommit();
+        doReturn(immediateFailedCheckedFuture(new InterruptedException())).when(cohort).commit();
+        final SettableFuture<Void> abort = SettableFuture.create();
+        doReturn(abort).when(cohort).abort();
+
+        final ListenableFuture<CommitInfo> result = task.start(Futures.immediateFuture(null));
+        verify(cohort).abort();
+        assertFalse(task.laneReleased(LogicalDatastoreType.OPERATIONAL).isDone());
+        assertFalse(result.isDone());
+
+        abort.set(null);
+        assertTrue(task.laneReleased(LogicalDatastoreType.OPERATIONAL).isDone());
+        assertTrue(result.isDone());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void abortWithFail() throws Throwable {
+        doReturn(Futures.immediateCheckedFuture(Boolean.FALSE)).when(cohort).canCommit();
+
+        doReturn(immediateFailedCheckedFuture(new InterruptedException())).when(cohort).abort();
+        runTask();
+    }
+
+    @Test
+    public void laneExecutorsFanOut() throws Exception {
+        final DOMStoreThreePhaseCommitCohort configCohort = mock(DOMStoreThreePhaseCommitCohort.class);
+        final SettableFuture<Boolean> configCanCommit = SettableFuture.create();
+        doReturn(configCanCommit).when(configCohort).canCommit();
+        doReturn(Futures.immediateCheckedFuture(null)).when(configCohort).preCommit();
+        doReturn(Futures.immediateCheckedFuture(null)).when(configCohort).commit();
+        doReturn(Futures.immediateCheckedFuture(Boolean.TRUE)).when(cohort).canCommit();
+        doReturn(Futures.immediateCheckedFuture(null)).when(cohort).preCommit();
+        doReturn(Futures.immediateCheckedFuture(null)).when(cohort).commit();
+
+        final List<LogicalDatastoreType> invocations = new ArrayList<>();
+        final Map<LogicalDatastoreType, Executor> laneExecutors = new EnumMap<>(LogicalDatastoreType.class);
+        for (LogicalDatastoreType type : LogicalDatastoreType.values()) {
+            laneExecutors.put(type, command -> {
+                invocations.add(type);
+                command.run();
+            });
+        }
+
+        final Map<LogicalDatastoreType, DOMStoreThreePhaseCommitCohort> cohorts =
+                new EnumMap<>(LogicalDatastoreType.class);
+        cohorts.put(LogicalDatastoreType.CONFIGURATION, configCohort);
+        cohorts.put(LogicalDatastoreType.OPERATIONAL, cohort);
+        final DOMDataTreeWriteTransaction tx = mock(DOMDataTreeWriteTransaction.class);
+        doReturn("test").when(tx).getIdentifier();
+        final AsyncCommitCoordinationTask multiTask = new AsyncCommitCoordinationTask(tx, cohorts,
+            MoreExecutors.directExecutor(), laneExecutors, null, histograms);
+
+        // Both cohorts are asked to canCommit, each on its own executor, without waiting for each other
+        final ListenableFuture<CommitInfo> result = multiTask.start(Futures.immediateFuture(null));
+        assertEquals(ImmutableList.of(LogicalDatastoreType.CONFIGURATION, LogicalDatastoreType.OPERATIONAL),
+            invocations);
+        verify(cohort).canCommit();
+        verify(cohort, never()).preCommit();
+        assertFalse(result.isDone());
+
+        configCanCommit.set(Boolean.TRUE);
+        assertSame(CommitInfo.empty(), result.get());
+        assertEquals(6, invocations.size());
+    }
+
+    private void runTask() throws Throwable {
+        try {
+            task.start(Futures.immediateFuture(null)).get();
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        }
+    }
+}
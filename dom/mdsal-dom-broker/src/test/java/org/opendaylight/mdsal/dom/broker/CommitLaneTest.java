@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2018 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.dom.broker;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import com.google.common.util.concurrent.SettableFuture;
+import org.junit.Test;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+
+public class CommitLaneTest {
+    private final CommitLane lane = new CommitLane(LogicalDatastoreType.OPERATIONAL);
+
+    @Test
+    public void testQueueDepthAndWaitTime() {
+        final SettableFuture<Void> first = SettableFuture.create();
+        final SettableFuture<Void> second = SettableFuture.create();
+
+        assertNull(lane.enqueue(first));
+        assertSame(first, lane.enqueue(second));
+        assertEquals(2, lane.getQueueDepth());
+        assertEquals(1, lane.getWaitTimeHistogram().getTotalCount());
+
+        first.set(null);
+        assertEquals(1, lane.getQueueDepth());
+        assertEquals(2, lane.getWaitTimeHistogram().getTotalCount());
+
+        second.set(null);
+        assertEquals(0, lane.getQueueDepth());
+        assertNull(lane.enqueue(SettableFuture.create()));
+        assertEquals(3, lane.getWaitTimeHistogram().getTotalCount());
+    }
+}
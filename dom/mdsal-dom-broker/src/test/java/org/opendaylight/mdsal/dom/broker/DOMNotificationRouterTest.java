@@ -17,15 +17,12 @@ import static org.mockito.Mockito.mock;
 
 import com.google.common.collect.Multimap;
 import com.google.common.util.concurrent.ListenableFuture;
-import com.lmax.disruptor.PhasedBackoffWaitStrategy;
-import com.lmax.disruptor.WaitStrategy;
+import com.google.common.util.concurrent.Uninterruptibles;
 
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import javax.annotation.Nonnull;
 
@@ -40,9 +37,6 @@ import org.opendaylight.yangtools.yang.model.api.SchemaPath;
 
 public class DOMNotificationRouterTest extends TestUtils {
 
-    private static final WaitStrategy DEFAULT_STRATEGY = PhasedBackoffWaitStrategy.withLock(
-            1L, 30L, TimeUnit.MILLISECONDS);
-
     @Test
     public void create() throws Exception {
         assertNotNull(DOMNotificationRouter.create(1,1,1,TimeUnit.SECONDS));
@@ -94,6 +88,73 @@ public class DOMNotificationRouterTest extends TestUtils {
         assertNotNull(domNotificationRouter.putNotification(domNotification));
     }
 
+    @Test
+    public void registrationTest() throws Exception {
+        final DOMNotificationRouter domNotificationRouter = DOMNotificationRouter.create(1);
+        final CountDownLatch latch = new CountDownLatch(1);
+        final TestListener first = new TestListener(new CountDownLatch(1));
+        final TestListener second = new TestListener(latch);
+
+        final ListenerRegistration<TestListener> firstReg = domNotificationRouter.registerNotificationListener(first,
+            SchemaPath.ROOT, SchemaPath.SAME);
+        final ListenerRegistration<TestListener> secondReg = domNotificationRouter.registerNotificationListener(second,
+            SchemaPath.ROOT);
+        assertEquals(3, domNotificationRouter.listeners().size());
+        assertEquals(2, domNotificationRouter.listeners().get(SchemaPath.ROOT).size());
+
+        firstReg.close();
+        assertEquals(1, domNotificationRouter.listeners().size());
+        assertFalse(domNotificationRouter.listeners().containsKey(SchemaPath.SAME));
+
+        final DOMNotification domNotification = mock(DOMNotification.class);
+        doReturn(SchemaPath.ROOT).when(domNotification).getType();
+        doReturn(TEST_CHILD).when(domNotification).getBody();
+        domNotificationRouter.putNotification(domNotification).get(5, TimeUnit.SECONDS);
+        assertTrue("Listener was not notified", latch.await(5, TimeUnit.SECONDS));
+        assertTrue(first.getReceivedNotifications().isEmpty());
+        assertEquals(1, second.getReceivedNotifications().size());
+
+        secondReg.close();
+        assertTrue(domNotificationRouter.listeners().isEmpty());
+        domNotificationRouter.close();
+    }
+
+    @Test
+    public void parallelDeliveryTest() throws Exception {
+        final DOMNotificationRouter domNotificationRouter = DOMNotificationRouter.create(16, 4);
+        final CountDownLatch slowBlocked = new CountDownLatch(1);
+        final CountDownLatch slowRelease = new CountDownLatch(1);
+        final DOMNotificationListener slow = notification -> {
+            slowBlocked.countDown();
+            Uninterruptibles.awaitUninterruptibly(slowRelease);
+        };
+        final CountDownLatch latch = new CountDownLatch(1);
+        final TestListener fast = new TestListener(latch);
+        domNotificationRouter.registerNotificationListener(slow, SchemaPath.ROOT);
+        domNotificationRouter.registerNotificationListener(fast, SchemaPath.ROOT);
+        assertEquals(2, domNotificationRouter.getListenerQueues().size());
+
+        final DOMNotification domNotification = mock(DOMNotification.class);
+        doReturn(SchemaPath.ROOT).when(domNotification).getType();
+        doReturn(TEST_CHILD).when(domNotification).getBody();
+        final ListenableFuture<?> future = domNotificationRouter.putNotification(domNotification);
+
+        // The fast listener does not wait for the slow one, but the publisher waits for both
+        assertTrue("Listener was not notified", latch.await(5, TimeUnit.SECONDS));
+        assertTrue("Listener was not notified", slowBlocked.await(5, TimeUnit.SECONDS));
+        assertFalse(future.isDone());
+
+        slowRelease.countDown();
+        future.get(5, TimeUnit.SECONDS);
+        long delivered = 0;
+        for (NotificationListenerQueue queue : domNotificationRouter.getListenerQueues()) {
+            assertEquals(0, queue.getQueueDepth());
+            delivered += queue.getLagHistogram().getTotalCount();
+        }
+        assertEquals(2, delivered);
+        domNotificationRouter.close();
+    }
+
     @Test
     public void offerNotification() throws Exception {
         final DOMNotificationRouter domNotificationRouter = DOMNotificationRouter.create(1);
@@ -107,25 +168,58 @@ public class DOMNotificationRouterTest extends TestUtils {
 
     @Test
     public void testOfferNotificationWithBlocking() throws Exception {
-        final CountDownLatch latch = new CountDownLatch(1);
-        final TestListener testListener = new TestListener(latch);
+        final CountDownLatch blocked = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final DOMNotificationListener listener = notification -> {
+            blocked.countDown();
+            Uninterruptibles.awaitUninterruptibly(release);
+        };
         final DOMNotification domNotification = mock(DOMNotification.class);
         doReturn("test").when(domNotification).toString();
         doReturn(SchemaPath.ROOT).when(domNotification).getType();
         doReturn(TEST_CHILD).when(domNotification).getBody();
-        final TestRouter testRouter = TestRouter.create(1);
-        assertNotNull(testRouter.registerNotificationListener(testListener, SchemaPath.ROOT));
-        assertNotNull(testRouter.registerNotificationListener(testListener, SchemaPath.SAME));
-
-        assertNotEquals(DOMNotificationPublishService.REJECTED,
-                testRouter.offerNotification(domNotification, 3, TimeUnit.SECONDS));
-        assertTrue("Listener was not notified", latch.await(5, TimeUnit.SECONDS));
-        assertEquals("Received notifications", 1, testListener.getReceivedNotifications().size());
+        final DOMNotificationRouter domNotificationRouter = DOMNotificationRouter.create(1);
+        assertNotNull(domNotificationRouter.registerNotificationListener(listener, SchemaPath.ROOT));
 
+        // The only slot in the ring buffer is held until the listener returns
+        final ListenableFuture<?> first = domNotificationRouter.putNotification(domNotification);
+        assertTrue("Listener was not notified", blocked.await(5, TimeUnit.SECONDS));
         assertEquals(DOMNotificationPublishService.REJECTED,
-                testRouter.offerNotification(domNotification, 1, TimeUnit.SECONDS));
-        assertEquals("Received notifications", 1, testListener.getReceivedNotifications().size());
+                domNotificationRouter.offerNotification(domNotification, 100, TimeUnit.MILLISECONDS));
+
+        final ListenableFuture<ListenableFuture<? extends Object>> async =
+                domNotificationRouter.offerNotificationAsync(domNotification);
+        assertFalse(async.isDone());
 
+        release.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        async.get(5, TimeUnit.SECONDS).get(5, TimeUnit.SECONDS);
+
+        final ListenableFuture<?> timed = domNotificationRouter.offerNotification(domNotification, 5,
+            TimeUnit.SECONDS);
+        assertNotEquals(DOMNotificationPublishService.REJECTED, timed);
+        timed.get(5, TimeUnit.SECONDS);
+        domNotificationRouter.close();
+    }
+
+    @Test
+    public void testOfferNotificationAsyncAtBatchBoundary() throws Exception {
+        final DOMNotification domNotification = mock(DOMNotification.class);
+        doReturn(SchemaPath.ROOT).when(domNotification).getType();
+        doReturn(TEST_CHILD).when(domNotification).getBody();
+        final DOMNotificationRouter domNotificationRouter = DOMNotificationRouter.create(1);
+        assertNotNull(domNotificationRouter.registerNotificationListener(notification -> { }, SchemaPath.ROOT));
+
+        // The first offer fills the ring buffer, the second one races with the handlers draining it
+        for (int i = 0; i < 1000; ++i) {
+            final ListenableFuture<ListenableFuture<? extends Object>> first =
+                    domNotificationRouter.offerNotificationAsync(domNotification);
+            final ListenableFuture<ListenableFuture<? extends Object>> second =
+                    domNotificationRouter.offerNotificationAsync(domNotification);
+            first.get(5, TimeUnit.SECONDS).get(5, TimeUnit.SECONDS);
+            second.get(5, TimeUnit.SECONDS).get(5, TimeUnit.SECONDS);
+        }
+        domNotificationRouter.close();
     }
 
     @Test
@@ -157,29 +251,4 @@ public class DOMNotificationRouterTest extends TestUtils {
             return receivedNotifications;
         }
     }
-
-    private static class TestRouter extends DOMNotificationRouter {
-
-        TestRouter(ExecutorService executor, int queueDepth, WaitStrategy strategy) {
-            super(executor, queueDepth, strategy);
-        }
-
-        protected ListenableFuture<? extends Object> tryPublish(final DOMNotification notification,
-                final Collection<ListenerRegistration<? extends DOMNotificationListener>> subscribers) {
-            return DOMNotificationPublishService.REJECTED;
-        }
-
-        @Override
-        public ListenableFuture<? extends Object> putNotification(final DOMNotification notification)
-                throws InterruptedException {
-            Thread.sleep(2000);
-            return super.putNotification(notification);
-        }
-
-        public static TestRouter create(int queueDepth) {
-            final ExecutorService executor = Executors.newCachedThreadPool();
-
-            return new TestRouter(executor, queueDepth, DEFAULT_STRATEGY);
-        }
-    }
 }
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2018 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.dom.broker;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.Test;
+
+public class PersistentHashMapTest {
+
+    @Test
+    public void basicTest() {
+        final PersistentHashMap<String, Integer> empty = PersistentHashMap.of();
+        assertTrue(empty.isEmpty());
+
+        final PersistentHashMap<String, Integer> one = empty.plus("one", 1);
+        assertTrue(empty.isEmpty());
+        assertEquals(1, one.size());
+        assertEquals(Integer.valueOf(1), one.get("one"));
+        assertNull(one.get("two"));
+
+        final Integer value = 1;
+        assertSame(one, one.plus("one", value));
+        assertSame(one, one.minus("two"));
+        assertSame(empty, one.minus("one"));
+
+        final PersistentHashMap<String, Integer> nullKey = one.plus(null, 2);
+        assertEquals(2, nullKey.size());
+        assertTrue(nullKey.containsKey(null));
+        assertFalse(one.containsKey(null));
+    }
+
+    @Test
+    public void collisionTest() {
+        final CollidingKey first = new CollidingKey(1);
+        final CollidingKey second = new CollidingKey(2);
+        final CollidingKey third = new CollidingKey(3);
+
+        PersistentHashMap<Object, String> map = PersistentHashMap.<Object, String>of()
+                .plus(first, "first").plus(second, "second");
+        assertEquals(2, map.size());
+        assertEquals("first", map.get(first));
+        assertEquals("second", map.get(second));
+        assertNull(map.get(third));
+
+        map = map.plus("other", "other").minus(first);
+        assertEquals(2, map.size());
+        assertNull(map.get(first));
+        assertEquals("second", map.get(second));
+        assertEquals("other", map.get("other"));
+    }
+
+    @Test
+    public void randomizedTest() {
+        final Random random = new Random(42);
+        final Map<Integer, Integer> expected = new HashMap<>();
+        PersistentHashMap<Integer, Integer> map = PersistentHashMap.of();
+
+        for (int i = 0; i < 20000; ++i) {
+            final Integer key = random.nextInt(5000);
+            if (random.nextInt(3) == 0) {
+                expected.remove(key);
+                map = map.minus(key);
+            } else {
+                expected.put(key, i);
+                map = map.plus(key, i);
+            }
+            assertEquals(expected.size(), map.size());
+        }
+
+        assertEquals(expected, map);
+        assertEquals(expected, PersistentHashMap.copyOf(expected));
+    }
+
+    private static final class CollidingKey {
+        private final int value;
+
+        CollidingKey(final int value) {
+            this.value = value;
+        }
+
+        @Override
+        public int hashCode() {
+            return "other".hashCode();
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return obj instanceof CollidingKey && value == ((CollidingKey) obj).value;
+        }
+    }
+}
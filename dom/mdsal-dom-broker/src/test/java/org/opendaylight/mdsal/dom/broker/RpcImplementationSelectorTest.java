@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2018 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.dom.broker;
+
+import static org.junit.Assert.assertSame;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.CheckedFuture;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.SettableFuture;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+import org.opendaylight.mdsal.dom.api.DOMRpcException;
+import org.opendaylight.mdsal.dom.api.DOMRpcIdentifier;
+import org.opendaylight.mdsal.dom.api.DOMRpcImplementation;
+import org.opendaylight.mdsal.dom.api.DOMRpcImplementationNotAvailableException;
+import org.opendaylight.mdsal.dom.api.DOMRpcResult;
+import org.opendaylight.yangtools.yang.model.api.SchemaPath;
+
+public class RpcImplementationSelectorTest extends TestUtils {
+    private static final DOMRpcIdentifier RPC = DOMRpcIdentifier.create(SchemaPath.ROOT);
+
+    @Test
+    public void testFirst() {
+        final DOMRpcImplementation first = getTestRpcImplementation();
+        final DOMRpcImplementation second = getTestRpcImplementation();
+        final List<DOMRpcImplementation> impls = ImmutableList.of(first, second);
+
+        assertSame(first, RpcImplementationSelector.DEFAULT.select(impls));
+        assertSame(first, RpcImplementationSelector.DEFAULT.select(impls));
+    }
+
+    @Test
+    public void testRoundRobin() {
+        final DOMRpcImplementation first = getTestRpcImplementation();
+        final DOMRpcImplementation second = getTestRpcImplementation();
+        final List<DOMRpcImplementation> impls = ImmutableList.of(first, second);
+        final RpcImplementationSelector selector = new RpcImplementationSelector(
+            DOMRpcSelectionStrategy.ROUND_ROBIN, 0, 0, 0, TimeUnit.SECONDS);
+
+        assertSame(first, selector.select(impls));
+        assertSame(second, selector.select(impls));
+        assertSame(first, selector.select(impls));
+    }
+
+    @Test
+    public void testLeastOutstanding() {
+        final SettableFuture<DOMRpcResult> pending = SettableFuture.create();
+        final DOMRpcImplementation first = pendingImplementation(pending);
+        final DOMRpcImplementation second = pendingImplementation(pending);
+        final List<DOMRpcImplementation> impls = ImmutableList.of(first, second);
+        final RpcImplementationSelector selector = new RpcImplementationSelector(
+            DOMRpcSelectionStrategy.LEAST_OUTSTANDING, 0, 0, 0, TimeUnit.SECONDS);
+
+        selector.invokeRpc(impls, RPC, TEST_CONTAINER);
+        assertSame(second, selector.select(impls));
+        selector.invokeRpc(impls, RPC, TEST_CONTAINER);
+        assertSame(first, selector.select(impls));
+
+        // Completing the request releases both implementations
+        pending.set(mock(DOMRpcResult.class));
+        assertSame(first, selector.select(impls));
+    }
+
+    @Test
+    public void testOverloadEjection() {
+        final SettableFuture<DOMRpcResult> pending = SettableFuture.create();
+        final DOMRpcImplementation first = pendingImplementation(pending);
+        final DOMRpcImplementation second = pendingImplementation(pending);
+        final List<DOMRpcImplementation> impls = ImmutableList.of(first, second);
+        final RpcImplementationSelector selector = new RpcImplementationSelector(
+            DOMRpcSelectionStrategy.FIRST, 1, 0, 0, TimeUnit.SECONDS);
+
+        selector.invokeRpc(impls, RPC, TEST_CONTAINER);
+        assertSame(second, selector.select(impls));
+        selector.invokeRpc(impls, RPC, TEST_CONTAINER);
+
+        // Everything is overloaded, hence we fall back to the preferred implementation
+        assertSame(first, selector.select(impls));
+    }
+
+    @Test
+    public void testFailureEjection() {
+        final DOMRpcImplementation failing = getTestRpcImplementation();
+        final DOMRpcImplementation second = getTestRpcImplementation();
+        final List<DOMRpcImplementation> impls = ImmutableList.of(failing, second);
+        final RpcImplementationSelector selector = new RpcImplementationSelector(
+            DOMRpcSelectionStrategy.FIRST, 0, 2, 1, TimeUnit.HOURS);
+
+        selector.invokeRpc(impls, RPC, TEST_CONTAINER);
+        assertSame(failing, selector.select(impls));
+        selector.invokeRpc(impls, RPC, TEST_CONTAINER);
+        assertSame(second, selector.select(impls));
+    }
+
+    private static DOMRpcImplementation pendingImplementation(final SettableFuture<DOMRpcResult> future) {
+        final CheckedFuture<DOMRpcResult, DOMRpcException> checked = Futures.makeChecked(future,
+            cause -> new DOMRpcImplementationNotAvailableException(cause, "Test failure"));
+        final DOMRpcImplementation impl = mock(DOMRpcImplementation.class);
+        doReturn(checked).when(impl).invokeRpc(any(), any());
+        return impl;
+    }
+}
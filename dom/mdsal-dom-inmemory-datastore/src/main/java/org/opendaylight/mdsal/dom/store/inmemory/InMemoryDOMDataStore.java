@@ -8,9 +8,17 @@
 package org.opendaylight.mdsal.dom.store.inmemory;
 
 import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.concurrent.GuardedBy;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeChangeListener;
 import org.opendaylight.mdsal.dom.spi.store.DOMStore;
 import org.opendaylight.mdsal.dom.spi.store.DOMStoreReadTransaction;
@@ -29,6 +37,7 @@ import org.opendaylight.yangtools.util.concurrent.QueuedNotificationManager;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTree;
 import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeCandidate;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeCandidates;
 import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeConfiguration;
 import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeModification;
 import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeSnapshot;
@@ -48,6 +57,12 @@ import org.slf4j.LoggerFactory;
  * {@link org.opendaylight.mdsal.dom.spi.store.SnapshotBackedReadTransaction} to implement {@link DOMStore}
  * contract.
  *
+ *<p>
+ * The store can optionally operate in group commit mode, enabled by a non-zero maximum batching delay. In this mode
+ * each commit is applied to the {@link DataTree} immediately, so that it is visible to subsequent transactions, but
+ * the resulting {@link DataTreeCandidate}s are held back for up to the maximum delay and then published to
+ * tree change listeners as a single aggregated candidate. This trades notification latency for reduced per-commit
+ * notification overhead when there is a large number of small independent commits.
  */
 public class InMemoryDOMDataStore extends TransactionReadyPrototype<String> implements DOMStore,
         Identifiable<String>, SchemaContextListener, AutoCloseable, DOMStoreTreeChangePublisher {
@@ -61,6 +76,15 @@ public class InMemoryDOMDataStore extends TransactionReadyPrototype<String> impl
     private final boolean debugTransactions;
     private final String name;
 
+    // Group commit support, groupCommitExecutor is null if group commit is disabled
+    private final ScheduledExecutorService groupCommitExecutor;
+    private final int groupCommitMaxDelayMillis;
+    private final int groupCommitMaxBatchSize;
+    @GuardedBy("this")
+    private final List<DataTreeCandidate> pendingChanges = new ArrayList<>();
+    @GuardedBy("this")
+    private ScheduledFuture<?> pendingFlush;
+
     private volatile AutoCloseable closeable;
 
     public InMemoryDOMDataStore(final String name, final ExecutorService dataChangeListenerExecutor) {
@@ -70,11 +94,32 @@ public class InMemoryDOMDataStore extends TransactionReadyPrototype<String> impl
 
     public InMemoryDOMDataStore(final String name, final ExecutorService dataChangeListenerExecutor,
             final int maxDataChangeListenerQueueSize, final boolean debugTransactions) {
+        this(name, dataChangeListenerExecutor, maxDataChangeListenerQueueSize, debugTransactions,
+            InMemoryDOMDataStoreConfigProperties.DEFAULT_GROUP_COMMIT_MAX_DELAY_MILLIS,
+            InMemoryDOMDataStoreConfigProperties.DEFAULT_GROUP_COMMIT_MAX_BATCH_SIZE);
+    }
+
+    public InMemoryDOMDataStore(final String name, final ExecutorService dataChangeListenerExecutor,
+            final int maxDataChangeListenerQueueSize, final boolean debugTransactions,
+            final int groupCommitMaxDelayMillis, final int groupCommitMaxBatchSize) {
+        Preconditions.checkArgument(groupCommitMaxDelayMillis >= 0, "Invalid group commit delay %s",
+            groupCommitMaxDelayMillis);
+        Preconditions.checkArgument(groupCommitMaxBatchSize > 0, "Invalid group commit batch size %s",
+            groupCommitMaxBatchSize);
         this.name = Preconditions.checkNotNull(name);
         this.dataChangeListenerExecutor = Preconditions.checkNotNull(dataChangeListenerExecutor);
         this.debugTransactions = debugTransactions;
+        this.groupCommitMaxDelayMillis = groupCommitMaxDelayMillis;
+        this.groupCommitMaxBatchSize = groupCommitMaxBatchSize;
         changePublisher = new InMemoryDOMStoreTreeChangePublisher(this.dataChangeListenerExecutor,
                 maxDataChangeListenerQueueSize);
+
+        if (groupCommitMaxDelayMillis > 0) {
+            groupCommitExecutor = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+                .setNameFormat(name + "-group-commit-%d").setDaemon(true).build());
+        } else {
+            groupCommitExecutor = null;
+        }
     }
 
     public QueuedNotificationManager<?, ?> getDataChangeListenerNotificationManager() {
@@ -121,6 +166,13 @@ public class InMemoryDOMDataStore extends TransactionReadyPrototype<String> impl
     @SuppressWarnings("checkstyle:IllegalCatch")
     @Override
     public void close() {
+        if (groupCommitExecutor != null) {
+            groupCommitExecutor.shutdownNow();
+            synchronized (this) {
+                flushPendingChanges();
+            }
+        }
+
         ExecutorServiceUtil.tryGracefulShutdown(dataChangeListenerExecutor, 30, TimeUnit.SECONDS);
 
         if (closeable != null) {
@@ -145,8 +197,10 @@ public class InMemoryDOMDataStore extends TransactionReadyPrototype<String> impl
             final YangInstanceIdentifier treeId, final L listener) {
         /*
          * Make sure commit is not occurring right now. Listener has to be
-         * registered and its state capture enqueued at a consistent point.
+         * registered and its state capture enqueued at a consistent point. Any changes held back by group commit
+         * need to be published before that, as they are already part of the captured state.
          */
+        flushPendingChanges();
         return changePublisher.registerTreeChangeListener(treeId, listener, dataTree.takeSnapshot());
     }
 
@@ -177,6 +231,51 @@ public class InMemoryDOMDataStore extends TransactionReadyPrototype<String> impl
 
     synchronized void commit(final DataTreeCandidate candidate) {
         dataTree.commit(candidate);
-        changePublisher.publishChange(candidate);
+        if (groupCommitExecutor == null) {
+            changePublisher.publishChange(candidate);
+            return;
+        }
+
+        pendingChanges.add(candidate);
+        if (pendingChanges.size() >= groupCommitMaxBatchSize) {
+            flushPendingChanges();
+        } else if (pendingFlush == null) {
+            try {
+                pendingFlush = groupCommitExecutor.schedule(this::flushChanges, groupCommitMaxDelayMillis,
+                    TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                LOG.debug("Store {} is shutting down, publishing changes immediately", name, e);
+                flushPendingChanges();
+            }
+        }
+    }
+
+    private synchronized void flushChanges() {
+        pendingFlush = null;
+        flushPendingChanges();
+    }
+
+    @GuardedBy("this")
+    private void flushPendingChanges() {
+        if (pendingFlush != null) {
+            pendingFlush.cancel(false);
+            pendingFlush = null;
+        }
+
+        switch (pendingChanges.size()) {
+            case 0:
+                return;
+            case 1:
+                changePublisher.publishChange(pendingChanges.get(0));
+                break;
+            default:
+                final DataTreeCandidate first = pendingChanges.get(0);
+                final DataTreeCandidate last = pendingChanges.get(pendingChanges.size() - 1);
+                LOG.debug("Store {} publishing {} changes as a single change", name, pendingChanges.size());
+                changePublisher.publishChange(DataTreeCandidates.newDataTreeCandidate(first.getRootPath(),
+                    new SnapshotDiffCandidateNode(first.getRootNode().getIdentifier(),
+                        first.getRootNode().getDataBefore(), last.getRootNode().getDataAfter())));
+        }
+        pendingChanges.clear();
     }
 }
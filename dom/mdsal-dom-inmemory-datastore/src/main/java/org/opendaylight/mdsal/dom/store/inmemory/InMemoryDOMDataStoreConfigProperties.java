@@ -26,6 +26,8 @@ public abstract class InMemoryDOMDataStoreConfigProperties {
     public static final int DEFAULT_MAX_DATA_CHANGE_EXECUTOR_POOL_SIZE = 20;
     public static final int DEFAULT_MAX_DATA_CHANGE_LISTENER_QUEUE_SIZE = 1000;
     public static final int DEFAULT_MAX_DATA_STORE_EXECUTOR_QUEUE_SIZE = 5000;
+    public static final int DEFAULT_GROUP_COMMIT_MAX_DELAY_MILLIS = 0;
+    public static final int DEFAULT_GROUP_COMMIT_MAX_BATCH_SIZE = 1000;
 
     private static final @NonNull InMemoryDOMDataStoreConfigProperties DEFAULT = builder().build();
 
@@ -92,4 +94,22 @@ public abstract class InMemoryDOMDataStoreConfigProperties {
     public int getMaxDataStoreExecutorQueueSize() {
         return DEFAULT_MAX_DATA_STORE_EXECUTOR_QUEUE_SIZE;
     }
+
+    /**
+     * Returns the maximum time, in milliseconds, a committed change can be held back so it can be published to
+     * data tree change listeners together with subsequent changes. A value of 0 disables group commit, which means
+     * every commit is published individually.
+     */
+    @Value.Default
+    public int getGroupCommitMaxDelayMillis() {
+        return DEFAULT_GROUP_COMMIT_MAX_DELAY_MILLIS;
+    }
+
+    /**
+     * Returns the maximum number of commits published as a single change when group commit is enabled.
+     */
+    @Value.Default
+    public int getGroupCommitMaxBatchSize() {
+        return DEFAULT_GROUP_COMMIT_MAX_BATCH_SIZE;
+    }
 }
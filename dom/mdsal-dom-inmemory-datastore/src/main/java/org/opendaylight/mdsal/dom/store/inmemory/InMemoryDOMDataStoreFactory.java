@@ -47,7 +47,8 @@ public final class InMemoryDOMDataStoreFactory {
             @Nullable final DOMSchemaService schemaService) {
         final ExecutorService dataChangeListenerExecutor = createExecutorService(name, properties);
         final InMemoryDOMDataStore dataStore = new InMemoryDOMDataStore(name, dataChangeListenerExecutor,
-            properties.getMaxDataChangeListenerQueueSize(), properties.getDebugTransactions());
+            properties.getMaxDataChangeListenerQueueSize(), properties.getDebugTransactions(),
+            properties.getGroupCommitMaxDelayMillis(), properties.getGroupCommitMaxBatchSize());
 
         if (schemaService != null) {
             schemaService.registerSchemaContextListener(dataStore);
@@ -8,7 +8,9 @@
 package org.opendaylight.mdsal.dom.store.inmemory;
 
 import com.google.common.collect.ImmutableList;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 import javax.annotation.Nonnull;
@@ -19,7 +21,14 @@ import org.opendaylight.yangtools.concepts.ListenerRegistration;
 import org.opendaylight.yangtools.util.concurrent.QueuedNotificationManager;
 import org.opendaylight.yangtools.util.concurrent.QueuedNotificationManager.BatchedInvoker;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeWithValue;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.LeafSetNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNodeContainer;
 import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeCandidate;
 import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeCandidates;
 import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeSnapshot;
@@ -36,6 +45,12 @@ final class InMemoryDOMStoreTreeChangePublisher extends AbstractDOMStoreTreeChan
         };
     private static final Logger LOG = LoggerFactory.getLogger(InMemoryDOMStoreTreeChangePublisher.class);
 
+    /**
+     * Maximum number of candidates delivered to a listener in a single batch when it is being notified of initial
+     * state.
+     */
+    static final int INITIAL_STATE_BATCH_SIZE = 100;
+
     private final QueuedNotificationManager<AbstractDOMDataTreeChangeListenerRegistration<?>, DataTreeCandidate>
         notificationManager;
 
@@ -44,11 +59,6 @@ final class InMemoryDOMStoreTreeChangePublisher extends AbstractDOMStoreTreeChan
                 "DataTreeChangeListenerQueueMgr");
     }
 
-    private InMemoryDOMStoreTreeChangePublisher(final QueuedNotificationManager<
-            AbstractDOMDataTreeChangeListenerRegistration<?>, DataTreeCandidate> notificationManager) {
-        this.notificationManager = notificationManager;
-    }
-
     QueuedNotificationManager<?, ?> getNotificationManager() {
         return notificationManager;
     }
@@ -72,20 +82,56 @@ final class InMemoryDOMStoreTreeChangePublisher extends AbstractDOMStoreTreeChan
             final YangInstanceIdentifier treeId, final L listener, final DataTreeSnapshot snapshot) {
         final AbstractDOMDataTreeChangeListenerRegistration<L> reg = registerTreeChangeListener(treeId, listener);
 
-        final Optional<NormalizedNode<?, ?>> node = snapshot.readNode(YangInstanceIdentifier.EMPTY);
-        if (node.isPresent()) {
-            final DataTreeCandidate candidate = DataTreeCandidates.fromNormalizedNode(
-                    YangInstanceIdentifier.EMPTY, node.get());
-
-            InMemoryDOMStoreTreeChangePublisher publisher =
-                    new InMemoryDOMStoreTreeChangePublisher(notificationManager);
-            publisher.registerTreeChangeListener(treeId, listener);
-            publisher.publishChange(candidate);
+        /*
+         * Deliver initial state only for the subtree the listener is interested in. Wildcarded paths can match
+         * a large number of nodes, hence we deliver them in batches, so as not to build a single huge notification.
+         */
+        final Optional<NormalizedNode<?, ?>> root = snapshot.readNode(YangInstanceIdentifier.EMPTY);
+        if (root.isPresent()) {
+            final List<DataTreeCandidate> batch = new ArrayList<>();
+            collectInitialState(reg, treeId.getPathArguments(), 0, YangInstanceIdentifier.EMPTY, root.get(), batch);
+            if (!batch.isEmpty()) {
+                notifyListener(reg, batch);
+            }
         }
 
         return reg;
     }
 
+    private void collectInitialState(final AbstractDOMDataTreeChangeListenerRegistration<?> reg,
+            final List<PathArgument> args, final int offset, final YangInstanceIdentifier path,
+            final NormalizedNode<?, ?> node, final List<DataTreeCandidate> batch) {
+        if (offset == args.size()) {
+            batch.add(DataTreeCandidates.fromNormalizedNode(path, node));
+            if (batch.size() >= INITIAL_STATE_BATCH_SIZE) {
+                notifyListener(reg, ImmutableList.copyOf(batch));
+                batch.clear();
+            }
+            return;
+        }
+        if (!(node instanceof NormalizedNodeContainer)) {
+            return;
+        }
+
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        final NormalizedNodeContainer<?, PathArgument, NormalizedNode<?, ?>> container =
+                (NormalizedNodeContainer) node;
+        final PathArgument arg = args.get(offset);
+        final Optional<NormalizedNode<?, ?>> exact = container.getChild(arg);
+        if (exact.isPresent()) {
+            collectInitialState(reg, args, offset + 1, path.node(arg), exact.get(), batch);
+        } else if (arg instanceof NodeIdentifier && (node instanceof MapNode || node instanceof LeafSetNode)) {
+            // Wildcard match on map/leaf-set entries, mirroring RegistrationTreeNode.getInexactChildren()
+            for (NormalizedNode<?, ?> child : container.getValue()) {
+                final PathArgument childId = child.getIdentifier();
+                if ((childId instanceof NodeIdentifierWithPredicates || childId instanceof NodeWithValue)
+                        && arg.getNodeType().equals(childId.getNodeType())) {
+                    collectInitialState(reg, args, offset + 1, path.node(childId), child, batch);
+                }
+            }
+        }
+    }
+
     synchronized void publishChange(@Nonnull final DataTreeCandidate candidate) {
         // Runs synchronized with registrationRemoved()
         processCandidateTree(candidate);
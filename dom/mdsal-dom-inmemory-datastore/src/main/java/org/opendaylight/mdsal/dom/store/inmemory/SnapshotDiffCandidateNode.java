@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2018 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.dom.store.inmemory;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import javax.annotation.Nonnull;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNodeContainer;
+import org.opendaylight.yangtools.yang.data.api.schema.UnkeyedListNode;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeCandidateNode;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.ModificationType;
+
+/**
+ * A {@link DataTreeCandidateNode} describing the difference between two versions of a data tree node. Children are
+ * computed lazily and unchanged subtrees are skipped based on object identity, which is cheap because the data tree
+ * shares unmodified subtrees between its versions. Unkeyed lists are not diffed, as their entries do not have unique
+ * identifiers, a modified unkeyed list is reported as having been written as a whole.
+ *
+ *<p>
+ * This is used to aggregate a sequence of committed {@link org.opendaylight.yangtools.yang.data.api.schema.tree
+ * .DataTreeCandidate}s into a single one, spanning from the state before the first candidate to the state after the
+ * last one.
+ */
+final class SnapshotDiffCandidateNode implements DataTreeCandidateNode {
+    private final PathArgument identifier;
+    private final Optional<NormalizedNode<?, ?>> before;
+    private final Optional<NormalizedNode<?, ?>> after;
+
+    SnapshotDiffCandidateNode(final PathArgument identifier, final Optional<NormalizedNode<?, ?>> before,
+            final Optional<NormalizedNode<?, ?>> after) {
+        this.identifier = Preconditions.checkNotNull(identifier);
+        this.before = Preconditions.checkNotNull(before);
+        this.after = Preconditions.checkNotNull(after);
+    }
+
+    @Nonnull
+    @Override
+    public PathArgument getIdentifier() {
+        return identifier;
+    }
+
+    @Nonnull
+    @Override
+    public Optional<NormalizedNode<?, ?>> getDataBefore() {
+        return before;
+    }
+
+    @Nonnull
+    @Override
+    public Optional<NormalizedNode<?, ?>> getDataAfter() {
+        return after;
+    }
+
+    @Nonnull
+    @Override
+    public ModificationType getModificationType() {
+        if (!before.isPresent()) {
+            return after.isPresent() ? ModificationType.WRITE : ModificationType.UNMODIFIED;
+        }
+        if (!after.isPresent()) {
+            return ModificationType.DELETE;
+        }
+        if (before.get() == after.get()) {
+            return ModificationType.UNMODIFIED;
+        }
+        return asContainer(before) != null && asContainer(after) != null
+                ? ModificationType.SUBTREE_MODIFIED : ModificationType.WRITE;
+    }
+
+    @Nonnull
+    @Override
+    public Collection<DataTreeCandidateNode> getChildNodes() {
+        final NormalizedNodeContainer<?, ?, ?> beforeContainer = asContainer(before);
+        final NormalizedNodeContainer<?, ?, ?> afterContainer = asContainer(after);
+        if (beforeContainer == afterContainer) {
+            // Both absent or both identical
+            return Collections.emptyList();
+        }
+
+        final List<DataTreeCandidateNode> ret = new ArrayList<>();
+        if (beforeContainer != null) {
+            for (NormalizedNode<?, ?> child : beforeContainer.getValue()) {
+                final Optional<NormalizedNode<?, ?>> afterChild = childOf(afterContainer, child.getIdentifier());
+                if (!afterChild.isPresent() || afterChild.get() != child) {
+                    ret.add(new SnapshotDiffCandidateNode(child.getIdentifier(), Optional.of(child), afterChild));
+                }
+            }
+        }
+        if (afterContainer != null) {
+            for (NormalizedNode<?, ?> child : afterContainer.getValue()) {
+                if (!childOf(beforeContainer, child.getIdentifier()).isPresent()) {
+                    ret.add(new SnapshotDiffCandidateNode(child.getIdentifier(), Optional.empty(), Optional.of(child)));
+                }
+            }
+        }
+        return ret;
+    }
+
+    @Override
+    public DataTreeCandidateNode getModifiedChild(final PathArgument childIdentifier) {
+        final Optional<NormalizedNode<?, ?>> beforeChild = childOf(asContainer(before), childIdentifier);
+        final Optional<NormalizedNode<?, ?>> afterChild = childOf(asContainer(after), childIdentifier);
+        if (beforeChild.isPresent()) {
+            if (afterChild.isPresent() && beforeChild.get() == afterChild.get()) {
+                return null;
+            }
+        } else if (!afterChild.isPresent()) {
+            return null;
+        }
+        return new SnapshotDiffCandidateNode(childIdentifier, beforeChild, afterChild);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("identifier", identifier).add("type", getModificationType())
+                .toString();
+    }
+
+    /**
+     * Return the node as a container whose children can be diffed, i.e. whose children are uniquely identified.
+     *
+     * @param node Optional node
+     * @return Container, or null if the node is absent or cannot be diffed
+     */
+    private static NormalizedNodeContainer<?, ?, ?> asContainer(final Optional<NormalizedNode<?, ?>> node) {
+        if (!node.isPresent()) {
+            return null;
+        }
+        final NormalizedNode<?, ?> data = node.get();
+        return data instanceof NormalizedNodeContainer && !(data instanceof UnkeyedListNode)
+                ? (NormalizedNodeContainer<?, ?, ?>) data : null;
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static Optional<NormalizedNode<?, ?>> childOf(final NormalizedNodeContainer<?, ?, ?> container,
+            final PathArgument childIdentifier) {
+        return container == null ? Optional.empty() : ((NormalizedNodeContainer) container).getChild(childIdentifier);
+    }
+}
@@ -15,13 +15,16 @@ import static org.junit.Assert.assertTrue;
 import com.google.common.base.Optional;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.MoreExecutors;
+import java.util.Collection;
 import java.util.concurrent.ExecutionException;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.opendaylight.mdsal.common.api.ReadFailedException;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeChangeListener;
 import org.opendaylight.mdsal.dom.spi.store.DOMStoreReadTransaction;
 import org.opendaylight.mdsal.dom.spi.store.DOMStoreReadWriteTransaction;
 import org.opendaylight.mdsal.dom.spi.store.DOMStoreThreePhaseCommitCohort;
@@ -33,10 +36,16 @@ import org.opendaylight.mdsal.dom.store.inmemory.InMemoryDOMDataStore;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
 import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeCandidate;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeCandidateNode;
 import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeModification;
 import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeSnapshot;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.ModificationType;
 import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.impl.schema.builder.api.CollectionNodeBuilder;
 import org.opendaylight.yangtools.yang.data.impl.schema.builder.impl.ImmutableContainerNodeBuilder;
 import org.opendaylight.yangtools.yang.model.api.SchemaContext;
 
@@ -459,6 +468,87 @@ public class InMemoryDataStoreTest {
         assertFalse(txTwo.ready().canCommit().get());
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testGroupCommit() throws InterruptedException, ExecutionException {
+        final InMemoryDOMDataStore groupStore = new InMemoryDOMDataStore("GROUP",
+            MoreExecutors.newDirectExecutorService(), 1000, false, 3600000, 3);
+        groupStore.onGlobalContextUpdated(schemaContext);
+
+        final DOMDataTreeChangeListener listener = Mockito.mock(DOMDataTreeChangeListener.class);
+        Mockito.doNothing().when(listener).onDataTreeChanged(Mockito.any());
+        groupStore.registerTreeChangeListener(YangInstanceIdentifier.EMPTY, listener);
+
+        DOMStoreWriteTransaction writeTx = groupStore.newWriteOnlyTransaction();
+        writeTx.write(TestModel.TEST_PATH, ImmutableNodes.containerNode(TestModel.TEST_QNAME));
+        assertThreePhaseCommit(writeTx.ready());
+
+        writeTx = groupStore.newWriteOnlyTransaction();
+        writeTx.write(TestModel.OUTER_LIST_PATH, ImmutableNodes.mapNodeBuilder(TestModel.OUTER_LIST_QNAME)
+            .withChild(ImmutableNodes.mapEntry(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, 1)).build());
+        assertThreePhaseCommit(writeTx.ready());
+
+        // Committed data is visible immediately, but listeners have not been notified yet
+        assertTestContainerExists(groupStore.newReadOnlyTransaction());
+        Mockito.verify(listener, Mockito.never()).onDataTreeChanged(Mockito.any());
+
+        writeTx = groupStore.newWriteOnlyTransaction();
+        writeTx.merge(TestModel.OUTER_LIST_PATH, ImmutableNodes.mapNodeBuilder(TestModel.OUTER_LIST_QNAME)
+            .withChild(ImmutableNodes.mapEntry(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, 2)).build());
+        assertThreePhaseCommit(writeTx.ready());
+
+        // Third commit fills the batch, all three are delivered as a single candidate
+        final ArgumentCaptor<Collection<DataTreeCandidate>> captor = ArgumentCaptor.forClass(Collection.class);
+        Mockito.verify(listener).onDataTreeChanged(captor.capture());
+        final Collection<DataTreeCandidate> changes = captor.getValue();
+        assertEquals(1, changes.size());
+
+        final DataTreeCandidateNode root = changes.iterator().next().getRootNode();
+        assertEquals(ModificationType.SUBTREE_MODIFIED, root.getModificationType());
+        assertEquals(groupStore.newReadOnlyTransaction().read(YangInstanceIdentifier.EMPTY).get().get(),
+            root.getDataAfter().get());
+
+        final DataTreeCandidateNode test = root.getModifiedChild(TestModel.TEST_PATH.getLastPathArgument());
+        assertNotNull(test);
+        assertEquals(ModificationType.WRITE, test.getModificationType());
+        assertFalse(test.getDataBefore().isPresent());
+
+        groupStore.close();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testWildcardedListenerInitialState() throws InterruptedException, ExecutionException {
+        final CollectionNodeBuilder<MapEntryNode, MapNode> outerList =
+                ImmutableNodes.mapNodeBuilder(TestModel.OUTER_LIST_QNAME);
+        for (int i = 0; i < 150; ++i) {
+            outerList.withChild(ImmutableNodes.mapEntry(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, i));
+        }
+
+        final DOMStoreWriteTransaction writeTx = domStore.newWriteOnlyTransaction();
+        writeTx.write(TestModel.TEST_PATH, ImmutableNodes.containerNode(TestModel.TEST_QNAME));
+        writeTx.write(TestModel.OUTER_LIST_PATH, outerList.build());
+        assertThreePhaseCommit(writeTx.ready());
+
+        final DOMDataTreeChangeListener listener = Mockito.mock(DOMDataTreeChangeListener.class);
+        Mockito.doNothing().when(listener).onDataTreeChanged(Mockito.any());
+        domStore.registerTreeChangeListener(YangInstanceIdentifier.builder(TestModel.OUTER_LIST_PATH)
+            .node(TestModel.OUTER_LIST_QNAME).build(), listener);
+
+        final ArgumentCaptor<Collection<DataTreeCandidate>> captor = ArgumentCaptor.forClass(Collection.class);
+        Mockito.verify(listener, Mockito.atLeastOnce()).onDataTreeChanged(captor.capture());
+
+        int count = 0;
+        for (Collection<DataTreeCandidate> changes : captor.getAllValues()) {
+            for (DataTreeCandidate change : changes) {
+                assertEquals(TestModel.OUTER_LIST_PATH, change.getRootPath().getParent());
+                assertEquals(ModificationType.WRITE, change.getRootNode().getModificationType());
+                count++;
+            }
+        }
+        assertEquals(150, count);
+    }
+
     private static void assertThreePhaseCommit(final DOMStoreThreePhaseCommitCohort cohort)
             throws InterruptedException, ExecutionException {
         assertTrue(cohort.canCommit().get().booleanValue());
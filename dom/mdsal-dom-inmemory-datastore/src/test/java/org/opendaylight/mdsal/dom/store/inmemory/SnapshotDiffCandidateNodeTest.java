@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2018 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.dom.store.inmemory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collection;
+import java.util.Optional;
+import org.junit.Test;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.UnkeyedListEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.UnkeyedListNode;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeCandidateNode;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.ModificationType;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.impl.schema.builder.api.CollectionNodeBuilder;
+
+public class SnapshotDiffCandidateNodeTest {
+    private static final QName ROOT = QName.create("urn:test", "2018-01-01", "root");
+    private static final QName UNKEYED = QName.create(ROOT, "unkeyed");
+    private static final QName LEAF = QName.create(ROOT, "leaf");
+    private static final NodeIdentifier ROOT_ID = new NodeIdentifier(ROOT);
+    private static final NodeIdentifier UNKEYED_ID = new NodeIdentifier(UNKEYED);
+
+    @Test
+    public void testUnkeyedList() {
+        final ContainerNode before = root(entry("a"), entry("b"));
+        final ContainerNode after = root(entry("a"), entry("c"));
+        final SnapshotDiffCandidateNode node = new SnapshotDiffCandidateNode(ROOT_ID, Optional.of(before),
+            Optional.of(after));
+        assertEquals(ModificationType.SUBTREE_MODIFIED, node.getModificationType());
+
+        // Entries share the same identifier, hence the list is reported as written as a whole
+        final Collection<DataTreeCandidateNode> children = node.getChildNodes();
+        assertEquals(1, children.size());
+        final DataTreeCandidateNode list = children.iterator().next();
+        assertEquals(UNKEYED_ID, list.getIdentifier());
+        assertEquals(ModificationType.WRITE, list.getModificationType());
+        assertTrue(list.getChildNodes().isEmpty());
+        assertNull(list.getModifiedChild(UNKEYED_ID));
+
+        final DataTreeCandidateNode modified = node.getModifiedChild(UNKEYED_ID);
+        assertNotNull(modified);
+        assertEquals(ModificationType.WRITE, modified.getModificationType());
+        assertEquals(after.getChild(UNKEYED_ID), modified.getDataAfter());
+    }
+
+    private static ContainerNode root(final UnkeyedListEntryNode... entries) {
+        final CollectionNodeBuilder<UnkeyedListEntryNode, UnkeyedListNode> list = Builders.unkeyedListBuilder()
+                .withNodeIdentifier(UNKEYED_ID);
+        for (UnkeyedListEntryNode entry : entries) {
+            list.withChild(entry);
+        }
+        return Builders.containerBuilder().withNodeIdentifier(ROOT_ID).withChild(list.build()).build();
+    }
+
+    private static UnkeyedListEntryNode entry(final String value) {
+        return Builders.unkeyedListEntryBuilder().withNodeIdentifier(UNKEYED_ID)
+                .withChild(ImmutableNodes.leafNode(LEAF, value)).build();
+    }
+}
@@ -8,11 +8,14 @@
 package org.opendaylight.mdsal.dom.spi;
 
 import com.google.common.annotations.Beta;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
 import java.util.EnumMap;
 import java.util.Map;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import javax.annotation.concurrent.NotThreadSafe;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeIdentifier;
 import org.slf4j.Logger;
@@ -22,15 +25,21 @@ import org.slf4j.LoggerFactory;
  * Prefix table indexed by {@link DOMDataTreeIdentifier}.
  * Stores values in tree and provides lookup of closest ancestor
  *
+ *<p>
+ * The table is published as an immutable snapshot. Modifications copy the entries along the modified path and
+ * publish the new snapshot atomically, hence modifications are serialized, but lookups are wait-free and can be
+ * performed concurrently with modifications.
+ *
  * @param <V> Value type
  */
 @Beta
-@NotThreadSafe
+@ThreadSafe
 public final class DOMDataTreePrefixTable<V> {
 
     private static final Logger LOG = LoggerFactory.getLogger(DOMDataTreePrefixTable.class);
-    private final Map<LogicalDatastoreType, DOMDataTreePrefixTableEntry<V>> roots =
-        new EnumMap<>(LogicalDatastoreType.class);
+
+    // Written only while holding the monitor
+    private volatile Map<LogicalDatastoreType, DOMDataTreePrefixTableEntry<V>> roots = ImmutableMap.of();
 
     private DOMDataTreePrefixTable() {
 
@@ -64,14 +73,13 @@ public final class DOMDataTreePrefixTable<V> {
      * @param value Value to be stored
      * @throws IllegalStateException If value is already stored for provided prefix
      */
-    public void store(@Nonnull final DOMDataTreeIdentifier prefix, @Nonnull final V value) {
-        DOMDataTreePrefixTableEntry<V> domDataTreePrefixTableEntry = roots.get(prefix.getDatastoreType());
-        if (domDataTreePrefixTableEntry == null) {
-            domDataTreePrefixTableEntry = new DOMDataTreePrefixTableEntry<>();
-            roots.put(prefix.getDatastoreType(), domDataTreePrefixTableEntry);
-        }
+    public synchronized void store(@Nonnull final DOMDataTreeIdentifier prefix, @Nonnull final V value) {
+        final DOMDataTreePrefixTableEntry<V> root = roots.get(prefix.getDatastoreType());
+        final DOMDataTreePrefixTableEntry<V> newRoot = root == null ? new DOMDataTreePrefixTableEntry<>()
+                : root.copyPath(prefix.getRootIdentifier());
 
-        domDataTreePrefixTableEntry.store(prefix.getRootIdentifier(), value);
+        newRoot.store(prefix.getRootIdentifier(), value);
+        publish(prefix.getDatastoreType(), newRoot);
     }
 
     /**
@@ -81,14 +89,25 @@ public final class DOMDataTreePrefixTable<V> {
      *
      * @param prefix to be removed
      */
-    public void remove(@Nonnull final DOMDataTreeIdentifier prefix) {
+    public synchronized void remove(@Nonnull final DOMDataTreeIdentifier prefix) {
         final DOMDataTreePrefixTableEntry<V> t = roots.get(prefix.getDatastoreType());
         if (t == null) {
-            LOG.warn("Shard registration {} points to non-existent table", t);
+            LOG.warn("Shard registration {} points to non-existent table", prefix);
             return;
         }
 
-        t.remove(prefix.getRootIdentifier());
+        final DOMDataTreePrefixTableEntry<V> newRoot = t.copyPath(prefix.getRootIdentifier());
+        newRoot.remove(prefix.getRootIdentifier());
+        publish(prefix.getDatastoreType(), newRoot);
+    }
+
+    @GuardedBy("this")
+    private void publish(final LogicalDatastoreType type, final DOMDataTreePrefixTableEntry<V> root) {
+        final Map<LogicalDatastoreType, DOMDataTreePrefixTableEntry<V>> newRoots =
+                new EnumMap<>(LogicalDatastoreType.class);
+        newRoots.putAll(roots);
+        newRoots.put(type, root);
+        roots = Maps.immutableEnumMap(newRoots);
     }
 
 }
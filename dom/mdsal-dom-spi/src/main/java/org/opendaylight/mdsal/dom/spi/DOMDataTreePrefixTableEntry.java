@@ -9,31 +9,51 @@ package org.opendaylight.mdsal.dom.spi;
 
 import com.google.common.annotations.Beta;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
-import javax.annotation.concurrent.NotThreadSafe;
 import org.opendaylight.yangtools.concepts.Identifiable;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * An entry in a {@link DOMDataTreePrefixTable}. Entries which are reachable from a table are never modified, updates
+ * to the table are performed on copies of the entries along the updated path, hence lookups do not need any
+ * synchronization.
+ *
+ * @param <V> Value type
+ */
 @Beta
-@NotThreadSafe
 public final class DOMDataTreePrefixTableEntry<V> implements Identifiable<PathArgument> {
     private static final Logger LOG = LoggerFactory.getLogger(DOMDataTreePrefixTableEntry.class);
-    // FIXME: We do probably want to adapt map
-    private final Map<PathArgument, DOMDataTreePrefixTableEntry<V>> children = new HashMap<>();
+    /**
+     * Path arguments are shared across all tables, so that the same prefix stored in multiple tables does not
+     * result in duplicate objects and lookups with those instances can hit the identity fast path.
+     */
+    private static final Interner<PathArgument> ARGUMENTS = Interners.newWeakInterner();
+
+    private final Map<PathArgument, DOMDataTreePrefixTableEntry<V>> children;
     private final PathArgument identifier;
     private V value;
 
     DOMDataTreePrefixTableEntry() {
         identifier = null;
+        children = new HashMap<>();
     }
 
     DOMDataTreePrefixTableEntry(final PathArgument identifier) {
         this.identifier = Preconditions.checkNotNull(identifier);
+        children = new HashMap<>();
+    }
+
+    private DOMDataTreePrefixTableEntry(final DOMDataTreePrefixTableEntry<V> other) {
+        identifier = other.identifier;
+        value = other.value;
+        children = new HashMap<>(other.children);
     }
 
     @Override
@@ -68,6 +88,32 @@ public final class DOMDataTreePrefixTableEntry<V> implements Identifiable<PathAr
         return lastPresentEntry;
     }
 
+    /**
+     * Create a copy of this entry, which shares all entries with this one, except the ones on the specified path,
+     * which are copied, too. The copy can then be updated via {@link #store(YangInstanceIdentifier, Object)} and
+     * {@link #remove(YangInstanceIdentifier)} without affecting this entry.
+     *
+     * @param id Path which is going to be updated
+     * @return A copy of this entry
+     */
+    DOMDataTreePrefixTableEntry<V> copyPath(final YangInstanceIdentifier id) {
+        final DOMDataTreePrefixTableEntry<V> ret = new DOMDataTreePrefixTableEntry<>(this);
+        DOMDataTreePrefixTableEntry<V> entry = ret;
+
+        for (final PathArgument a : id.getPathArguments()) {
+            final DOMDataTreePrefixTableEntry<V> child = entry.children.get(a);
+            if (child == null) {
+                break;
+            }
+
+            final DOMDataTreePrefixTableEntry<V> copy = new DOMDataTreePrefixTableEntry<>(child);
+            entry.children.put(copy.identifier, copy);
+            entry = copy;
+        }
+
+        return ret;
+    }
+
     void store(final YangInstanceIdentifier id, final V reg) {
         final Iterator<PathArgument> it = id.getPathArguments().iterator();
         DOMDataTreePrefixTableEntry<V> entry = this;
@@ -76,8 +122,9 @@ public final class DOMDataTreePrefixTableEntry<V> implements Identifiable<PathAr
             final PathArgument a = it.next();
             DOMDataTreePrefixTableEntry<V> child = entry.children.get(a);
             if (child == null) {
-                child = new DOMDataTreePrefixTableEntry<>(a);
-                entry.children.put(a, child);
+                final PathArgument interned = ARGUMENTS.intern(a);
+                child = new DOMDataTreePrefixTableEntry<>(interned);
+                entry.children.put(interned, child);
             }
             // TODO: Is this correct? We want to enter child
             entry = child;
@@ -43,6 +43,9 @@ public final class RegistrationTreeNode<T> implements Identifiable<PathArgument>
     private final Reference<RegistrationTreeNode<T>> parent;
     private final PathArgument identifier;
 
+    // Number of registrations attached to the nodes below this one, maintained under the write lock
+    private int descendantRegistrations;
+
     RegistrationTreeNode(final RegistrationTreeNode<T> parent, final PathArgument identifier) {
         this.parent = new WeakReference<>(parent);
         this.identifier = identifier;
@@ -72,6 +75,19 @@ public final class RegistrationTreeNode<T> implements Identifiable<PathArgument>
      */
     @Nonnull
     public Collection<RegistrationTreeNode<T>> getInexactChildren(@Nonnull final PathArgument arg) {
+        final RegistrationTreeNode<T> child = getInexactChild(arg);
+        return child == null ? Collections.emptyList() : Collections.singletonList(child);
+    }
+
+    /**
+     * Return the child matching a {@link PathArgument} specification inexactly. This is an allocation-free
+     * equivalent of {@link #getInexactChildren(PathArgument)}, exploiting the fact that there can be at most one such
+     * child.
+     *
+     * @param arg Child identifier
+     * @return Child matching inexactly, or null.
+     */
+    public RegistrationTreeNode<T> getInexactChild(@Nonnull final PathArgument arg) {
         Preconditions.checkNotNull(arg);
         if (arg instanceof NodeWithValue || arg instanceof NodeIdentifierWithPredicates) {
             /*
@@ -80,21 +96,26 @@ public final class RegistrationTreeNode<T> implements Identifiable<PathArgument>
              *       partial wildcards by iterating over the registrations and matching the maps for
              *       partial matches.
              */
-            final RegistrationTreeNode<T> child = children.get(new NodeIdentifier(arg.getNodeType()));
-            if (child == null) {
-                return Collections.emptyList();
-            }
-
-            return Collections.singletonList(child);
+            return children.get(NodeIdentifier.create(arg.getNodeType()));
         }
 
-        return Collections.emptyList();
+        return null;
     }
 
     public Collection<T> getRegistrations() {
         return publicRegistrations;
     }
 
+    /**
+     * Check whether any node below this one has registrations attached. If this method returns false, there is no
+     * point in looking at any children of this node.
+     *
+     * @return True if any descendant of this node has at least one registration.
+     */
+    public boolean hasDescendantRegistrations() {
+        return descendantRegistrations != 0;
+    }
+
     RegistrationTreeNode<T> ensureChild(@Nonnull final PathArgument child) {
         RegistrationTreeNode<T> potential = children.get(Preconditions.checkNotNull(child));
         if (potential == null) {
@@ -106,17 +127,26 @@ public final class RegistrationTreeNode<T> implements Identifiable<PathArgument>
 
     void addRegistration(@Nonnull final T registration) {
         registrations.add(Preconditions.checkNotNull(registration));
+        adjustAncestors(1);
         LOG.debug("Registration {} added", registration);
     }
 
     void removeRegistration(@Nonnull final T registration) {
-        registrations.remove(Preconditions.checkNotNull(registration));
+        if (registrations.remove(Preconditions.checkNotNull(registration))) {
+            adjustAncestors(-1);
+        }
         LOG.debug("Registration {} removed", registration);
 
         // We have been called with the write-lock held, so we can perform some cleanup.
         removeThisIfUnused();
     }
 
+    private void adjustAncestors(final int delta) {
+        for (RegistrationTreeNode<T> p = parent.get(); p != null; p = p.parent.get()) {
+            p.descendantRegistrations += delta;
+        }
+    }
+
     private void removeThisIfUnused() {
         final RegistrationTreeNode<T> p = parent.get();
         if (p != null && registrations.isEmpty() && children.isEmpty()) {
@@ -134,6 +164,7 @@ public final class RegistrationTreeNode<T> implements Identifiable<PathArgument>
         return MoreObjects.toStringHelper(this)
                 .add("identifier", identifier)
                 .add("registrations", registrations.size())
+                .add("descendantRegistrations", descendantRegistrations)
                 .add("children", children.size()).toString();
     }
 }
@@ -7,15 +7,15 @@
  */
 package org.opendaylight.mdsal.dom.spi.store;
 
-import com.google.common.base.Supplier;
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.Multimap;
-import com.google.common.collect.Multimaps;
+import com.google.common.collect.Iterables;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.RandomAccess;
 import javax.annotation.Nonnull;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeChangeListener;
 import org.opendaylight.mdsal.dom.spi.AbstractDOMDataTreeChangeListenerRegistration;
@@ -33,13 +33,35 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Abstract base class for {@link DOMStoreTreeChangePublisher} implementations.
+ *
+ *<p>
+ * Candidate trees are matched against registrations without allocating intermediate state: registration subtrees
+ * without any listeners are not visited, paths are materialized only for nodes which have registrations attached and
+ * the scratch structures used during the walk are reused across invocations on the same thread.
  */
 public abstract class AbstractDOMStoreTreeChangePublisher
     extends AbstractRegistrationTree<AbstractDOMDataTreeChangeListenerRegistration<?>>
         implements DOMStoreTreeChangePublisher {
     private static final Logger LOG = LoggerFactory.getLogger(AbstractDOMStoreTreeChangePublisher.class);
 
-    private static final Supplier<List<DataTreeCandidate>> LIST_SUPPLIER = () -> new ArrayList<>();
+    /**
+     * Per-thread scratch state used by {@link #processCandidateTree(DataTreeCandidate)}.
+     */
+    private static final class DispatchState {
+        final Map<AbstractDOMDataTreeChangeListenerRegistration<?>, List<DataTreeCandidate>> listenerChanges =
+                new IdentityHashMap<>();
+        // Path from candidate root to the node currently being visited
+        final List<PathArgument> path = new ArrayList<>();
+        boolean inUse;
+
+        void release() {
+            listenerChanges.clear();
+            path.clear();
+            inUse = false;
+        }
+    }
+
+    private final ThreadLocal<DispatchState> dispatchState = ThreadLocal.withInitial(DispatchState::new);
 
     /**
      * Callback for subclass to notify a specified registration of a list of candidates. This method is guaranteed
@@ -76,17 +98,21 @@ public abstract class AbstractDOMStoreTreeChangePublisher
             return;
         }
 
+        final DispatchState state = acquireState();
         try (RegistrationTreeSnapshot<AbstractDOMDataTreeChangeListenerRegistration<?>> snapshot
                 = takeSnapshot()) {
-            final List<PathArgument> toLookup = ImmutableList.copyOf(candidate.getRootPath().getPathArguments());
-            final Multimap<AbstractDOMDataTreeChangeListenerRegistration<?>, DataTreeCandidate> listenerChanges =
-                    Multimaps.newListMultimap(new IdentityHashMap<>(), LIST_SUPPLIER);
-            lookupAndNotify(toLookup, 0, snapshot.getRootNode(), candidate, listenerChanges);
+            List<PathArgument> toLookup = candidate.getRootPath().getPathArguments();
+            if (!(toLookup instanceof RandomAccess)) {
+                toLookup = ImmutableList.copyOf(toLookup);
+            }
+            lookupAndNotify(toLookup, 0, snapshot.getRootNode(), candidate, state);
 
-            for (Map.Entry<AbstractDOMDataTreeChangeListenerRegistration<?>, Collection<DataTreeCandidate>> entry:
-                    listenerChanges.asMap().entrySet()) {
+            for (Entry<AbstractDOMDataTreeChangeListenerRegistration<?>, List<DataTreeCandidate>> entry :
+                    state.listenerChanges.entrySet()) {
                 notifyListener(entry.getKey(), entry.getValue());
             }
+        } finally {
+            state.release();
         }
     }
 
@@ -115,66 +141,93 @@ public abstract class AbstractDOMStoreTreeChangePublisher
         }
     }
 
+    private DispatchState acquireState() {
+        final DispatchState cached = dispatchState.get();
+        if (cached.inUse) {
+            // Re-entrant invocation from notifyListener(), do not disturb the outer walk
+            return new DispatchState();
+        }
+        cached.inUse = true;
+        return cached;
+    }
+
     private void lookupAndNotify(final List<PathArgument> args,
             final int offset, final RegistrationTreeNode<AbstractDOMDataTreeChangeListenerRegistration<?>> node,
-            final DataTreeCandidate candidate,
-            final Multimap<AbstractDOMDataTreeChangeListenerRegistration<?>, DataTreeCandidate> listenerChanges) {
+            final DataTreeCandidate candidate, final DispatchState state) {
         if (args.size() != offset) {
             final PathArgument arg = args.get(offset);
 
             final RegistrationTreeNode<AbstractDOMDataTreeChangeListenerRegistration<?>> exactChild
                 = node.getExactChild(arg);
             if (exactChild != null) {
-                lookupAndNotify(args, offset + 1, exactChild, candidate, listenerChanges);
+                lookupAndNotify(args, offset + 1, exactChild, candidate, state);
             }
 
-            for (RegistrationTreeNode<AbstractDOMDataTreeChangeListenerRegistration<?>> c :
-                    node.getInexactChildren(arg)) {
-                lookupAndNotify(args, offset + 1, c, candidate, listenerChanges);
+            final RegistrationTreeNode<AbstractDOMDataTreeChangeListenerRegistration<?>> inexactChild
+                = node.getInexactChild(arg);
+            if (inexactChild != null) {
+                lookupAndNotify(args, offset + 1, inexactChild, candidate, state);
             }
         } else {
-            notifyNode(candidate.getRootPath(), node, candidate.getRootNode(), listenerChanges);
+            notifyNode(candidate.getRootPath(), node, candidate.getRootNode(), state);
         }
     }
 
-    private void notifyNode(final YangInstanceIdentifier path,
+    private void notifyNode(final YangInstanceIdentifier rootPath,
             final RegistrationTreeNode<AbstractDOMDataTreeChangeListenerRegistration<?>> regNode,
-            final DataTreeCandidateNode candNode,
-            final Multimap<AbstractDOMDataTreeChangeListenerRegistration<?>, DataTreeCandidate> listenerChanges) {
+            final DataTreeCandidateNode candNode, final DispatchState state) {
         if (candNode.getModificationType() == ModificationType.UNMODIFIED) {
-            LOG.debug("Skipping unmodified candidate {}", path);
+            LOG.debug("Skipping unmodified candidate {} at {}", rootPath, state.path);
             return;
         }
 
         final Collection<AbstractDOMDataTreeChangeListenerRegistration<?>> regs = regNode.getRegistrations();
         if (!regs.isEmpty()) {
-            addToListenerChanges(regs, path, candNode, listenerChanges);
+            addToListenerChanges(regs, currentPath(rootPath, state.path), candNode, state.listenerChanges);
+        }
+
+        if (!regNode.hasDescendantRegistrations()) {
+            // Nobody is listening below this point, no need to look at the children at all
+            return;
         }
 
         for (DataTreeCandidateNode candChild : candNode.getChildNodes()) {
             if (candChild.getModificationType() != ModificationType.UNMODIFIED) {
+                final PathArgument childId = candChild.getIdentifier();
                 final RegistrationTreeNode<AbstractDOMDataTreeChangeListenerRegistration<?>> regChild =
-                        regNode.getExactChild(candChild.getIdentifier());
-                if (regChild != null) {
-                    notifyNode(path.node(candChild.getIdentifier()), regChild, candChild, listenerChanges);
+                        regNode.getExactChild(childId);
+                final RegistrationTreeNode<AbstractDOMDataTreeChangeListenerRegistration<?>> inexactChild =
+                        regNode.getInexactChild(childId);
+                if (regChild == null && inexactChild == null) {
+                    continue;
                 }
 
-                for (RegistrationTreeNode<AbstractDOMDataTreeChangeListenerRegistration<?>> rc :
-                    regNode.getInexactChildren(candChild.getIdentifier())) {
-                    notifyNode(path.node(candChild.getIdentifier()), rc, candChild, listenerChanges);
+                state.path.add(childId);
+                if (regChild != null) {
+                    notifyNode(rootPath, regChild, candChild, state);
+                }
+                if (inexactChild != null) {
+                    notifyNode(rootPath, inexactChild, candChild, state);
                 }
+                state.path.remove(state.path.size() - 1);
             }
         }
     }
 
+    private static YangInstanceIdentifier currentPath(final YangInstanceIdentifier rootPath,
+            final List<PathArgument> relativePath) {
+        return relativePath.isEmpty() ? rootPath
+                : YangInstanceIdentifier.create(Iterables.concat(rootPath.getPathArguments(), relativePath));
+    }
+
     private static void addToListenerChanges(
             final Collection<AbstractDOMDataTreeChangeListenerRegistration<?>> registrations,
             final YangInstanceIdentifier path, final DataTreeCandidateNode node,
-            final Multimap<AbstractDOMDataTreeChangeListenerRegistration<?>, DataTreeCandidate> listenerChanges) {
+            final Map<AbstractDOMDataTreeChangeListenerRegistration<?>, List<DataTreeCandidate>> listenerChanges) {
         final DataTreeCandidate dataTreeCandidate = DataTreeCandidates.newDataTreeCandidate(path, node);
 
         for (AbstractDOMDataTreeChangeListenerRegistration<?> reg : registrations) {
-            listenerChanges.put(reg, dataTreeCandidate);
+            listenerChanges.computeIfAbsent(reg, k -> new ArrayList<>(1)).add(dataTreeCandidate);
         }
     }
 }
@@ -9,6 +9,7 @@ package org.opendaylight.mdsal.dom.spi;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 
 import org.junit.Test;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
@@ -37,4 +38,34 @@ public class DOMDataTreePrefixTableTest {
         domDataTreePrefixTable.remove(invalidDOMDataTreeIdentifier);
         assertNull(domDataTreePrefixTable.lookup(invalidDOMDataTreeIdentifier));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void longestPrefixTest() throws Exception {
+        final DOMDataTreePrefixTable<Object> domDataTreePrefixTable = DOMDataTreePrefixTable.create();
+        final Object outerObject = new Object();
+        final Object innerObject = new Object();
+        final YangInstanceIdentifier outer = YangInstanceIdentifier.of(QName.create("", "outer"));
+        final YangInstanceIdentifier inner = outer.node(QName.create("", "inner"));
+        final DOMDataTreeIdentifier outerId = new DOMDataTreeIdentifier(LogicalDatastoreType.OPERATIONAL, outer);
+        final DOMDataTreeIdentifier innerId = new DOMDataTreeIdentifier(LogicalDatastoreType.OPERATIONAL, inner);
+        final DOMDataTreeIdentifier leafId = new DOMDataTreeIdentifier(LogicalDatastoreType.OPERATIONAL,
+            inner.node(QName.create("", "leaf")));
+
+        domDataTreePrefixTable.store(outerId, outerObject);
+        final DOMDataTreePrefixTableEntry<Object> outerEntry = domDataTreePrefixTable.lookup(leafId);
+        assertSame(outerObject, outerEntry.getValue());
+
+        domDataTreePrefixTable.store(innerId, innerObject);
+        assertSame(innerObject, domDataTreePrefixTable.lookup(leafId).getValue());
+        assertSame(outerObject, domDataTreePrefixTable.lookup(outerId).getValue());
+
+        // Entries obtained before a modification are not affected by it
+        domDataTreePrefixTable.remove(outerId);
+        assertSame(outerObject, outerEntry.getValue());
+        assertSame(innerObject, domDataTreePrefixTable.lookup(leafId).getValue());
+        assertNull(domDataTreePrefixTable.lookup(outerId).getValue());
+
+        domDataTreePrefixTable.remove(innerId);
+        assertNull(domDataTreePrefixTable.lookup(leafId).getValue());
+    }
+}
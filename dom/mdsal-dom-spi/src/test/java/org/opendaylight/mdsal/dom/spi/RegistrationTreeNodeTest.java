@@ -10,6 +10,7 @@ package org.opendaylight.mdsal.dom.spi;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
@@ -50,9 +51,30 @@ public class RegistrationTreeNodeTest {
         final NodeIdentifier nodeWithoutValue = new NodeIdentifier(QName.create("", "testNode"));
         assertNotNull(registrationTreeNode.ensureChild(nodeWithoutValue));
         assertFalse(registrationTreeNode.getInexactChildren(nodeWithValue).isEmpty());
+        assertNotNull(registrationTreeNode.getInexactChild(nodeWithValue));
+        assertNull(registrationTreeNode.getInexactChild(nodeWithoutValue));
 
         doReturn("TestPathArgument").when(pathArgument).toString();
         assertNotNull(registrationTreeNode.toString());
         assertTrue(registrationTreeNode.toString().contains(pathArgument.toString()));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void descendantRegistrationsTest() throws Exception {
+        final RegistrationTreeNode<Object> root = new RegistrationTreeNode<>(null, null);
+        final RegistrationTreeNode<Object> child = root.ensureChild(new NodeIdentifier(QName.create("", "child")));
+        final RegistrationTreeNode<Object> grandChild =
+                child.ensureChild(new NodeIdentifier(QName.create("", "grandChild")));
+        assertFalse(root.hasDescendantRegistrations());
+
+        final Object registration = new Object();
+        grandChild.addRegistration(registration);
+        assertTrue(root.hasDescendantRegistrations());
+        assertTrue(child.hasDescendantRegistrations());
+        assertFalse(grandChild.hasDescendantRegistrations());
+
+        grandChild.removeRegistration(registration);
+        assertFalse(root.hasDescendantRegistrations());
+        assertFalse(child.hasDescendantRegistrations());
+    }
+}
@@ -11,6 +11,8 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 import com.google.common.collect.ImmutableList;
 import java.lang.reflect.Field;
@@ -69,6 +71,29 @@ public class AbstractDOMStoreTreeChangePublisherTest extends AbstractDOMStoreTre
         Assert.assertEquals(1, closed);
     }
 
+    @Test
+    public void prunedSubtreeTest() throws Exception {
+        final DataTreeCandidate dataTreeCandidate = mock(DataTreeCandidate.class);
+        final DataTreeCandidateNode rootNode = mock(DataTreeCandidateNode.class, "rootNode");
+        final DataTreeCandidateNode childNode = mock(DataTreeCandidateNode.class, "childNode");
+        final YangInstanceIdentifier childPath = YangInstanceIdentifier.of(QName.create("", "node1"));
+
+        doReturn(rootNode).when(dataTreeCandidate).getRootNode();
+        doReturn(YangInstanceIdentifier.EMPTY).when(dataTreeCandidate).getRootPath();
+        doReturn(ModificationType.SUBTREE_MODIFIED).when(rootNode).getModificationType();
+        doReturn(ImmutableList.of(childNode)).when(rootNode).getChildNodes();
+        doReturn(ModificationType.WRITE).when(childNode).getModificationType();
+        doReturn(childPath.getLastPathArgument()).when(childNode).getIdentifier();
+
+        registerTreeChangeListener(childPath, mock(DOMDataTreeChangeListener.class));
+        processCandidateTree(dataTreeCandidate);
+
+        // The registration has no descendants, hence the candidate's children must not be looked at
+        assertTrue(notifyInvoked);
+        verify(rootNode).getChildNodes();
+        verify(childNode, never()).getChildNodes();
+    }
+
     @Override
     protected void notifyListener(final AbstractDOMDataTreeChangeListenerRegistration<?> registration,
             final Collection<DataTreeCandidate> changes) {
@@ -15,13 +15,22 @@ import com.google.common.base.MoreObjects;
 import com.google.common.base.MoreObjects.ToStringHelper;
 import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
-import com.google.common.collect.ArrayListMultimap;
-import com.google.common.collect.HashBasedTable;
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.Multimap;
-import com.google.common.collect.Table;
-import java.util.Collection;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Queue;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import javax.annotation.concurrent.GuardedBy;
 import org.kohsuke.MetaInfServices;
 import org.opendaylight.mdsal.eos.common.api.CandidateAlreadyRegisteredException;
@@ -42,65 +51,86 @@ import org.slf4j.LoggerFactory;
  * Simple {@link DOMEntityOwnershipService} operating as an isolated island. It has no awareness of the world outside
  * of itself.
  *
+ *<p>
+ * State is striped by entity type: candidate registration and removal synchronize only on their entity type, while
+ * {@link #isCandidateRegistered(DOMEntity)} and {@link #getOwnershipState(DOMEntity)} do not acquire any locks.
+ * Listeners are notified asynchronously: each listener has a queue of pending changes, which is drained in batches
+ * on the notification executor, hence changes are delivered to a particular listener in the order in which they
+ * occurred and a slow listener does not hold up candidate registration nor other listeners.
+ *
  * @author Robert Varga
  */
 @MetaInfServices
 public final class SimpleDOMEntityOwnershipService implements DOMEntityOwnershipService {
-    private static final Logger LOG = LoggerFactory.getLogger(SimpleDOMEntityOwnershipService.class);
-
-    @GuardedBy("entities")
-    private final Table<String, YangInstanceIdentifier, DOMEntity> entities = HashBasedTable.create();
+    private static final class DefaultExecutorHolder {
+        // Threads time out when idle, hence this executor does not need to be shut down
+        static final ExecutorService INSTANCE = Executors.newCachedThreadPool(new ThreadFactoryBuilder()
+            .setDaemon(true).setNameFormat("simple-eos-notifier-%d").build());
+    }
 
-    @GuardedBy("listeners")
-    private final Multimap<String, DOMEntityOwnershipListener> listeners = ArrayListMultimap.create(0, 1);
+    private static final Logger LOG = LoggerFactory.getLogger(SimpleDOMEntityOwnershipService.class);
 
+    private final ConcurrentMap<String, EntityTypeState> entityTypes = new ConcurrentHashMap<>();
+    private final Executor executor;
     private final UUID uuid;
 
     @VisibleForTesting
-    SimpleDOMEntityOwnershipService(final UUID uuid) {
+    SimpleDOMEntityOwnershipService(final UUID uuid, final Executor executor) {
         this.uuid = Preconditions.checkNotNull(uuid);
+        this.executor = Preconditions.checkNotNull(executor);
+    }
+
+    @VisibleForTesting
+    SimpleDOMEntityOwnershipService(final UUID uuid) {
+        this(uuid, DefaultExecutorHolder.INSTANCE);
     }
 
     public SimpleDOMEntityOwnershipService() {
         this(UUID.randomUUID());
     }
 
+    /**
+     * Create a new instance, which delivers listener notifications on specified executor.
+     *
+     * @param executor Notification executor
+     */
+    public SimpleDOMEntityOwnershipService(final Executor executor) {
+        this(UUID.randomUUID(), executor);
+    }
+
     @Override
     public DOMEntityOwnershipCandidateRegistration registerCandidate(final DOMEntity entity)
             throws CandidateAlreadyRegisteredException {
-        synchronized (entities) {
-            final DOMEntity prev = entities.get(entity.getType(), entity.getIdentifier());
+        final EntityTypeState state = entityTypes.computeIfAbsent(entity.getType(), type -> new EntityTypeState());
+        synchronized (state) {
+            final DOMEntity prev = state.entities.putIfAbsent(entity.getIdentifier(), entity);
             if (prev != null) {
                 throw new CandidateAlreadyRegisteredException(prev);
             }
 
-            entities.put(entity.getType(), entity.getIdentifier(), entity);
             LOG.debug("{}: registered candidate {}", uuid, entity);
+            state.notifyListeners(entity, LOCAL_OWNERSHIP_GRANTED);
         }
 
-        notifyListeners(entity, LOCAL_OWNERSHIP_GRANTED);
         return new EntityRegistration(entity);
     }
 
     @Override
     public DOMEntityOwnershipListenerRegistration registerListener(final String entityType,
             final DOMEntityOwnershipListener listener) {
-
-        final Collection<DOMEntity> owned;
-        synchronized (entities) {
-            owned = ImmutableList.copyOf(entities.row(entityType).values());
-            LOG.trace("{}: acquired candidates {} for new listener {}", uuid, owned, listener);
-        }
-
-        synchronized (listeners) {
-            listeners.put(entityType, listener);
+        final ListenerQueue queue = new ListenerQueue(listener);
+        final EntityTypeState state = entityTypes.computeIfAbsent(entityType, type -> new EntityTypeState());
+        synchronized (state) {
+            state.listeners.add(queue);
+            LOG.trace("{}: acquired candidates {} for new listener {}", uuid, state.entities.values(), listener);
+
+            for (DOMEntity entity : state.entities.values()) {
+                queue.enqueue(new DOMEntityOwnershipChange(entity, LOCAL_OWNERSHIP_GRANTED));
+            }
         }
 
-        for (DOMEntity entity : owned) {
-            notifyListener(listener, new DOMEntityOwnershipChange(entity, LOCAL_OWNERSHIP_GRANTED));
-        }
         LOG.debug("{}: registered listener {}", uuid, listener);
-        return new ListenerRegistration(entityType, listener);
+        return new ListenerRegistration(entityType, queue);
     }
 
     @Override
@@ -110,63 +140,140 @@ public final class SimpleDOMEntityOwnershipService implements DOMEntityOwnership
 
     @Override
     public boolean isCandidateRegistered(final DOMEntity forEntity) {
-        synchronized (entities) {
-            return entities.contains(forEntity.getType(), forEntity.getIdentifier());
-        }
+        final EntityTypeState state = entityTypes.get(forEntity.getType());
+        return state != null && state.entities.containsKey(forEntity.getIdentifier());
     }
 
     private void removeEntity(final DOMEntity entity) {
-        synchronized (entities) {
-            entities.remove(entity.getType(), entity.getIdentifier());
-            LOG.debug("{}: unregistered candidate {}", uuid, entity);
+        final EntityTypeState state = entityTypes.get(entity.getType());
+        if (state == null) {
+            return;
         }
 
-        notifyListeners(entity, LOCAL_OWNERSHIP_LOST_NO_OWNER);
+        synchronized (state) {
+            if (state.entities.remove(entity.getIdentifier(), entity)) {
+                LOG.debug("{}: unregistered candidate {}", uuid, entity);
+                state.notifyListeners(entity, LOCAL_OWNERSHIP_LOST_NO_OWNER);
+            }
+        }
     }
 
-    @SuppressWarnings("checkstyle:illegalCatch")
-    private void notifyListener(final DOMEntityOwnershipListener listener, final DOMEntityOwnershipChange change) {
-        try {
-            LOG.trace("{} notifying listener {} change {}", uuid, listener, change);
-            listener.ownershipChanged(change);
-        } catch (RuntimeException e) {
-            LOG.warn("{}: Listener {} change {} failed", uuid, listener, change, e);
+    void unregisterListener(final ListenerRegistration reg) {
+        final EntityTypeState state = entityTypes.get(reg.getEntityType());
+        if (state != null) {
+            synchronized (state) {
+                state.listeners.remove(reg.queue);
+            }
         }
-    }
 
-    private void notifyListeners(final DOMEntity entity, final EntityOwnershipChangeState state) {
-        final DOMEntityOwnershipChange change = new DOMEntityOwnershipChange(entity, state);
+        reg.queue.close();
+        LOG.debug("{}: unregistered listener {}", uuid, reg.getInstance());
+    }
 
-        final Collection<DOMEntityOwnershipListener> snap;
+    @Override
+    public String toString() {
+        final ToStringHelper h = MoreObjects.toStringHelper(SimpleDOMEntityOwnershipService.class).add("uuid", uuid);
 
-        synchronized (listeners) {
-            snap = ImmutableList.copyOf(listeners.get(entity.getType()));
+        final ImmutableMap.Builder<String, Object> entities = ImmutableMap.builder();
+        final ImmutableMap.Builder<String, Object> listeners = ImmutableMap.builder();
+        for (Entry<String, EntityTypeState> entry : entityTypes.entrySet()) {
+            final EntityTypeState state = entry.getValue();
+            synchronized (state) {
+                if (!state.entities.isEmpty()) {
+                    entities.put(entry.getKey(), ImmutableMap.copyOf(state.entities));
+                }
+                if (!state.listeners.isEmpty()) {
+                    listeners.put(entry.getKey(), ImmutableList.copyOf(state.listeners));
+                }
+            }
         }
 
-        for (DOMEntityOwnershipListener listener : snap) {
-            notifyListener(listener, change);
-        }
+        return h.add("entities", entities.build()).add("listeners", listeners.build()).toString();
     }
 
-    void unregisterListener(final ListenerRegistration reg) {
-        synchronized (listeners) {
-            listeners.remove(reg.getEntityType(), reg.getInstance());
-            LOG.debug("{}: unregistered listener {}", uuid, reg.getInstance());
+    /**
+     * State of a single entity type. Modifications synchronize on this object, reads of entities are lock-free.
+     */
+    private final class EntityTypeState {
+        final ConcurrentMap<YangInstanceIdentifier, DOMEntity> entities = new ConcurrentHashMap<>();
+        @GuardedBy("this")
+        final List<ListenerQueue> listeners = new ArrayList<>(1);
+
+        @GuardedBy("this")
+        void notifyListeners(final DOMEntity entity, final EntityOwnershipChangeState state) {
+            if (!listeners.isEmpty()) {
+                final DOMEntityOwnershipChange change = new DOMEntityOwnershipChange(entity, state);
+                for (ListenerQueue queue : listeners) {
+                    queue.enqueue(change);
+                }
+            }
         }
     }
 
-    @Override
-    public String toString() {
-        final ToStringHelper h = MoreObjects.toStringHelper(SimpleDOMEntityOwnershipService.class).add("uuid", uuid);
+    /**
+     * Queue of changes pending delivery to a listener. At most one delivery task is scheduled at any time, which
+     * delivers all changes queued up to that point.
+     */
+    private final class ListenerQueue implements Runnable {
+        private final Queue<DOMEntityOwnershipChange> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        final DOMEntityOwnershipListener listener;
+        private volatile boolean closed;
+
+        ListenerQueue(final DOMEntityOwnershipListener listener) {
+            this.listener = Preconditions.checkNotNull(listener);
+        }
 
-        synchronized (entities) {
-            h.add("entities", entities);
+        void enqueue(final DOMEntityOwnershipChange change) {
+            pending.add(change);
+            schedule();
         }
-        synchronized (listeners) {
-            h.add("listeners", listeners);
+
+        void close() {
+            closed = true;
+            pending.clear();
         }
 
-        return h.toString();
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    executor.execute(this);
+                } catch (RejectedExecutionException e) {
+                    LOG.warn("{}: failed to schedule notification of listener {}", uuid, listener, e);
+                    scheduled.set(false);
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            for (DOMEntityOwnershipChange change = pending.poll(); change != null; change = pending.poll()) {
+                if (!closed) {
+                    notifyListener(change);
+                }
+            }
+
+            scheduled.set(false);
+            // Changes enqueued after we have drained the queue, but before we cleared the flag, need a new task
+            if (!pending.isEmpty()) {
+                schedule();
+            }
+        }
+
+        @SuppressWarnings("checkstyle:illegalCatch")
+        private void notifyListener(final DOMEntityOwnershipChange change) {
+            try {
+                LOG.trace("{} notifying listener {} change {}", uuid, listener, change);
+                listener.ownershipChanged(change);
+            } catch (RuntimeException e) {
+                LOG.warn("{}: Listener {} change {} failed", uuid, listener, change, e);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return listener.toString();
+        }
     }
 
     private final class EntityRegistration extends AbstractObjectRegistration<DOMEntity> implements
@@ -184,10 +291,12 @@ public final class SimpleDOMEntityOwnershipService implements DOMEntityOwnership
     private final class ListenerRegistration extends AbstractObjectRegistration<DOMEntityOwnershipListener>
             implements DOMEntityOwnershipListenerRegistration {
         private final String entityType;
+        final ListenerQueue queue;
 
-        ListenerRegistration(final String entityType, final DOMEntityOwnershipListener listener) {
-            super(listener);
+        ListenerRegistration(final String entityType, final ListenerQueue queue) {
+            super(queue.listener);
             this.entityType = Preconditions.checkNotNull(entityType);
+            this.queue = queue;
         }
 
         @Override
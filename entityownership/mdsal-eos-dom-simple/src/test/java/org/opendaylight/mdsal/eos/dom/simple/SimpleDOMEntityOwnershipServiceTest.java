@@ -15,10 +15,15 @@ import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyZeroInteractions;
 
 import com.google.common.base.Optional;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
 import java.util.UUID;
 import org.junit.Before;
 import org.junit.Test;
@@ -44,7 +49,7 @@ public class SimpleDOMEntityOwnershipServiceTest {
 
     @Before
     public void setUp() {
-        service = new SimpleDOMEntityOwnershipService();
+        service = new SimpleDOMEntityOwnershipService(MoreExecutors.directExecutor());
     }
 
     @Test
@@ -117,6 +122,48 @@ public class SimpleDOMEntityOwnershipServiceTest {
         barReg.close();
     }
 
+    @Test
+    public void testAsyncListener() throws CandidateAlreadyRegisteredException {
+        final Queue<Runnable> tasks = new ArrayDeque<>();
+        service = new SimpleDOMEntityOwnershipService(UUID.randomUUID(), tasks::add);
+
+        final DOMEntityOwnershipListener fooListener = mock(DOMEntityOwnershipListener.class);
+        doNothing().when(fooListener).ownershipChanged(any(DOMEntityOwnershipChange.class));
+        final DOMEntityOwnershipListenerRegistration fooReg = service.registerListener(FOO_TYPE, fooListener);
+        assertTrue(tasks.isEmpty());
+
+        // Registration is not held up by the listener
+        final DOMEntityOwnershipCandidateRegistration fooReg1 = service.registerCandidate(FOO_FOO_ENTITY);
+        final DOMEntityOwnershipCandidateRegistration fooReg2 = service.registerCandidate(FOO_BAR_ENTITY);
+        fooReg1.close();
+        assertTrue(service.isCandidateRegistered(FOO_BAR_ENTITY));
+        assertFalse(service.isCandidateRegistered(FOO_FOO_ENTITY));
+        verifyZeroInteractions(fooListener);
+
+        // All changes are delivered in a single batch, in order
+        assertEquals(1, tasks.size());
+        tasks.remove().run();
+        assertTrue(tasks.isEmpty());
+
+        final ArgumentCaptor<DOMEntityOwnershipChange> fooCaptor = ArgumentCaptor.forClass(
+            DOMEntityOwnershipChange.class);
+        verify(fooListener, times(3)).ownershipChanged(fooCaptor.capture());
+        final List<DOMEntityOwnershipChange> changes = fooCaptor.getAllValues();
+        assertEquals(FOO_FOO_ENTITY, changes.get(0).getEntity());
+        assertEquals(EntityOwnershipChangeState.LOCAL_OWNERSHIP_GRANTED, changes.get(0).getState());
+        assertEquals(FOO_BAR_ENTITY, changes.get(1).getEntity());
+        assertEquals(EntityOwnershipChangeState.LOCAL_OWNERSHIP_GRANTED, changes.get(1).getState());
+        assertEquals(FOO_FOO_ENTITY, changes.get(2).getEntity());
+        assertEquals(EntityOwnershipChangeState.LOCAL_OWNERSHIP_LOST_NO_OWNER, changes.get(2).getState());
+
+        // Changes pending for a closed listener are discarded
+        fooReg2.close();
+        fooReg.close();
+        assertEquals(1, tasks.size());
+        tasks.remove().run();
+        verify(fooListener, times(3)).ownershipChanged(any(DOMEntityOwnershipChange.class));
+    }
+
     @Test
     public void testToString() throws CandidateAlreadyRegisteredException {
         final UUID uuid = UUID.randomUUID();
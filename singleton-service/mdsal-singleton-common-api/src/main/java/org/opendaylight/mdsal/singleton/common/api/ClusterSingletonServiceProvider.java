@@ -8,6 +8,10 @@
 
 package org.opendaylight.mdsal.singleton.common.api;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
 /**
  * {@link ClusterSingletonServiceProvider} provides a functionality to register and group services
  * {@link ClusterSingletonService} by service group identifier. Services could be Applications or RPCs.
@@ -36,4 +40,34 @@ public interface ClusterSingletonServiceProvider extends AutoCloseable {
      */
     ClusterSingletonServiceRegistration registerClusterSingletonService(ClusterSingletonService service);
 
+    /**
+     * Method registers multiple {@link ClusterSingletonService}s to Provider. This is semantically equivalent to
+     * invoking {@link #registerClusterSingletonService(ClusterSingletonService)} for each service, except that if
+     * any of the registrations fails, all registrations made by this method are closed before the failure is
+     * propagated. Implementations are encouraged to override this method with a more efficient version, for example
+     * to amortize locking and service group setup when large number of services is being registered at once.
+     *
+     * @param services ClusterSingletonService instances
+     * @return {@link AutoCloseable} registrations, in the order of the supplied services
+     */
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    default List<ClusterSingletonServiceRegistration> registerClusterSingletonServices(
+            final Collection<? extends ClusterSingletonService> services) {
+        final List<ClusterSingletonServiceRegistration> ret = new ArrayList<>(services.size());
+        try {
+            for (ClusterSingletonService service : services) {
+                ret.add(registerClusterSingletonService(service));
+            }
+        } catch (RuntimeException e) {
+            for (ClusterSingletonServiceRegistration reg : ret) {
+                try {
+                    reg.close();
+                } catch (Exception suppressed) {
+                    e.addSuppressed(suppressed);
+                }
+            }
+            throw e;
+        }
+        return ret;
+    }
 }
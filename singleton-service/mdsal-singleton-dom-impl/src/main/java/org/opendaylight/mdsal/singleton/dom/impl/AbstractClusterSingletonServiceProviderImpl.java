@@ -15,16 +15,22 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
 import com.google.common.base.Verify;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.MoreExecutors;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import javax.annotation.CheckForNull;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import org.opendaylight.mdsal.eos.common.api.CandidateAlreadyRegisteredException;
 import org.opendaylight.mdsal.eos.common.api.GenericEntity;
 import org.opendaylight.mdsal.eos.common.api.GenericEntityOwnershipChange;
@@ -44,6 +50,12 @@ import org.slf4j.LoggerFactory;
  * for providing OwnershipChange for all registered {@link ClusterSingletonServiceGroup} entity
  * candidate.
  *
+ * <p>
+ * Services are started and stopped on the thread delivering ownership changes, unless a service executor is provided.
+ * In that case each service group starts and stops its services on that executor, allowing multiple groups to do
+ * so concurrently. The executor should be bounded, so that a node acquiring a large number of groups at once does not
+ * spawn an unbounded number of threads.
+ *
  * @param <P> the instance identifier path type
  * @param <E> the GenericEntity type
  * @param <C> the GenericEntityOwnershipChange type
@@ -66,6 +78,7 @@ public abstract class AbstractClusterSingletonServiceProviderImpl<P extends Path
     static final String CLOSE_SERVICE_ENTITY_TYPE = "org.opendaylight.mdsal.AsyncServiceCloseEntityType";
 
     private final S entityOwnershipService;
+    private final @Nullable Executor serviceExecutor;
     private final Map<String, ClusterSingletonServiceGroup<P, E, C>> serviceGroupMap = new ConcurrentHashMap<>();
 
     /* EOS Entity Listeners Registration */
@@ -79,6 +92,19 @@ public abstract class AbstractClusterSingletonServiceProviderImpl<P extends Path
      */
     protected AbstractClusterSingletonServiceProviderImpl(@Nonnull final S entityOwnershipService) {
         this.entityOwnershipService = Preconditions.checkNotNull(entityOwnershipService);
+        this.serviceExecutor = null;
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @param entityOwnershipService relevant EOS
+     * @param serviceExecutor executor on which services are started and stopped
+     */
+    protected AbstractClusterSingletonServiceProviderImpl(@Nonnull final S entityOwnershipService,
+            @Nonnull final Executor serviceExecutor) {
+        this.entityOwnershipService = Preconditions.checkNotNull(entityOwnershipService);
+        this.serviceExecutor = Preconditions.checkNotNull(serviceExecutor);
     }
 
     /**
@@ -95,26 +121,99 @@ public abstract class AbstractClusterSingletonServiceProviderImpl<P extends Path
             @CheckForNull final ClusterSingletonService service) {
         LOG.debug("Call registrationService {} method for ClusterSingletonService Provider {}", service, this);
 
+        final String serviceIdentifier = serviceIdentifier(service);
+        final ClusterSingletonServiceGroup<P, E, C> existing = serviceGroupMap.get(serviceIdentifier);
+        final ClusterSingletonServiceGroup<P, E, C> serviceGroup = existing != null ? existing
+                : initializeNewGroup(serviceIdentifier, new ArrayList<>(1));
+
+        serviceGroup.registerService(service);
+        return createRegistration(serviceIdentifier, service);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * This implementation registers all services under a single lock acquisition. Services belonging to a group which
+     * does not exist yet are used to seed it, so that the group is initialized only once and, should the local node
+     * become its owner, starts all of them at the same time.
+     */
+    @Override
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    public final synchronized List<ClusterSingletonServiceRegistration> registerClusterSingletonServices(
+            final Collection<? extends ClusterSingletonService> services) {
+        LOG.debug("Call registrationService {} method for ClusterSingletonService Provider {}", services, this);
+
+        final Map<String, List<ClusterSingletonService>> byGroup = new LinkedHashMap<>();
+        for (ClusterSingletonService service : services) {
+            byGroup.computeIfAbsent(serviceIdentifier(service), key -> new ArrayList<>(1)).add(service);
+        }
+
+        final List<ClusterSingletonService> registered = new ArrayList<>(services.size());
+        try {
+            for (Entry<String, List<ClusterSingletonService>> entry : byGroup.entrySet()) {
+                final String serviceIdentifier = entry.getKey();
+                final ClusterSingletonServiceGroup<P, E, C> existing = serviceGroupMap.get(serviceIdentifier);
+                if (existing == null) {
+                    initializeNewGroup(serviceIdentifier, new ArrayList<>(entry.getValue()));
+                    registered.addAll(entry.getValue());
+                } else {
+                    for (ClusterSingletonService service : entry.getValue()) {
+                        existing.registerService(service);
+                        registered.add(service);
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            LOG.warn("Failed to register services {}, unregistering {}", services, registered, e);
+            for (ClusterSingletonService service : registered) {
+                removeRegistration(service.getIdentifier().getValue(), service);
+            }
+            throw e;
+        }
+
+        final List<ClusterSingletonServiceRegistration> ret = new ArrayList<>(services.size());
+        for (ClusterSingletonService service : services) {
+            ret.add(createRegistration(service.getIdentifier().getValue(), service));
+        }
+        return ret;
+    }
+
+    /**
+     * Return a snapshot of timing statistics of all currently-registered service groups.
+     *
+     * @return Service group statistics, keyed by service group identifier
+     */
+    public final Map<String, ServiceGroupStatistics> getServiceGroupStatistics() {
+        final ImmutableMap.Builder<String, ServiceGroupStatistics> builder = ImmutableMap.builder();
+        for (ClusterSingletonServiceGroup<P, E, C> group : serviceGroupMap.values()) {
+            builder.put(group.getIdentifier(), group.getStatistics());
+        }
+        return builder.build();
+    }
+
+    private static String serviceIdentifier(final ClusterSingletonService service) {
         final String serviceIdentifier = service.getIdentifier().getValue();
         Preconditions.checkArgument(!Strings.isNullOrEmpty(serviceIdentifier),
                 "ClusterSingletonService identifier may not be null nor empty");
+        return serviceIdentifier;
+    }
 
-        final ClusterSingletonServiceGroup<P, E, C> serviceGroup;
-        ClusterSingletonServiceGroup<P, E, C> existing = serviceGroupMap.get(serviceIdentifier);
-        if (existing == null) {
-            serviceGroup = createGroup(serviceIdentifier, new ArrayList<>(1));
-            serviceGroupMap.put(serviceIdentifier, serviceGroup);
+    private ClusterSingletonServiceGroup<P, E, C> initializeNewGroup(final String serviceIdentifier,
+            final List<ClusterSingletonService> services) {
+        final ClusterSingletonServiceGroup<P, E, C> serviceGroup = createGroup(serviceIdentifier, services);
+        serviceGroupMap.put(serviceIdentifier, serviceGroup);
 
-            try {
-                initializeOrRemoveGroup(serviceGroup);
-            } catch (CandidateAlreadyRegisteredException e) {
-                throw new IllegalArgumentException("Service group already registered", e);
-            }
-        } else {
-            serviceGroup = existing;
+        try {
+            initializeOrRemoveGroup(serviceGroup);
+        } catch (CandidateAlreadyRegisteredException e) {
+            throw new IllegalArgumentException("Service group already registered", e);
         }
+        return serviceGroup;
+    }
 
-        serviceGroup.registerService(service);
+    private ClusterSingletonServiceRegistration createRegistration(final String serviceIdentifier,
+            final ClusterSingletonService service) {
         return new AbstractClusterSingletonServiceRegistration(service) {
             @Override
             protected void removeRegistration() {
@@ -129,7 +228,7 @@ public abstract class AbstractClusterSingletonServiceProviderImpl<P extends Path
             final List<ClusterSingletonService> services) {
         return new ClusterSingletonServiceGroupImpl<>(serviceIdentifier, entityOwnershipService,
                 createEntity(SERVICE_ENTITY_TYPE, serviceIdentifier),
-                createEntity(CLOSE_SERVICE_ENTITY_TYPE, serviceIdentifier), services);
+                createEntity(CLOSE_SERVICE_ENTITY_TYPE, serviceIdentifier), services, serviceExecutor);
     }
 
     private void initializeOrRemoveGroup(final ClusterSingletonServiceGroup<P, E, C> group)
@@ -76,5 +76,12 @@ abstract class ClusterSingletonServiceGroup<P extends Path<P>, E extends Generic
      * @return {@link ListenableFuture} in list for all Future from closing {@link ClusterSingletonService}
      */
     abstract ListenableFuture<?> closeClusterSingletonGroup();
+
+    /**
+     * Return a snapshot of this group's timing statistics.
+     *
+     * @return Service group statistics
+     */
+    abstract ServiceGroupStatistics getStatistics();
 }
 
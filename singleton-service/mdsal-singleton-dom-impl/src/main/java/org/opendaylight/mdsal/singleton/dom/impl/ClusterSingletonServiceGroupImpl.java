@@ -12,6 +12,7 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.MoreObjects;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Verify;
+import com.google.common.collect.ImmutableList;
 import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
@@ -19,9 +20,12 @@ import com.google.common.util.concurrent.MoreExecutors;
 import com.google.common.util.concurrent.SettableFuture;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReentrantLock;
 import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.GuardedBy;
 import javax.annotation.concurrent.ThreadSafe;
 import org.opendaylight.mdsal.eos.common.api.CandidateAlreadyRegisteredException;
@@ -52,6 +56,12 @@ import org.slf4j.LoggerFactory;
  * eventually releasing the cleanup entity. The new owner registers for the cleanup entity -- but will not see it
  * granted until the old owner finishes the cleanup.
  *
+ * <p>
+ * If a service executor is provided, {@link ClusterSingletonService#instantiateServiceInstance()} and
+ * {@link ClusterSingletonService#closeServiceInstance()} are invoked on it rather than on the thread delivering
+ * the ownership change, so that multiple groups can start and stop their services concurrently. Startup is re-checked
+ * once the executor gets to it, hence services are not started if ownership was lost in the meantime.
+ *
  * @param <P> the instance identifier path type
  * @param <E> the GenericEntity type
  * @param <C> the GenericEntityOwnershipChange type
@@ -108,6 +118,7 @@ final class ClusterSingletonServiceGroupImpl<P extends Path<P>, E extends Generi
 
     private final S entityOwnershipService;
     private final String identifier;
+    private final @Nullable Executor serviceExecutor;
 
     /* Entity instances */
     private final E serviceEntity;
@@ -179,6 +190,27 @@ final class ClusterSingletonServiceGroupImpl<P extends Path<P>, E extends Generi
     @GuardedBy("lock")
     private ServiceState localServicesState = ServiceState.STOPPED;
 
+    /**
+     * Indicator of a pending service startup task on {@link #serviceExecutor}.
+     */
+    @GuardedBy("lock")
+    private boolean startScheduled;
+
+    /**
+     * Timestamps of the start of an ownership acquisition and of a service startup. These are non-zero only while
+     * the corresponding interval is being measured.
+     */
+    @GuardedBy("lock")
+    private long ownershipRequested;
+    @GuardedBy("lock")
+    private long startRequested;
+
+    /**
+     * Last observed intervals, in nanoseconds, exposed via {@link #getStatistics()}.
+     */
+    private volatile long timeToOwnership = -1;
+    private volatile long timeToServiceStart = -1;
+
     /**
      * Class constructor. Note: last argument is reused as-is.
      *
@@ -186,20 +218,28 @@ final class ClusterSingletonServiceGroupImpl<P extends Path<P>, E extends Generi
      * @param mainEntity as Entity instance
      * @param closeEntity as Entity instance
      * @param entityOwnershipService GenericEntityOwnershipService instance
-     * @param parent parent service
      * @param services Services list
+     * @param serviceExecutor Executor on which to start and stop services, null if they should be started and stopped
+     *                        on the thread reporting the ownership change
      */
     ClusterSingletonServiceGroupImpl(final String identifier, final S entityOwnershipService, final E mainEntity,
-            final E closeEntity, final List<ClusterSingletonService> services) {
+            final E closeEntity, final List<ClusterSingletonService> services,
+            final @Nullable Executor serviceExecutor) {
         Preconditions.checkArgument(!identifier.isEmpty(), "Identifier may not be empty");
         this.identifier = identifier;
         this.entityOwnershipService = Preconditions.checkNotNull(entityOwnershipService);
         this.serviceEntity = Preconditions.checkNotNull(mainEntity);
         this.cleanupEntity = Preconditions.checkNotNull(closeEntity);
         this.serviceGroup = Preconditions.checkNotNull(services);
+        this.serviceExecutor = serviceExecutor;
         LOG.debug("Instantiated new service group for {}", identifier);
     }
 
+    ClusterSingletonServiceGroupImpl(final String identifier, final S entityOwnershipService, final E mainEntity,
+            final E closeEntity, final List<ClusterSingletonService> services) {
+        this(identifier, entityOwnershipService, mainEntity, closeEntity, services, null);
+    }
+
     @VisibleForTesting
     ClusterSingletonServiceGroupImpl(final String identifier, final E mainEntity,
             final E closeEntity, final S entityOwnershipService) {
@@ -211,6 +251,11 @@ final class ClusterSingletonServiceGroupImpl<P extends Path<P>, E extends Generi
         return identifier;
     }
 
+    @Override
+    ServiceGroupStatistics getStatistics() {
+        return new ServiceGroupStatistics(identifier, timeToOwnership, timeToServiceStart);
+    }
+
     @Override
     ListenableFuture<?> closeClusterSingletonGroup() {
         // Assert our future first
@@ -498,12 +543,17 @@ final class ClusterSingletonServiceGroupImpl<P extends Path<P>, E extends Generi
                 }
 
                 cleanupEntityState = EntityState.OWNED;
+                if (ownershipRequested != 0) {
+                    timeToOwnership = System.nanoTime() - ownershipRequested;
+                    ownershipRequested = 0;
+                }
+
                 switch (localServicesState) {
                     case STARTED:
                         LOG.debug("Service group {} already has local services running", identifier);
                         break;
                     case STOPPED:
-                        startServices();
+                        requestStartServices();
                         break;
                     case STOPPING:
                         LOG.debug("Service group {} has local services stopping, postponing startup", identifier);
@@ -619,6 +669,7 @@ final class ClusterSingletonServiceGroupImpl<P extends Path<P>, E extends Generi
         }
 
         LOG.debug("Service group {} registering cleanup entity", identifier);
+        ownershipRequested = System.nanoTime();
 
         startCapture();
         try {
@@ -631,9 +682,55 @@ final class ClusterSingletonServiceGroupImpl<P extends Path<P>, E extends Generi
         endCapture().forEach(this::lockedOwnershipChanged);
     }
 
+    /*
+     * Help method to start services, either immediately or on the service executor.
+     */
+    @GuardedBy("lock")
+    private void requestStartServices() {
+        if (startRequested == 0) {
+            startRequested = System.nanoTime();
+        }
+        if (serviceExecutor == null) {
+            startServices();
+            return;
+        }
+        if (startScheduled) {
+            LOG.debug("Service group {} already has service startup scheduled", identifier);
+            return;
+        }
+
+        startScheduled = true;
+        try {
+            serviceExecutor.execute(this::executeStartServices);
+        } catch (RejectedExecutionException e) {
+            LOG.warn("Service group {} failed to schedule service startup, starting services inline", identifier, e);
+            startScheduled = false;
+            startServices();
+        }
+    }
+
+    private void executeStartServices() {
+        lock.lock();
+        try {
+            startScheduled = false;
+
+            // Ownership may have changed while we were waiting for the executor, re-validate it
+            if (localServicesState == ServiceState.STOPPED && cleanupEntityReg != null
+                    && cleanupEntityState == EntityState.OWNED) {
+                startServices();
+            } else {
+                LOG.debug("Service group {} no longer needs to start services", identifier);
+            }
+        } finally {
+            lock.unlock();
+            finishCloseIfNeeded();
+        }
+    }
+
     /*
      * Help method calls instantiateServiceInstance method for create single cluster-wide service instance.
      */
+    @GuardedBy("lock")
     @SuppressWarnings("checkstyle:IllegalCatch")
     private void startServices() {
         if (isClosed()) {
@@ -652,33 +749,37 @@ final class ClusterSingletonServiceGroupImpl<P extends Path<P>, E extends Generi
         });
 
         localServicesState = ServiceState.STARTED;
+        if (startRequested != 0) {
+            timeToServiceStart = System.nanoTime() - startRequested;
+            startRequested = 0;
+        }
         LOG.debug("Service group {} services started", identifier);
     }
 
-    @SuppressWarnings("checkstyle:IllegalCatch")
     boolean stopServices() {
         switch (localServicesState) {
             case STARTED:
                 localServicesState = ServiceState.STOPPING;
 
-                final List<ListenableFuture<?>> serviceCloseFutureList = new ArrayList<>(serviceGroup.size());
-                for (final ClusterSingletonService service : serviceGroup) {
-                    final ListenableFuture<?> future;
-
+                final List<ClusterSingletonService> services = ImmutableList.copyOf(serviceGroup);
+                final ListenableFuture<List<Object>> servicesStopped;
+                if (serviceExecutor == null) {
+                    servicesStopped = closeServices(services);
+                } else {
+                    final SettableFuture<List<Object>> future = SettableFuture.create();
                     try {
-                        future = service.closeServiceInstance();
-                    } catch (Exception e) {
-                        LOG.warn("Service group {} service {} failed to stop, attempting to continue", identifier,
-                            service, e);
-                        continue;
+                        serviceExecutor.execute(() -> future.setFuture(closeServices(services)));
+                    } catch (RejectedExecutionException e) {
+                        LOG.warn("Service group {} failed to schedule service shutdown, stopping services inline",
+                            identifier, e);
+                        future.setFuture(closeServices(services));
                     }
-
-                    serviceCloseFutureList.add(future);
+                    servicesStopped = future;
                 }
 
                 LOG.debug("Service group {} initiated service shutdown", identifier);
 
-                Futures.addCallback(Futures.allAsList(serviceCloseFutureList), new FutureCallback<List<?>>() {
+                Futures.addCallback(servicesStopped, new FutureCallback<List<?>>() {
                     @Override
                     public void onFailure(final Throwable cause) {
                         LOG.warn("Service group {} service stopping reported error", identifier, cause);
@@ -703,6 +804,26 @@ final class ClusterSingletonServiceGroupImpl<P extends Path<P>, E extends Generi
         }
     }
 
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private ListenableFuture<List<Object>> closeServices(final List<ClusterSingletonService> services) {
+        final List<ListenableFuture<?>> serviceCloseFutureList = new ArrayList<>(services.size());
+        for (final ClusterSingletonService service : services) {
+            final ListenableFuture<?> future;
+
+            try {
+                future = service.closeServiceInstance();
+            } catch (Exception e) {
+                LOG.warn("Service group {} service {} failed to stop, attempting to continue", identifier,
+                    service, e);
+                continue;
+            }
+
+            serviceCloseFutureList.add(future);
+        }
+
+        return Futures.allAsList(serviceCloseFutureList);
+    }
+
     void onServicesStopped() {
         LOG.debug("Service group {} finished stopping services", identifier);
         lock.lock();
@@ -744,7 +865,7 @@ final class ClusterSingletonServiceGroupImpl<P extends Path<P>, E extends Generi
             switch (cleanupEntityState) {
                 case OWNED:
                     // We have finished stopping services, but we own cleanup, e.g. we should start them again.
-                    startServices();
+                    requestStartServices();
                     return;
                 case UNOWNED:
                 case OWNED_JEOPARDY:
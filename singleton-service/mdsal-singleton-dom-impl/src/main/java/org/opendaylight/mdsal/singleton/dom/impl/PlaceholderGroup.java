@@ -80,6 +80,12 @@ final class PlaceholderGroup<P extends Path<P>, E extends GenericEntity<P>,
         return local == null ? closeFuture : local.closeClusterSingletonGroup();
     }
 
+    @Override
+    ServiceGroupStatistics getStatistics() {
+        final ClusterSingletonServiceGroup<P, E, C> local = successor;
+        return (local == null ? previous : local).getStatistics();
+    }
+
     // Note: this is a leaked structure, the caller can reuse it at will, but has to regard
     List<ClusterSingletonService> getServices() {
         verifyNoSuccessor();
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2018 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.singleton.dom.impl;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.yangtools.concepts.Identifiable;
+
+/**
+ * Snapshot of timing statistics of a single service group, as observed by the last time this node acquired the
+ * group. Two intervals are tracked:
+ * - time to ownership, measured from the moment the local node was granted the service entity until it was granted
+ *   the cleanup entity, which includes waiting for the previous owner to finish its cleanup
+ * - time to service start, measured from the moment the cleanup entity was granted until all services in the group
+ *   have been instantiated, which includes any queueing on the service executor
+ *
+ * <p>
+ * Intervals which have not been observed yet are reported as -1.
+ */
+public final class ServiceGroupStatistics implements Identifiable<String> {
+    private final String identifier;
+    private final long timeToOwnership;
+    private final long timeToServiceStart;
+
+    ServiceGroupStatistics(final String identifier, final long timeToOwnership, final long timeToServiceStart) {
+        this.identifier = Preconditions.checkNotNull(identifier);
+        this.timeToOwnership = timeToOwnership;
+        this.timeToServiceStart = timeToServiceStart;
+    }
+
+    @Override
+    public String getIdentifier() {
+        return identifier;
+    }
+
+    /**
+     * Return the time it took the local node to acquire full ownership of the group.
+     *
+     * @param unit Requested time unit
+     * @return Time to ownership, or -1 if the local node has not acquired ownership yet
+     */
+    public long getTimeToOwnership(final TimeUnit unit) {
+        return convert(timeToOwnership, unit);
+    }
+
+    /**
+     * Return the time it took the local node to start services once it acquired full ownership of the group.
+     *
+     * @param unit Requested time unit
+     * @return Time to service start, or -1 if the local node has not started services yet
+     */
+    public long getTimeToServiceStart(final TimeUnit unit) {
+        return convert(timeToServiceStart, unit);
+    }
+
+    private static long convert(final long nanos, final TimeUnit unit) {
+        return nanos < 0 ? -1 : unit.convert(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("identifier", identifier).add("timeToOwnership", timeToOwnership)
+                .add("timeToServiceStart", timeToServiceStart).toString();
+    }
+}
@@ -8,6 +8,7 @@
 
 package org.opendaylight.mdsal.singleton.dom.impl;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
@@ -21,7 +22,11 @@ import static org.opendaylight.mdsal.singleton.dom.impl.AbstractClusterSingleton
 
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Queue;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
@@ -489,6 +494,67 @@ public class ClusterSingletonServiceGroupImplTest {
         assertNull(future.get());
     }
 
+    /**
+     * Test services are started on the service executor and timing statistics are recorded.
+     *
+     * @throws CandidateAlreadyRegisteredException - unexpected exception
+     */
+    @Test
+    public void executorStartServicesTest() throws CandidateAlreadyRegisteredException {
+        final Queue<Runnable> tasks = new ArrayDeque<>();
+        singletonServiceGroup = new ClusterSingletonServiceGroupImpl<>(SERVICE_IDENTIFIER, mockEosService, MAIN_ENTITY,
+            CLOSE_ENTITY, new ArrayList<>(1), tasks::add);
+        assertEquals(-1, singletonServiceGroup.getStatistics().getTimeToOwnership(TimeUnit.NANOSECONDS));
+        assertEquals(-1, singletonServiceGroup.getStatistics().getTimeToServiceStart(TimeUnit.NANOSECONDS));
+
+        initialize();
+        singletonServiceGroup.registerService(mockClusterSingletonService);
+        singletonServiceGroup.ownershipChanged(getEntityToMaster());
+        singletonServiceGroup.ownershipChanged(getDoubleEntityToMaster());
+        verify(mockClusterSingletonService, never()).instantiateServiceInstance();
+        assertTrue(singletonServiceGroup.getStatistics().getTimeToOwnership(TimeUnit.NANOSECONDS) >= 0);
+        assertEquals(-1, singletonServiceGroup.getStatistics().getTimeToServiceStart(TimeUnit.NANOSECONDS));
+        assertEquals(1, tasks.size());
+
+        tasks.remove().run();
+        verify(mockClusterSingletonService).instantiateServiceInstance();
+        assertTrue(singletonServiceGroup.getStatistics().getTimeToServiceStart(TimeUnit.NANOSECONDS) >= 0);
+
+        singletonServiceGroup.ownershipChanged(getEntityToSlave());
+        verify(mockClusterSingletonService, never()).closeServiceInstance();
+        assertEquals(1, tasks.size());
+
+        tasks.remove().run();
+        verify(mockClusterSingletonService).closeServiceInstance();
+        verify(mockCloseEntityCandReg).close();
+    }
+
+    /**
+     * Test services scheduled to start on the service executor are not started if ownership is lost before
+     * the executor gets to them.
+     *
+     * @throws CandidateAlreadyRegisteredException - unexpected exception
+     */
+    @Test
+    public void executorStartServicesLostTest() throws CandidateAlreadyRegisteredException {
+        final Queue<Runnable> tasks = new ArrayDeque<>();
+        singletonServiceGroup = new ClusterSingletonServiceGroupImpl<>(SERVICE_IDENTIFIER, mockEosService, MAIN_ENTITY,
+            CLOSE_ENTITY, new ArrayList<>(1), tasks::add);
+
+        initialize();
+        singletonServiceGroup.registerService(mockClusterSingletonService);
+        singletonServiceGroup.ownershipChanged(getEntityToMaster());
+        singletonServiceGroup.ownershipChanged(getDoubleEntityToMaster());
+        singletonServiceGroup.ownershipChanged(getEntityToSlave());
+        verify(mockCloseEntityCandReg).close();
+        singletonServiceGroup.ownershipChanged(getDoubleEntityToSlave());
+        assertEquals(1, tasks.size());
+
+        tasks.remove().run();
+        verify(mockClusterSingletonService, never()).instantiateServiceInstance();
+        verify(mockClusterSingletonService, never()).closeServiceInstance();
+    }
+
     private void initialize() throws CandidateAlreadyRegisteredException {
         singletonServiceGroup.initialize();
         verify(mockEosService).registerCandidate(MAIN_ENTITY);
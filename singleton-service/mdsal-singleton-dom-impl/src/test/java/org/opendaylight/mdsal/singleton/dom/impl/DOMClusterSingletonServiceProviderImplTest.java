@@ -10,11 +10,15 @@ package org.opendaylight.mdsal.singleton.dom.impl;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import com.google.common.collect.ImmutableList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 import org.junit.Before;
 import org.junit.Test;
 import org.opendaylight.mdsal.eos.common.api.CandidateAlreadyRegisteredException;
@@ -65,6 +69,37 @@ public class DOMClusterSingletonServiceProviderImplTest extends AbstractDOMClust
         verify(mockDoubleEntityCandReg).close();
     }
 
+    /**
+     * Test GoldPath for takeLeadership of services registered in bulk.
+     *
+     * @throws Exception if the condition does not meet
+     */
+    @Test
+    public void bulkRegistrationClusterSingletonServiceTest() throws Exception {
+        final List<ClusterSingletonServiceRegistration> regs = clusterSingletonServiceProvider
+                .registerClusterSingletonServices(ImmutableList.of(clusterSingletonService, clusterSingletonService2));
+        assertEquals(2, regs.size());
+        verify(mockEos).registerCandidate(ENTITY);
+        clusterSingletonServiceProvider.ownershipChanged(getEntityToMaster());
+        verify(mockEos).registerCandidate(DOUBLE_ENTITY);
+        clusterSingletonServiceProvider.ownershipChanged(getDoubleEntityToMaster());
+        assertEquals(TestClusterSingletonServiceState.STARTED, clusterSingletonService.getServiceState());
+        assertEquals(TestClusterSingletonServiceState.STARTED, clusterSingletonService2.getServiceState());
+
+        final ServiceGroupStatistics stats = clusterSingletonServiceProvider.getServiceGroupStatistics()
+                .get(SERVICE_NAME);
+        assertNotNull(stats);
+        assertTrue(stats.getTimeToOwnership(TimeUnit.NANOSECONDS) >= 0);
+        assertTrue(stats.getTimeToServiceStart(TimeUnit.NANOSECONDS) >= 0);
+
+        regs.get(0).close();
+        assertEquals(TestClusterSingletonServiceState.DESTROYED, clusterSingletonService.getServiceState());
+        assertEquals(TestClusterSingletonServiceState.STARTED, clusterSingletonService2.getServiceState());
+        verify(mockEntityCandReg, never()).close();
+        regs.get(1).close();
+        verify(mockEntityCandReg).close();
+    }
+
     /**
      * Test checks unexpected change for MASTER-TO-SLAVE double Candidate role change.
      *